@@ -0,0 +1,116 @@
+package org.folio.jwt.openid;
+
+import io.smallrye.jwt.auth.principal.DefaultJWTCallerPrincipal;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.DefaultJWTTokenParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.JWTCallerPrincipal;
+import io.smallrye.jwt.auth.principal.JWTCallerPrincipalFactory;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import org.jose4j.keys.resolvers.VerificationKeyResolver;
+import org.jose4j.lang.UnresolvableKeyException;
+
+/**
+ * JWT parser bound to a single issuer.
+ *
+ * <p>{@link DefaultJWTParser} created without a caller principal factory falls back to the global
+ * {@link JWTCallerPrincipalFactory#instance()}, which keeps a single verification key resolver for all issuers. This
+ * parser owns its token parser instead, so every issuer has its own key resolver and JWKS cache, and the keys can be
+ * loaded ahead of the first request with {@link #loadKeys()}. The optional {@link JwksLoadListener} is notified when
+ * the keys are loaded.</p>
+ */
+final class IssuerJwtParser {
+
+  private final JWTAuthContextInfo authContextInfo;
+  private final KeyLoadingTokenParser tokenParser;
+  private final JWTParser jwtParser;
+
+  IssuerJwtParser(JWTAuthContextInfo authContextInfo, JwksLoadListener jwksLoadListener) {
+    this.authContextInfo = authContextInfo;
+    this.tokenParser = new KeyLoadingTokenParser(authContextInfo.getIssuedBy(), jwksLoadListener);
+    this.jwtParser = new DefaultJWTParser(authContextInfo, new IssuerCallerPrincipalFactory(tokenParser));
+  }
+
+  /**
+   * Provides JWT parser for the issuer.
+   *
+   * @return {@link JWTParser} object
+   */
+  JWTParser getJwtParser() {
+    return jwtParser;
+  }
+
+  /**
+   * Creates verification key resolver, fetching JWKS from the issuer, if it is not created yet.
+   *
+   * @throws UnresolvableKeyException - if JWKS cannot be loaded
+   */
+  void loadKeys() throws UnresolvableKeyException {
+    tokenParser.loadKeys(authContextInfo);
+  }
+
+  private static final class KeyLoadingTokenParser extends DefaultJWTTokenParser {
+
+    private final String issuer;
+    private final JwksLoadListener jwksLoadListener;
+    private volatile boolean keysLoaded;
+
+    KeyLoadingTokenParser(String issuer, JwksLoadListener jwksLoadListener) {
+      this.issuer = issuer;
+      this.jwksLoadListener = jwksLoadListener;
+    }
+
+    void loadKeys(JWTAuthContextInfo authContextInfo) throws UnresolvableKeyException {
+      getVerificationKeyResolver(authContextInfo);
+    }
+
+    /**
+     * Notifies the listener when the key resolver is created, which loads JWKS, the resolver is cached by the
+     * superclass afterwards.
+     */
+    @Override
+    protected VerificationKeyResolver getVerificationKeyResolver(JWTAuthContextInfo authContextInfo)
+      throws UnresolvableKeyException {
+      if (jwksLoadListener == null || keysLoaded) {
+        return super.getVerificationKeyResolver(authContextInfo);
+      }
+
+      synchronized (this) {
+        if (keysLoaded) {
+          return super.getVerificationKeyResolver(authContextInfo);
+        }
+
+        var startedAt = System.nanoTime();
+        try {
+          var keyResolver = super.getVerificationKeyResolver(authContextInfo);
+          keysLoaded = true;
+          jwksLoadListener.onJwksLoad(issuer, System.nanoTime() - startedAt, null);
+          return keyResolver;
+        } catch (UnresolvableKeyException | RuntimeException e) {
+          jwksLoadListener.onJwksLoad(issuer, System.nanoTime() - startedAt, e);
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Same as {@code DefaultJWTCallerPrincipalFactory}, but backed by the given token parser.
+   */
+  private static final class IssuerCallerPrincipalFactory extends JWTCallerPrincipalFactory {
+
+    private final DefaultJWTTokenParser tokenParser;
+
+    IssuerCallerPrincipalFactory(DefaultJWTTokenParser tokenParser) {
+      this.tokenParser = tokenParser;
+    }
+
+    @Override
+    public JWTCallerPrincipal parse(String token, JWTAuthContextInfo authContextInfo) throws ParseException {
+      var jwtContext = tokenParser.parse(token, authContextInfo);
+      var type = jwtContext.getJoseObjects().get(0).getHeader("typ");
+      return new DefaultJWTCallerPrincipal(type, jwtContext.getJwtClaims());
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package org.folio.jwt.openid;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Predicate;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Cache of verified json web tokens, used by {@link JsonWebTokenParser} to skip signature verification for tokens
+ * that are already verified.
+ *
+ * <p>Tokens are keyed by SHA-256 digest of the compact token string. An entry expires at the token's {@code exp}
+ * claim or after the configured maximum TTL, whichever comes first. Tokens without {@code exp} are not cached. Entries
+ * are invalidated together with per-issuer parsers of {@link OpenidJwtParserProvider}.</p>
+ */
+@Log4j2
+public class JsonWebTokenCache {
+
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JsonWebTokenCache::createSha256);
+
+  private final Cache<String, JsonWebToken> cache;
+  private final Duration maxTtl;
+  private final Clock clock;
+
+  /**
+   * Creates verified token cache.
+   *
+   * @param maxSize - maximum number of cached tokens
+   * @param maxTtl - maximum time to keep a token, nullable (token is kept until its expiration time)
+   */
+  public JsonWebTokenCache(long maxSize, Duration maxTtl) {
+    this(maxSize, maxTtl, Ticker.systemTicker(), Clock.systemUTC());
+  }
+
+  JsonWebTokenCache(long maxSize, Duration maxTtl, Ticker ticker, Clock clock) {
+    this.maxTtl = maxTtl;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfter(Expiry.writing((String key, JsonWebToken token) -> getTtl(token)))
+      .ticker(ticker)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Returns verified token.
+   *
+   * @param accessToken - compact json web token
+   * @return cached {@link JsonWebToken}, null if token is not cached or expired
+   */
+  public JsonWebToken get(String accessToken) {
+    return cache.getIfPresent(digest(accessToken));
+  }
+
+  /**
+   * Caches verified token, tokens without expiration time or already expired ones are ignored.
+   *
+   * @param accessToken - compact json web token
+   * @param verifiedToken - verified {@link JsonWebToken}
+   */
+  public void put(String accessToken, JsonWebToken verifiedToken) {
+    var ttl = getTtl(verifiedToken);
+    if (ttl.isNegative() || ttl.isZero()) {
+      return;
+    }
+
+    cache.put(digest(accessToken), verifiedToken);
+  }
+
+  /**
+   * Removes all cached tokens.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Removes cached tokens of the given issuer.
+   *
+   * @param issuer - token issuer
+   */
+  public void invalidate(String issuer) {
+    invalidateIf(issuer::equals);
+  }
+
+  /**
+   * Removes cached tokens which issuer matches the given predicate.
+   *
+   * @param issuerPredicate - token issuer predicate
+   */
+  public void invalidateIf(Predicate<String> issuerPredicate) {
+    log.debug("Invalidating verified json web tokens");
+    cache.asMap().values().removeIf(token -> issuerPredicate.test(token.getIssuer()));
+  }
+
+  /**
+   * Provides an approximate number of cached tokens.
+   *
+   * @return estimated cache size
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Provides cache statistics: hit, miss and eviction counters.
+   *
+   * @return {@link CacheStats} of the token cache
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private Duration getTtl(JsonWebToken token) {
+    var tokenTtl = Duration.ofSeconds(token.getExpirationTime()).minusMillis(clock.millis());
+    return maxTtl != null && maxTtl.compareTo(tokenTtl) < 0 ? maxTtl : tokenTtl;
+  }
+
+  private static String digest(String accessToken) {
+    var digest = SHA_256.get().digest(accessToken.getBytes(UTF_8));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+
+  private static MessageDigest createSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
+}
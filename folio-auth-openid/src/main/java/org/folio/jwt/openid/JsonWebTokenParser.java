@@ -1,24 +1,53 @@
 package org.folio.jwt.openid;
 
 import io.smallrye.jwt.auth.principal.ParseException;
-import java.util.Base64;
-import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.folio.jwt.openid.configuration.JwtParserConfiguration;
 import org.jose4j.lang.UnresolvableKeyException;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
-@RequiredArgsConstructor
 public class JsonWebTokenParser {
 
-  public static final String INVALID_SEGMENTS_JWT_ERROR_MSG = "Invalid amount of segments in JsonWebToken";
-  private static final String TOKEN_SEPARATOR = "\\.";
-  private static final String ISSUER_CLAIM = "iss";
+  public static final String INVALID_SEGMENTS_JWT_ERROR_MSG = TokenIssuerExtractor.INVALID_SEGMENTS_JWT_ERROR_MSG;
 
-  private final ObjectMapper objectMapper;
   private final JwtParserConfiguration properties;
   private final OpenidJwtParserProvider openidJwtParserProvider;
+  private final TokenIssuerExtractor issuerExtractor;
+  private final JsonWebTokenCache tokenCache;
+
+  /**
+   * Creates json web token parser without verified token cache.
+   *
+   * @param objectMapper - object mapper, used to read issuer from the token payload
+   * @param properties - json web token parser configuration
+   * @param openidJwtParserProvider - provider of per-issuer token parsers
+   */
+  public JsonWebTokenParser(ObjectMapper objectMapper, JwtParserConfiguration properties,
+    OpenidJwtParserProvider openidJwtParserProvider) {
+    this(objectMapper, properties, openidJwtParserProvider, null);
+  }
+
+  /**
+   * Creates json web token parser with optional verified token cache.
+   *
+   * <p>The cache is registered in the {@link OpenidJwtParserProvider}, so it is invalidated together with
+   * per-issuer token parsers.</p>
+   *
+   * @param objectMapper - object mapper, used to read issuer from the token payload
+   * @param properties - json web token parser configuration
+   * @param openidJwtParserProvider - provider of per-issuer token parsers
+   * @param tokenCache - verified token cache, nullable (verified tokens are not cached)
+   */
+  public JsonWebTokenParser(ObjectMapper objectMapper, JwtParserConfiguration properties,
+    OpenidJwtParserProvider openidJwtParserProvider, JsonWebTokenCache tokenCache) {
+    this.properties = properties;
+    this.openidJwtParserProvider = openidJwtParserProvider;
+    this.issuerExtractor = new TokenIssuerExtractor(objectMapper);
+    this.tokenCache = tokenCache;
+    if (tokenCache != null) {
+      openidJwtParserProvider.registerTokenCache(tokenCache);
+    }
+  }
 
   /**
    * Parses json web token string from request to {@link JsonWebToken} object.
@@ -28,6 +57,11 @@ public class JsonWebTokenParser {
    * @throws ParseException - if json web token cannot be parsed
    */
   public JsonWebToken parse(String accessToken) throws ParseException {
+    var cachedToken = tokenCache != null ? tokenCache.get(accessToken) : null;
+    if (cachedToken != null) {
+      return cachedToken;
+    }
+
     var accessTokenIssuer = getTokenIssuer(accessToken);
 
     var jwtParser = openidJwtParserProvider.getParser(accessTokenIssuer);
@@ -36,7 +70,11 @@ public class JsonWebTokenParser {
     }
 
     try {
-      return jwtParser.parse(accessToken);
+      var verifiedToken = jwtParser.parse(accessToken);
+      if (tokenCache != null) {
+        tokenCache.put(accessToken, verifiedToken);
+      }
+      return verifiedToken;
     } catch (ParseException parseException) {
       if (shouldInvalidateCache(parseException)) {
         openidJwtParserProvider.invalidateCache(accessTokenIssuer);
@@ -46,26 +84,8 @@ public class JsonWebTokenParser {
     }
   }
 
-  @SuppressWarnings("squid:S2129")
   private String getTokenIssuer(String authToken) throws ParseException {
-    var split = authToken.split(TOKEN_SEPARATOR);
-    if (split.length < 2 || split.length > 3) {
-      throw new ParseException(INVALID_SEGMENTS_JWT_ERROR_MSG);
-    }
-
-    JsonNode jsonWebTokenTree;
-    try {
-      var decodedToken = new String(Base64.getUrlDecoder().decode(split[1]));
-      jsonWebTokenTree = objectMapper.readTree(decodedToken);
-    } catch (Exception exception) {
-      throw new ParseException("Failed to decode json web token", exception);
-    }
-
-    if (!jsonWebTokenTree.has(ISSUER_CLAIM)) {
-      throw new ParseException("Issuer not found in the json web token");
-    }
-    var issuer = jsonWebTokenTree.path(ISSUER_CLAIM).asString();
-
+    var issuer = issuerExtractor.extractIssuer(authToken);
     if (properties.isValidateUri()) {
       validateTokenIssuerUri(issuer);
     }
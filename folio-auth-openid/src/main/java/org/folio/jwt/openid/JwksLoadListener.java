@@ -0,0 +1,21 @@
+package org.folio.jwt.openid;
+
+/**
+ * Listener of JWKS loads by per-issuer JWT parsers, e.g. to record load metrics.
+ *
+ * <p>It is called once per created parser, on the thread that loads the keys: on the first request for an issuer,
+ * on {@link OpenidJwtParserProvider#preload} or on a background refresh. A failed load is reported every time it is
+ * retried.</p>
+ */
+@FunctionalInterface
+public interface JwksLoadListener {
+
+  /**
+   * Handles completed JWKS load.
+   *
+   * @param issuer - token issuer
+   * @param durationNanos - load duration in nanoseconds
+   * @param error - load error, null if keys are loaded
+   */
+  void onJwksLoad(String issuer, long durationNanos, Throwable error);
+}
@@ -1,20 +1,42 @@
 package org.folio.jwt.openid;
 
-import io.smallrye.jwt.auth.principal.DefaultJWTParser;
 import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
 import io.smallrye.jwt.auth.principal.JWTParser;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Provides per-issuer JWT parsers.
+ *
+ * <p>A parser is created atomically on the first request for an issuer, so concurrent first requests share a single
+ * parser and a single JWKS fetch. Parsers can be preloaded on startup with {@link #preload(Collection)} and kept warm
+ * with {@link #startBackgroundRefresh(Duration)}, which rebuilds parsers with freshly fetched JWKS off the request
+ * path and swaps them in only after the keys are loaded.</p>
+ */
 @Log4j2
-public class OpenidJwtParserProvider {
+public class OpenidJwtParserProvider implements AutoCloseable {
 
-  private final Map<String, JWTParser> tokenParsers = new ConcurrentHashMap<>();
+  private final Map<String, IssuerJwtParser> tokenParsers = new ConcurrentHashMap<>();
+  private final List<JsonWebTokenCache> tokenCaches = new CopyOnWriteArrayList<>();
+  private final List<TenantInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
   private final int jwksRefreshInterval;
   private final int forcedJwksRefreshInterval;
   private final String jwksKeycloakBaseUrl;
+  private ScheduledExecutorService refreshExecutor;
+
+  /**
+   * Optional listener of JWKS loads, applied to parsers created after it is set.
+   */
+  @Setter private volatile JwksLoadListener jwksLoadListener;
 
   /**
    * Constructor with all parameters.
@@ -47,20 +69,85 @@ public class OpenidJwtParserProvider {
    * @return corresponding JWT Parser for the given issuer URI.
    */
   public JWTParser getParser(String issuerUri) {
-    var jwtTokenParserProvider = tokenParsers.get(issuerUri);
-    if (jwtTokenParserProvider != null) {
-      return jwtTokenParserProvider;
+    return tokenParsers.computeIfAbsent(issuerUri, this::createParser).getJwtParser();
+  }
+
+  /**
+   * Creates JWT parsers for the given issuers and loads their JWKS.
+   *
+   * <p>Failures are logged and the corresponding parser is evicted, so it is created again on the first request.</p>
+   *
+   * @param issuerUris - JWT token issuers
+   */
+  public void preload(Collection<String> issuerUris) {
+    for (var issuerUri : issuerUris) {
+      var jwtParser = tokenParsers.computeIfAbsent(issuerUri, this::createParser);
+      try {
+        jwtParser.loadKeys();
+        log.debug("JWT parser preloaded for issuer: {}", issuerUri);
+      } catch (Exception e) {
+        log.warn("Failed to preload JWT parser for issuer: {}", issuerUri, e);
+        tokenParsers.remove(issuerUri, jwtParser);
+      }
     }
+  }
 
+  /**
+   * Rebuilds all cached JWT parsers with freshly loaded JWKS.
+   *
+   * <p>A parser is replaced only if its keys are loaded successfully and it has not been invalidated meanwhile,
+   * otherwise the current parser is kept.</p>
+   */
+  public void refreshParsers() {
+    for (var entry : tokenParsers.entrySet()) {
+      var issuerUri = entry.getKey();
+      try {
+        var jwtParser = createParser(issuerUri);
+        jwtParser.loadKeys();
+        tokenParsers.replace(issuerUri, entry.getValue(), jwtParser);
+      } catch (Exception e) {
+        log.warn("Failed to refresh JWT parser for issuer: {}", issuerUri, e);
+      }
+    }
+  }
+
+  /**
+   * Starts periodic {@link #refreshParsers()} in a background thread.
+   *
+   * <p>The interval must be shorter than the JWKS refresh interval, so request threads never find an expired JWKS.</p>
+   *
+   * @param interval - refresh interval
+   */
+  public synchronized void startBackgroundRefresh(Duration interval) {
+    if (refreshExecutor != null) {
+      throw new IllegalStateException("Background JWKS refresh is already started");
+    }
+
+    refreshExecutor = Executors.newSingleThreadScheduledExecutor(OpenidJwtParserProvider::createRefreshThread);
+    var intervalMillis = interval.toMillis();
+    refreshExecutor.scheduleWithFixedDelay(this::refreshParsers, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    log.info("Background JWKS refresh started: interval = {}", interval);
+  }
+
+  /**
+   * Stops background JWKS refresh, if started.
+   */
+  @Override
+  public synchronized void close() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+      refreshExecutor = null;
+    }
+  }
+
+  private IssuerJwtParser createParser(String issuerUri) {
     var jwksUrl = buildJwksUrl(issuerUri);
     log.debug("Creating JWT parser for issuer: {}, JWKS URL: {}", issuerUri, jwksUrl);
 
     var jwtAuthContextInfo = new JWTAuthContextInfo(jwksUrl, issuerUri);
     jwtAuthContextInfo.setJwksRefreshInterval(jwksRefreshInterval);
     jwtAuthContextInfo.setForcedJwksRefreshInterval(forcedJwksRefreshInterval);
-    var jwtParser = new DefaultJWTParser(jwtAuthContextInfo);
-    tokenParsers.put(issuerUri, jwtParser);
-    return jwtParser;
+    return new IssuerJwtParser(jwtAuthContextInfo, jwksLoadListener);
   }
 
   /**
@@ -89,6 +176,8 @@ public class OpenidJwtParserProvider {
    */
   public void invalidateCache() {
     tokenParsers.clear();
+    tokenCaches.forEach(JsonWebTokenCache::invalidateAll);
+    invalidationListeners.forEach(listener -> listener.onInvalidate(tenant -> true));
   }
 
   /**
@@ -96,6 +185,7 @@ public class OpenidJwtParserProvider {
    */
   public void invalidateCache(String issuerUri) {
     tokenParsers.remove(issuerUri);
+    tokenCaches.forEach(tokenCache -> tokenCache.invalidate(issuerUri));
   }
 
   /**
@@ -106,13 +196,39 @@ public class OpenidJwtParserProvider {
   public void invalidateCache(Collection<String> tenants) {
     log.info("Invalidating outdated token parsers");
     if (tenants == null || tenants.isEmpty()) {
-      tokenParsers.clear();
+      invalidateCache();
       return;
     }
 
     tokenParsers.keySet().stream()
       .filter(issuer -> !tenants.contains(resolveTenant(issuer)))
       .forEach(tokenParsers::remove);
+    tokenCaches.forEach(tokenCache -> tokenCache.invalidateIf(issuer -> !tenants.contains(resolveTenant(issuer))));
+    invalidationListeners.forEach(listener -> listener.onInvalidate(tenant -> !tenants.contains(tenant)));
+  }
+
+  /**
+   * Registers verified token cache to be invalidated together with token parsers.
+   *
+   * @param tokenCache - verified token cache
+   */
+  public void registerTokenCache(JsonWebTokenCache tokenCache) {
+    tokenCaches.add(tokenCache);
+  }
+
+  /**
+   * Registers listener to be notified when caches of all or removed tenants are invalidated.
+   *
+   * @param listener - tenant invalidation listener
+   */
+  public void registerInvalidationListener(TenantInvalidationListener listener) {
+    invalidationListeners.add(listener);
+  }
+
+  private static Thread createRefreshThread(Runnable runnable) {
+    var thread = new Thread(runnable, "jwks-refresh");
+    thread.setDaemon(true);
+    return thread;
   }
 
   private static String resolveTenant(String issuer) {
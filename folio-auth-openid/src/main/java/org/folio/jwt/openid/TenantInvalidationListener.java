@@ -0,0 +1,21 @@
+package org.folio.jwt.openid;
+
+import java.util.function.Predicate;
+
+/**
+ * Listener of tenant cache invalidation, e.g. to drop authorization decisions cached for removed tenants.
+ *
+ * <p>It is called by {@link OpenidJwtParserProvider#invalidateCache()} and
+ * {@link OpenidJwtParserProvider#invalidateCache(java.util.Collection)}, but not by the invalidation of a single
+ * issuer after an unresolvable signing key, which is triggered by incoming tokens.</p>
+ */
+@FunctionalInterface
+public interface TenantInvalidationListener {
+
+  /**
+   * Handles invalidation of tenant caches.
+   *
+   * @param tenantFilter - matches tenants (realm names) whose cached entries must be removed
+   */
+  void onInvalidate(Predicate<String> tenantFilter);
+}
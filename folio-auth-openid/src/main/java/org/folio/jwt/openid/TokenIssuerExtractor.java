@@ -0,0 +1,167 @@
+package org.folio.jwt.openid;
+
+import io.smallrye.jwt.auth.principal.ParseException;
+import java.util.Arrays;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Extracts {@code iss} claim from a compact JSON web token without building intermediate strings or JSON trees.
+ *
+ * <p>Segment boundaries are located by index, only the payload segment is base64url-decoded into a per-thread
+ * reusable buffer, and the payload is read with a streaming parser that stops as soon as the issuer is found. Header
+ * and signature segments are never decoded.</p>
+ */
+final class TokenIssuerExtractor {
+
+  static final String INVALID_SEGMENTS_JWT_ERROR_MSG = "Invalid amount of segments in JsonWebToken";
+  static final String DECODE_ERROR_MSG = "Failed to decode json web token";
+  static final String ISSUER_NOT_FOUND_ERROR_MSG = "Issuer not found in the json web token";
+
+  private static final String ISSUER_CLAIM = "iss";
+  private static final int INITIAL_BUFFER_SIZE = 1024;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+  private static final int[] BASE64_URL_VALUES = createBase64UrlValues();
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+  private final ObjectMapper objectMapper;
+
+  TokenIssuerExtractor(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Extracts issuer from the json web token.
+   *
+   * @param token - compact json web token, with 2 or 3 segments
+   * @return issuer claim value
+   * @throws ParseException - if token is malformed or does not contain issuer
+   */
+  String extractIssuer(String token) throws ParseException {
+    var payloadStart = token.indexOf('.') + 1;
+    if (payloadStart == 0) {
+      throw new ParseException(INVALID_SEGMENTS_JWT_ERROR_MSG);
+    }
+
+    var payloadEnd = token.indexOf('.', payloadStart);
+    if (payloadEnd < 0) {
+      payloadEnd = token.length();
+    } else if (token.indexOf('.', payloadEnd + 1) >= 0) {
+      throw new ParseException(INVALID_SEGMENTS_JWT_ERROR_MSG);
+    }
+
+    var buffer = getBuffer(decodedLength(payloadEnd - payloadStart));
+    var length = decodeBase64Url(token, payloadStart, payloadEnd, buffer);
+    if (length < 0) {
+      throw new ParseException(DECODE_ERROR_MSG);
+    }
+
+    return readIssuer(buffer, length);
+  }
+
+  private String readIssuer(byte[] payload, int length) throws ParseException {
+    String issuer = null;
+    try (var parser = objectMapper.createParser(payload, 0, length)) {
+      var token = parser.nextToken();
+      if (token != JsonToken.START_OBJECT) {
+        drain(parser);
+        throw new ParseException(ISSUER_NOT_FOUND_ERROR_MSG);
+      }
+
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        var name = parser.currentName();
+        var value = parser.nextToken();
+        if (ISSUER_CLAIM.equals(name) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+          issuer = parser.getString();
+          break;
+        }
+        parser.skipChildren();
+      }
+    } catch (ParseException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new ParseException(DECODE_ERROR_MSG, e);
+    }
+
+    if (issuer == null) {
+      throw new ParseException(ISSUER_NOT_FOUND_ERROR_MSG);
+    }
+
+    return issuer;
+  }
+
+  /**
+   * Reads the rest of a non-object payload to report malformed JSON the same way as for an object payload.
+   */
+  private static void drain(JsonParser parser) {
+    parser.skipChildren();
+    while (parser.nextToken() != null) {
+      parser.skipChildren();
+    }
+  }
+
+  private static byte[] getBuffer(int size) {
+    var buffer = BUFFER.get();
+    if (buffer.length >= size) {
+      return buffer;
+    }
+
+    var newBuffer = new byte[Math.max(size, buffer.length * 2)];
+    if (newBuffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+      BUFFER.set(newBuffer);
+    }
+    return newBuffer;
+  }
+
+  private static int decodedLength(int encodedLength) {
+    return encodedLength / 4 * 3 + 2;
+  }
+
+  /**
+   * Decodes base64url value (padding is optional) from the given string range into the buffer.
+   *
+   * @return number of decoded bytes, -1 if value is not a valid base64url string
+   */
+  static int decodeBase64Url(String source, int start, int end, byte[] buffer) {
+    var dataEnd = end;
+    while (dataEnd > start && end - dataEnd < 2 && source.charAt(dataEnd - 1) == '=') {
+      dataEnd--;
+    }
+
+    var remainder = (dataEnd - start) % 4;
+    if (remainder == 1 || dataEnd != end && (end - start) % 4 != 0) {
+      return -1;
+    }
+
+    var position = 0;
+    var bits = 0;
+    var bitCount = 0;
+    for (var i = start; i < dataEnd; i++) {
+      var sourceChar = source.charAt(i);
+      var value = sourceChar < BASE64_URL_VALUES.length ? BASE64_URL_VALUES[sourceChar] : -1;
+      if (value < 0) {
+        return -1;
+      }
+
+      bits = bits << 6 | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        buffer[position++] = (byte) (bits >> bitCount);
+      }
+    }
+
+    return position;
+  }
+
+  private static int[] createBase64UrlValues() {
+    var values = new int[128];
+    Arrays.fill(values, -1);
+    var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (var i = 0; i < alphabet.length(); i++) {
+      values[alphabet.charAt(i)] = i;
+    }
+    return values;
+  }
+}
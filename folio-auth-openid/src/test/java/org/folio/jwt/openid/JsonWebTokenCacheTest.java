@@ -0,0 +1,110 @@
+package org.folio.jwt.openid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class JsonWebTokenCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String TOKEN = "header.payload.signature";
+  private static final String ISSUER = "https://keycloak:8080/realms/test";
+
+  private final AtomicLong nanos = new AtomicLong();
+  @Mock private JsonWebToken jsonWebToken;
+
+  @Test
+  void put_positive_expiresAtTokenExpiration() {
+    var tokenCache = tokenCache(null);
+    when(jsonWebToken.getExpirationTime()).thenReturn(NOW.plusSeconds(30).getEpochSecond());
+
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    advance(Duration.ofSeconds(29));
+    assertThat(tokenCache.get(TOKEN)).isSameAs(jsonWebToken);
+
+    advance(Duration.ofSeconds(1));
+    assertThat(tokenCache.get(TOKEN)).isNull();
+  }
+
+  @Test
+  void put_positive_expiresAfterMaxTtl() {
+    var tokenCache = tokenCache(Duration.ofSeconds(10));
+    when(jsonWebToken.getExpirationTime()).thenReturn(NOW.plusSeconds(30).getEpochSecond());
+
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    advance(Duration.ofSeconds(9));
+    assertThat(tokenCache.get(TOKEN)).isSameAs(jsonWebToken);
+
+    advance(Duration.ofSeconds(1));
+    assertThat(tokenCache.get(TOKEN)).isNull();
+  }
+
+  @Test
+  void put_negative_tokenWithoutExpiration() {
+    var tokenCache = tokenCache(Duration.ofSeconds(10));
+    when(jsonWebToken.getExpirationTime()).thenReturn(0L);
+
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    assertThat(tokenCache.get(TOKEN)).isNull();
+    assertThat(tokenCache.size()).isZero();
+  }
+
+  @Test
+  void get_negative_otherToken() {
+    var tokenCache = tokenCache(null);
+    when(jsonWebToken.getExpirationTime()).thenReturn(NOW.plusSeconds(30).getEpochSecond());
+
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    assertThat(tokenCache.get(TOKEN + "x")).isNull();
+  }
+
+  @Test
+  void invalidate_positive_byIssuer() {
+    var tokenCache = tokenCache(null);
+    when(jsonWebToken.getExpirationTime()).thenReturn(NOW.plusSeconds(30).getEpochSecond());
+    when(jsonWebToken.getIssuer()).thenReturn(ISSUER);
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    tokenCache.invalidate("https://keycloak:8080/realms/other");
+    assertThat(tokenCache.get(TOKEN)).isSameAs(jsonWebToken);
+
+    tokenCache.invalidate(ISSUER);
+    assertThat(tokenCache.get(TOKEN)).isNull();
+  }
+
+  @Test
+  void invalidateAll_positive() {
+    var tokenCache = tokenCache(null);
+    when(jsonWebToken.getExpirationTime()).thenReturn(NOW.plusSeconds(30).getEpochSecond());
+    tokenCache.put(TOKEN, jsonWebToken);
+
+    tokenCache.invalidateAll();
+
+    assertThat(tokenCache.get(TOKEN)).isNull();
+  }
+
+  private JsonWebTokenCache tokenCache(Duration maxTtl) {
+    return new JsonWebTokenCache(10, maxTtl, nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
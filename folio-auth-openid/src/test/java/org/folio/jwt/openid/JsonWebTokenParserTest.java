@@ -3,13 +3,17 @@ package org.folio.jwt.openid;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.test.TestUtils.OBJECT_MAPPER;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
+import java.time.Instant;
 import java.util.UUID;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.folio.jwt.openid.configuration.JwtParserConfiguration;
@@ -58,7 +62,48 @@ class JsonWebTokenParserTest {
     var result = jsonWebTokenParser.parse(jwt);
 
     assertThat(result).isEqualTo(jsonWebToken);
-    verify(objectMapper).readTree(anyString());
+    verify(objectMapper).createParser(any(byte[].class), eq(0), anyInt());
+  }
+
+  @Test
+  void parse_positive_verifiedTokenCache() throws Exception {
+    var jwt = TestJwtGenerator.generateJwtString(KEYCLOAK_URL, TENANT_NAME, KEYCLOAK_URL, USER_ID);
+    var tokenCache = new JsonWebTokenCache(10, null);
+    var parser = new JsonWebTokenParser(objectMapper, jwtParserConfiguration, openidJwtParserProvider, tokenCache);
+
+    when(openidJwtParserProvider.getParser(ISSUER_URL)).thenReturn(jwtParser);
+    when(jwtParserConfiguration.getIssuerRootUri()).thenReturn(KEYCLOAK_URL);
+    when(jwtParserConfiguration.isValidateUri()).thenReturn(true);
+    when(jwtParser.parse(jwt)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(60).getEpochSecond());
+
+    var firstResult = parser.parse(jwt);
+    var secondResult = parser.parse(jwt);
+
+    assertThat(firstResult).isEqualTo(jsonWebToken);
+    assertThat(secondResult).isEqualTo(jsonWebToken);
+    assertThat(tokenCache.stats().hitCount()).isEqualTo(1L);
+    verify(openidJwtParserProvider).registerTokenCache(tokenCache);
+    verify(jwtParser).parse(jwt);
+  }
+
+  @Test
+  void parse_negative_failedVerificationIsNotCached() throws Exception {
+    var jwt = TestJwtGenerator.generateJwtString(KEYCLOAK_URL, TENANT_NAME, KEYCLOAK_URL, USER_ID);
+    var tokenCache = new JsonWebTokenCache(10, null);
+    var parser = new JsonWebTokenParser(objectMapper, jwtParserConfiguration, openidJwtParserProvider, tokenCache);
+
+    when(openidJwtParserProvider.getParser(ISSUER_URL)).thenReturn(jwtParser);
+    when(jwtParserConfiguration.getIssuerRootUri()).thenReturn(KEYCLOAK_URL);
+    when(jwtParserConfiguration.isValidateUri()).thenReturn(true);
+    when(jwtParser.parse(jwt)).thenThrow(new ParseException("Token is expired"));
+
+    assertThatThrownBy(() -> parser.parse(jwt)).isInstanceOf(ParseException.class);
+    assertThatThrownBy(() -> parser.parse(jwt)).isInstanceOf(ParseException.class);
+
+    assertThat(tokenCache.size()).isZero();
+    verify(openidJwtParserProvider).registerTokenCache(tokenCache);
+    verify(jwtParser, times(2)).parse(jwt);
   }
 
   @Test
@@ -1,11 +1,30 @@
 package org.folio.jwt.openid;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.sun.net.httpserver.HttpServer;
 import io.smallrye.jwt.auth.principal.JWTParser;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.jwt.openid.utils.TestJwtGenerator;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -101,6 +120,52 @@ class OpenidJwtParserProviderTest {
     assertThat(cache).isEmpty();
   }
 
+  @Test
+  void invalidateCache_positive_registeredTokenCaches() {
+    var tokenCache = mock(JsonWebTokenCache.class);
+    openidJwtParserProvider.registerTokenCache(tokenCache);
+
+    openidJwtParserProvider.invalidateCache(ISSUER_URI);
+    verify(tokenCache).invalidate(ISSUER_URI);
+
+    openidJwtParserProvider.invalidateCache();
+    verify(tokenCache).invalidateAll();
+  }
+
+  @Test
+  void invalidateCache_positive_registeredTokenCacheByTenants() {
+    var tokenCache = new JsonWebTokenCache(10, null);
+    var token = mock(JsonWebToken.class);
+    var otherToken = mock(JsonWebToken.class);
+    var expiresAt = Instant.now().plusSeconds(60).getEpochSecond();
+    when(token.getIssuer()).thenReturn(ISSUER_URI);
+    when(token.getExpirationTime()).thenReturn(expiresAt);
+    when(otherToken.getIssuer()).thenReturn("https://keycloak:8080/realms/other");
+    when(otherToken.getExpirationTime()).thenReturn(expiresAt);
+    tokenCache.put("token", token);
+    tokenCache.put("otherToken", otherToken);
+    openidJwtParserProvider.registerTokenCache(tokenCache);
+
+    openidJwtParserProvider.invalidateCache(List.of(TENANT_NAME));
+
+    assertThat(tokenCache.get("token")).isSameAs(token);
+    assertThat(tokenCache.get("otherToken")).isNull();
+  }
+
+  @Test
+  void invalidateCache_positive_invalidationListeners() {
+    var invalidatedTenants = new ArrayList<List<String>>();
+    var tenants = List.of(TENANT_NAME, "other");
+    openidJwtParserProvider.registerInvalidationListener(
+      tenantFilter -> invalidatedTenants.add(tenants.stream().filter(tenantFilter).toList()));
+
+    openidJwtParserProvider.invalidateCache(ISSUER_URI);
+    openidJwtParserProvider.invalidateCache(List.of(TENANT_NAME));
+    openidJwtParserProvider.invalidateCache();
+
+    assertThat(invalidatedTenants).containsExactly(List.of("other"), tenants);
+  }
+
   @Test
   void getParser_positive_withCustomKeycloakBaseUrl() {
     var customBaseUrl = "http://keycloak-headless:8080";
@@ -149,8 +214,201 @@ class OpenidJwtParserProviderTest {
     assertThat(cachedParser).isEqualTo(parser);
   }
 
+  @Test
+  void getParser_positive_concurrentFirstRequests() throws Exception {
+    var threads = 8;
+    var executor = Executors.newFixedThreadPool(threads);
+    var startLatch = new CountDownLatch(1);
+    try {
+      var futures = new ArrayList<Future<JWTParser>>();
+      for (var i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          startLatch.await();
+          return openidJwtParserProvider.getParser(ISSUER_URI);
+        }));
+      }
+      startLatch.countDown();
+
+      var parser = futures.get(0).get(5, SECONDS);
+      for (var future : futures) {
+        assertThat(future.get(5, SECONDS)).isSameAs(parser);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void preload_positive() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+
+      openidJwtParserProvider.preload(List.of(issuerUri));
+      assertThat(jwksServer.getRequestCount()).isEqualTo(1);
+
+      var token = TestJwtGenerator.generateJwtString(jwksServer.getUrl(), TENANT_NAME);
+      var parsedToken = openidJwtParserProvider.getParser(issuerUri).parse(token);
+
+      assertThat(parsedToken.getIssuer()).isEqualTo(issuerUri);
+      assertThat(jwksServer.getRequestCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void preload_positive_separateKeysPerIssuer() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      var otherIssuerUri = jwksServer.getIssuerUri("other");
+
+      openidJwtParserProvider.preload(List.of(issuerUri, otherIssuerUri));
+      assertThat(jwksServer.getRequestCount()).isEqualTo(2);
+
+      var otherToken = TestJwtGenerator.generateJwtString(jwksServer.getUrl(), "other");
+      var parsedToken = openidJwtParserProvider.getParser(otherIssuerUri).parse(otherToken);
+
+      assertThat(parsedToken.getIssuer()).isEqualTo(otherIssuerUri);
+      assertThat(jwksServer.getRequestCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void preload_negative_jwksNotAvailable() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      jwksServer.setAvailable(false);
+
+      openidJwtParserProvider.preload(List.of(issuerUri));
+
+      assertThat(getCache()).doesNotContainKey(issuerUri);
+    }
+  }
+
+  @Test
+  void setJwksLoadListener_positive() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      var loads = new ArrayList<String>();
+      openidJwtParserProvider.setJwksLoadListener((issuer, durationNanos, error) ->
+        loads.add(issuer + (error == null ? ":loaded" : ":failed")));
+
+      jwksServer.setAvailable(false);
+      openidJwtParserProvider.preload(List.of(issuerUri));
+      jwksServer.setAvailable(true);
+      var token = TestJwtGenerator.generateJwtString(jwksServer.getUrl(), TENANT_NAME);
+      openidJwtParserProvider.getParser(issuerUri).parse(token);
+      openidJwtParserProvider.getParser(issuerUri).parse(token);
+
+      assertThat(loads).containsExactly(issuerUri + ":failed", issuerUri + ":loaded");
+    }
+  }
+
+  @Test
+  void refreshParsers_positive() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      openidJwtParserProvider.preload(List.of(issuerUri));
+      var parser = openidJwtParserProvider.getParser(issuerUri);
+
+      openidJwtParserProvider.refreshParsers();
+
+      var refreshedParser = openidJwtParserProvider.getParser(issuerUri);
+      assertThat(refreshedParser).isNotSameAs(parser);
+      assertThat(jwksServer.getRequestCount()).isEqualTo(2);
+
+      var token = TestJwtGenerator.generateJwtString(jwksServer.getUrl(), TENANT_NAME);
+      assertThat(refreshedParser.parse(token).getIssuer()).isEqualTo(issuerUri);
+      assertThat(jwksServer.getRequestCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void refreshParsers_negative_jwksNotAvailable() throws Exception {
+    try (var jwksServer = new JwksServer()) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      openidJwtParserProvider.preload(List.of(issuerUri));
+      var parser = openidJwtParserProvider.getParser(issuerUri);
+      jwksServer.setAvailable(false);
+
+      openidJwtParserProvider.refreshParsers();
+
+      assertThat(openidJwtParserProvider.getParser(issuerUri)).isSameAs(parser);
+    }
+  }
+
+  @Test
+  void startBackgroundRefresh_positive() throws Exception {
+    try (var jwksServer = new JwksServer(); var provider = new OpenidJwtParserProvider(60, 60, null)) {
+      var issuerUri = jwksServer.getIssuerUri(TENANT_NAME);
+      provider.preload(List.of(issuerUri));
+
+      provider.startBackgroundRefresh(Duration.ofMillis(20));
+
+      var deadline = System.nanoTime() + SECONDS.toNanos(5);
+      while (jwksServer.getRequestCount() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(jwksServer.getRequestCount()).isGreaterThanOrEqualTo(3);
+    }
+  }
+
+  @Test
+  void startBackgroundRefresh_negative_alreadyStarted() {
+    try (var provider = new OpenidJwtParserProvider(60, 60, null)) {
+      provider.startBackgroundRefresh(Duration.ofMinutes(1));
+
+      assertThatThrownBy(() -> provider.startBackgroundRefresh(Duration.ofMinutes(1)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Background JWKS refresh is already started");
+    }
+  }
+
   @SuppressWarnings("unchecked")
-  private Map<String, JWTParser> getCache() {
-    return (Map<String, JWTParser>) ReflectionTestUtils.getField(openidJwtParserProvider, "tokenParsers");
+  private Map<String, Object> getCache() {
+    return (Map<String, Object>) ReflectionTestUtils.getField(openidJwtParserProvider, "tokenParsers");
+  }
+
+  private static final class JwksServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile boolean available = true;
+
+    JwksServer() throws IOException {
+      var jwks = TestJwtGenerator.generateJwks().getBytes(UTF_8);
+      server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+      server.createContext("/realms/", exchange -> {
+        requestCount.incrementAndGet();
+        if (available) {
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, jwks.length);
+          exchange.getResponseBody().write(jwks);
+        } else {
+          exchange.sendResponseHeaders(503, -1);
+        }
+        exchange.close();
+      });
+      server.start();
+    }
+
+    String getUrl() {
+      return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    String getIssuerUri(String realm) {
+      return getUrl() + "/realms/" + realm;
+    }
+
+    int getRequestCount() {
+      return requestCount.get();
+    }
+
+    void setAvailable(boolean available) {
+      this.available = available;
+    }
+
+    @Override
+    public void close() {
+      server.stop(0);
+    }
   }
 }
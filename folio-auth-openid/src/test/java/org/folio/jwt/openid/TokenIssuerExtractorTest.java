@@ -0,0 +1,110 @@
+package org.folio.jwt.openid;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.test.TestUtils.OBJECT_MAPPER;
+
+import io.smallrye.jwt.auth.principal.ParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class TokenIssuerExtractorTest {
+
+  private static final String ISSUER = "https://keycloak.sample.org/realms/testtenant";
+
+  private final TokenIssuerExtractor issuerExtractor = new TokenIssuerExtractor(OBJECT_MAPPER);
+
+  @Test
+  void extractIssuer_positive() throws ParseException {
+    var token = token("{\"sub\":\"user\",\"iss\":\"" + ISSUER + "\",\"exp\":1}");
+
+    assertThat(issuerExtractor.extractIssuer(token)).isEqualTo(ISSUER);
+  }
+
+  @Test
+  void extractIssuer_positive_twoSegments() throws ParseException {
+    var token = "header." + encode("{\"iss\":\"" + ISSUER + "\"}");
+
+    assertThat(issuerExtractor.extractIssuer(token)).isEqualTo(ISSUER);
+  }
+
+  @Test
+  void extractIssuer_positive_nestedClaimsBeforeIssuer() throws ParseException {
+    var token = token("{\"realm_access\":{\"roles\":[\"a\",{\"iss\":\"nested\"}]},\"iss\":\"" + ISSUER + "\"}");
+
+    assertThat(issuerExtractor.extractIssuer(token)).isEqualTo(ISSUER);
+  }
+
+  @Test
+  void extractIssuer_positive_paddedPayload() throws ParseException {
+    var payload = Base64.getUrlEncoder().encodeToString("{\"iss\":\"a\"}".getBytes(UTF_8));
+    assertThat(payload).endsWith("=");
+
+    assertThat(issuerExtractor.extractIssuer("header." + payload + ".signature")).isEqualTo("a");
+  }
+
+  @Test
+  void extractIssuer_positive_largePayload() throws ParseException {
+    var token = token("{\"data\":\"" + "x".repeat(64 * 1024) + "\",\"iss\":\"" + ISSUER + "\"}");
+
+    assertThat(issuerExtractor.extractIssuer(token)).isEqualTo(ISSUER);
+    assertThat(issuerExtractor.extractIssuer(token("{\"iss\":\"small\"}"))).isEqualTo("small");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"DummyToken", "seg1.seg2.seg3.seg4", "seg1.seg2.seg3."})
+  void extractIssuer_negative_invalidAmountOfSegments(String token) {
+    assertThatThrownBy(() -> issuerExtractor.extractIssuer(token))
+      .isInstanceOf(ParseException.class)
+      .hasMessage("Invalid amount of segments in JsonWebToken");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"header.e+J9.signature", "header.eyJ9x.signature", "header.eyJ=.signature",
+    "header.eyJib2R5IjogfQ==.signature"})
+  void extractIssuer_negative_invalidPayload(String token) {
+    assertThatThrownBy(() -> issuerExtractor.extractIssuer(token))
+      .isInstanceOf(ParseException.class)
+      .hasMessage("Failed to decode json web token");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"{\"key\":\"value\"}", "{\"iss\":null}", "{\"iss\":{\"a\":\"b\"}}", "\"iss\"", "[]", ""})
+  void extractIssuer_negative_issuerNotFound(String payload) {
+    var token = token(payload);
+
+    assertThatThrownBy(() -> issuerExtractor.extractIssuer(token))
+      .isInstanceOf(ParseException.class)
+      .hasMessage("Issuer not found in the json web token");
+  }
+
+  @Test
+  void decodeBase64Url_positive_conformsToJdkDecoder() {
+    var random = new Random(42);
+    for (var length = 0; length < 100; length++) {
+      var bytes = new byte[length];
+      random.nextBytes(bytes);
+      var encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+      var buffer = new byte[length + 2];
+
+      var decodedLength = TokenIssuerExtractor.decodeBase64Url("x" + encoded + "y", 1, encoded.length() + 1, buffer);
+
+      assertThat(Arrays.copyOf(buffer, decodedLength)).isEqualTo(bytes);
+    }
+  }
+
+  private static String token(String payload) {
+    return "header." + encode(payload) + ".signature";
+  }
+
+  private static String encode(String value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+}
@@ -5,8 +5,10 @@ import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateCrtKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import java.util.Objects;
@@ -79,6 +81,16 @@ public class TestJwtGenerator {
       .compact();
   }
 
+  @SneakyThrows
+  public static String generateJwks() {
+    var key = (RSAPrivateCrtKey) readPrivateKey(classpathFile(TEST_KEY_PATH));
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    var modulus = encoder.encodeToString(key.getModulus().toByteArray());
+    var exponent = encoder.encodeToString(key.getPublicExponent().toByteArray());
+    return "{\"keys\":[{\"kid\":\"" + TEST_KID + "\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\","
+      + "\"n\":\"" + modulus + "\",\"e\":\"" + exponent + "\"}]}";
+  }
+
   @SneakyThrows
   public static File classpathFile(String path) {
     var resource = TestJwtGenerator.class.getClassLoader().getResource(path);
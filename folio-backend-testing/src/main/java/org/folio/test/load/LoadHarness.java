@@ -0,0 +1,295 @@
+package org.folio.test.load;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * In-process load harness for servlet filter chains.
+ *
+ * <p>Drives a weighted mix of requests through the given filter (e.g. Spring Security {@code FilterChainProxy}) at
+ * fixed concurrency: at most {@code concurrency} requests are in flight, and their dispatches are executed by a pool of
+ * {@code containerThreads} platform threads, modelling servlet container workers. Requests that start asynchronous
+ * processing release the container thread, and are dispatched again with {@link DispatcherType#ASYNC} once their
+ * {@link MockAsyncContext} is dispatched, so blocking and asynchronous filters can be compared under the same load.</p>
+ *
+ * <p>The mix is executed in a fixed order: request types are interleaved according to their weights. A warmup phase
+ * is executed before the measured one and is not included in the {@link LoadReport}.</p>
+ */
+@Log4j2
+@Builder
+public final class LoadHarness {
+
+  private static final AtomicInteger RUN_COUNTER = new AtomicInteger();
+
+  /**
+   * Filter under load.
+   */
+  private final Filter filter;
+
+  /**
+   * Terminal filter chain, invoked by the filter when the request passes, responds with 200 by default.
+   */
+  @Builder.Default
+  private final FilterChain handler = (request, response) -> ((HttpServletResponse) response).setStatus(200);
+
+  /**
+   * Number of requests in flight.
+   */
+  @Builder.Default
+  private final int concurrency = 16;
+
+  /**
+   * Number of threads executing request dispatches.
+   */
+  @Builder.Default
+  private final int containerThreads = 16;
+
+  /**
+   * Number of requests executed before measurement.
+   */
+  @Builder.Default
+  private final int warmupRequests = 100;
+
+  /**
+   * Number of measured requests.
+   */
+  @Builder.Default
+  private final int requests = 1000;
+
+  /**
+   * Request types of the mix.
+   */
+  @Singular("request")
+  private final List<LoadRequest> requestMix;
+
+  /**
+   * Executes warmup and measured phases.
+   *
+   * @return {@link LoadReport} of the measured phase
+   * @throws InterruptedException - if the calling thread is interrupted
+   * @throws IllegalStateException - if requests are not completed in time
+   */
+  public LoadReport run() throws InterruptedException {
+    validate();
+
+    var sequence = createSequence();
+    var runId = RUN_COUNTER.incrementAndGet();
+    var container = Executors.newFixedThreadPool(containerThreads,
+      Thread.ofPlatform().daemon().name("load-" + runId + "-container-", 0).factory());
+    try {
+      execute(container, sequence, warmupRequests, new Recorder(warmupRequests));
+
+      var recorder = new Recorder(requests);
+      var allocatedBefore = getTotalAllocatedBytes();
+      var startedAt = System.nanoTime();
+      execute(container, sequence, requests, recorder);
+      var duration = Duration.ofNanos(System.nanoTime() - startedAt);
+      var allocatedAfter = getTotalAllocatedBytes();
+
+      var allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+      var report = recorder.toReport(sequence, duration, allocatedBytes);
+      log.info("Load test completed:\n{}", report.format());
+      return report;
+    } finally {
+      container.shutdownNow();
+    }
+  }
+
+  private void validate() {
+    if (filter == null) {
+      throw new IllegalArgumentException("Filter must not be null");
+    }
+
+    if (requestMix.isEmpty()) {
+      throw new IllegalArgumentException("Request mix must not be empty");
+    }
+
+    if (concurrency < 1 || containerThreads < 1 || warmupRequests < 0 || requests < 1) {
+      throw new IllegalArgumentException("Concurrency, container threads and requests must be positive");
+    }
+  }
+
+  /**
+   * Interleaves request types by weight: each round takes every type that still has weight left.
+   */
+  private LoadRequest[] createSequence() {
+    var sequence = new ArrayList<LoadRequest>();
+    var maxWeight = requestMix.stream().mapToInt(LoadRequest::weight).max().orElse(0);
+    for (var round = 0; round < maxWeight; round++) {
+      for (var request : requestMix) {
+        if (round < request.weight()) {
+          sequence.add(request);
+        }
+      }
+    }
+
+    return sequence.toArray(LoadRequest[]::new);
+  }
+
+  private void execute(ExecutorService container, LoadRequest[] sequence, int count, Recorder recorder)
+    throws InterruptedException {
+    var inFlight = new Semaphore(concurrency);
+    var completed = new CountDownLatch(count);
+    for (var i = 0; i < count; i++) {
+      inFlight.acquire();
+      var exchange = new Exchange(i, sequence[i % sequence.length], container, recorder, () -> {
+        inFlight.release();
+        completed.countDown();
+      });
+      container.execute(exchange::dispatch);
+    }
+
+    if (!completed.await(10, MINUTES)) {
+      throw new IllegalStateException("Load test requests are not completed in time: remaining = "
+        + completed.getCount());
+    }
+  }
+
+  private static long getTotalAllocatedBytes() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMxBean
+      && threadMxBean.isThreadAllocatedMemorySupported() && threadMxBean.isThreadAllocatedMemoryEnabled()) {
+      return threadMxBean.getTotalThreadAllocatedBytes();
+    }
+
+    return -1;
+  }
+
+  private final class Exchange {
+
+    private final int index;
+    private final LoadRequest type;
+    private final ExecutorService container;
+    private final Recorder recorder;
+    private final Runnable onComplete;
+    private final MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final long startedAt = System.nanoTime();
+
+    Exchange(int index, LoadRequest type, ExecutorService container, Recorder recorder, Runnable onComplete) {
+      this.index = index;
+      this.type = type;
+      this.container = container;
+      this.recorder = recorder;
+      this.onComplete = onComplete;
+      this.request = type.factory().get();
+      this.request.setAsyncSupported(true);
+    }
+
+    void dispatch() {
+      try {
+        filter.doFilter(request, response, handler);
+        if (request.isAsyncStarted()) {
+          var asyncContext = (MockAsyncContext) request.getAsyncContext();
+          asyncContext.addDispatchHandler(() -> container.execute(this::asyncDispatch));
+          return;
+        }
+
+        complete(false);
+      } catch (Exception e) {
+        log.debug("Request failed: type = {}", type.name(), e);
+        complete(true);
+      }
+    }
+
+    private void asyncDispatch() {
+      request.setAsyncStarted(false);
+      request.setDispatcherType(DispatcherType.ASYNC);
+      dispatch();
+    }
+
+    private void complete(boolean error) {
+      recorder.record(index, type.name(), System.nanoTime() - startedAt, error ? -1 : response.getStatus());
+      onComplete.run();
+    }
+  }
+
+  private final class Recorder {
+
+    private final long[] latencies;
+    private final String[] types;
+    private final int[] statuses;
+
+    Recorder(int count) {
+      this.latencies = new long[count];
+      this.types = new String[count];
+      this.statuses = new int[count];
+    }
+
+    void record(int index, String type, long latency, int status) {
+      latencies[index] = latency;
+      types[index] = type;
+      statuses[index] = status;
+    }
+
+    LoadReport toReport(LoadRequest[] sequence, Duration duration, long allocatedBytes) {
+      var requestStats = new LinkedHashMap<String, LoadReport.RequestStats>();
+      for (var request : sequence) {
+        requestStats.computeIfAbsent(request.name(), this::getRequestStats);
+      }
+
+      return new LoadReport(concurrency, containerThreads, latencies.length, duration,
+        getLatency(latencies.clone()), allocatedBytes, requestStats);
+    }
+
+    private LoadReport.RequestStats getRequestStats(String type) {
+      var typeLatencies = new long[latencies.length];
+      var typeStatuses = new TreeMap<Integer, Long>();
+      var count = 0;
+      var errors = 0L;
+      for (var i = 0; i < latencies.length; i++) {
+        if (!type.equals(types[i])) {
+          continue;
+        }
+
+        typeLatencies[count++] = latencies[i];
+        if (statuses[i] < 0) {
+          errors++;
+        } else {
+          typeStatuses.merge(statuses[i], 1L, Long::sum);
+        }
+      }
+
+      return new LoadReport.RequestStats(count, errors, typeStatuses, getLatency(Arrays.copyOf(typeLatencies, count)));
+    }
+
+    private static LoadReport.Latency getLatency(long[] values) {
+      Arrays.sort(values);
+      return new LoadReport.Latency(percentile(values, 0.5), percentile(values, 0.99), percentile(values, 0.999),
+        percentile(values, 1));
+    }
+
+    /**
+     * Provides nearest-rank percentile of sorted values.
+     */
+    private static Duration percentile(long[] sortedValues, double percentile) {
+      if (sortedValues.length == 0) {
+        return Duration.ZERO;
+      }
+
+      var rank = (int) Math.ceil(percentile * sortedValues.length);
+      return Duration.ofNanos(sortedValues[Math.max(rank, 1) - 1]);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package org.folio.test.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of a {@link LoadHarness} run.
+ *
+ * <p>Latency is measured from request submission to the end of the last dispatch, so it includes waiting for a free
+ * container thread. Allocated bytes are the JVM-wide total for the measured phase, {@code -1} if thread allocation
+ * accounting is not supported by the JVM.</p>
+ *
+ * @param concurrency - number of requests in flight
+ * @param containerThreads - number of threads executing request dispatches
+ * @param requests - number of measured requests
+ * @param duration - duration of the measured phase
+ * @param latency - latency percentiles of all requests
+ * @param allocatedBytes - bytes allocated during the measured phase
+ * @param requestStats - statistics per request type name
+ */
+public record LoadReport(int concurrency, int containerThreads, long requests, Duration duration,
+  Latency latency, long allocatedBytes, Map<String, RequestStats> requestStats) {
+
+  /**
+   * Provides completed requests per second.
+   *
+   * @return throughput, requests per second
+   */
+  public double throughput() {
+    return requests / seconds();
+  }
+
+  /**
+   * Provides allocated bytes per request.
+   *
+   * @return allocated bytes per request, {@code -1} if allocation accounting is not supported
+   */
+  public double allocatedBytesPerRequest() {
+    return allocatedBytes < 0 ? -1 : (double) allocatedBytes / requests;
+  }
+
+  /**
+   * Provides allocation rate.
+   *
+   * @return allocated bytes per second, {@code -1} if allocation accounting is not supported
+   */
+  public double allocationRate() {
+    return allocatedBytes < 0 ? -1 : allocatedBytes / seconds();
+  }
+
+  /**
+   * Formats report as a human-readable multi-line summary.
+   *
+   * @return formatted report
+   */
+  public String format() {
+    var result = new StringBuilder()
+      .append(String.format("requests = %d, concurrency = %d, containerThreads = %d, duration = %d ms%n",
+        requests, concurrency, containerThreads, duration.toMillis()))
+      .append(String.format("throughput = %.1f req/s, latency: %s%n", throughput(), latency.format()))
+      .append(String.format("allocation = %.0f B/req, %.1f MB/s%n",
+        allocatedBytesPerRequest(), allocationRate() / (1024 * 1024)));
+
+    requestStats.forEach((name, stats) -> result.append(String.format(
+      "  %s: count = %d, errors = %d, statuses = %s, latency: %s%n",
+      name, stats.count(), stats.errors(), stats.statuses(), stats.latency().format())));
+    return result.toString();
+  }
+
+  private double seconds() {
+    return Math.max(duration.toNanos(), 1) / 1_000_000_000d;
+  }
+
+  /**
+   * Latency percentiles.
+   *
+   * @param p50 - median latency
+   * @param p99 - 99th percentile latency
+   * @param p999 - 99.9th percentile latency
+   * @param max - maximum latency
+   */
+  public record Latency(Duration p50, Duration p99, Duration p999, Duration max) {
+
+    String format() {
+      return String.format("p50 = %.3f ms, p99 = %.3f ms, p999 = %.3f ms, max = %.3f ms",
+        millis(p50), millis(p99), millis(p999), millis(max));
+    }
+
+    private static double millis(Duration duration) {
+      return duration.toNanos() / 1_000_000d;
+    }
+  }
+
+  /**
+   * Statistics of a request type.
+   *
+   * @param count - number of executed requests
+   * @param errors - number of requests failed with an exception not handled by the filter chain
+   * @param statuses - number of responses per HTTP status code
+   * @param latency - latency percentiles
+   */
+  public record RequestStats(long count, long errors, Map<Integer, Long> statuses, Latency latency) {}
+}
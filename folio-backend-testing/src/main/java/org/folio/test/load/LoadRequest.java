@@ -0,0 +1,38 @@
+package org.folio.test.load;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Request type of a load test mix.
+ *
+ * @param name - request type name, used to group statistics in {@link LoadReport}
+ * @param weight - relative share of the request type in the mix
+ * @param factory - creates a new request for every execution
+ */
+public record LoadRequest(String name, int weight, Supplier<MockHttpServletRequest> factory) {
+
+  /**
+   * Validates request type attributes.
+   */
+  public LoadRequest {
+    Objects.requireNonNull(name, "Request name must not be null");
+    Objects.requireNonNull(factory, "Request factory must not be null");
+    if (weight < 1) {
+      throw new IllegalArgumentException("Request weight must be positive: " + name);
+    }
+  }
+
+  /**
+   * Creates request type.
+   *
+   * @param name - request type name
+   * @param weight - relative share of the request type in the mix
+   * @param factory - creates a new request for every execution
+   * @return {@link LoadRequest} object
+   */
+  public static LoadRequest of(String name, int weight, Supplier<MockHttpServletRequest> factory) {
+    return new LoadRequest(name, weight, factory);
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.test.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@UnitTest
+class LoadHarnessTest {
+
+  @Test
+  void run_positive_blockingFilter() throws Exception {
+    Filter filter = (request, response, chain) -> {
+      if ("/denied".equals(((HttpServletRequest) request).getRequestURI())) {
+        ((HttpServletResponse) response).setStatus(403);
+        return;
+      }
+      chain.doFilter(request, response);
+    };
+
+    var report = LoadHarness.builder()
+      .filter(filter)
+      .concurrency(4)
+      .containerThreads(2)
+      .warmupRequests(10)
+      .requests(400)
+      .request(LoadRequest.of("allowed", 3, () -> new MockHttpServletRequest("GET", "/allowed")))
+      .request(LoadRequest.of("denied", 1, () -> new MockHttpServletRequest("GET", "/denied")))
+      .build()
+      .run();
+
+    assertThat(report.requests()).isEqualTo(400);
+    assertThat(report.concurrency()).isEqualTo(4);
+    assertThat(report.containerThreads()).isEqualTo(2);
+    assertThat(report.throughput()).isPositive();
+    assertThat(report.requestStats()).containsOnlyKeys("allowed", "denied");
+    assertThat(report.requestStats().get("allowed").count()).isEqualTo(300);
+    assertThat(report.requestStats().get("allowed").statuses()).isEqualTo(Map.of(200, 300L));
+    assertThat(report.requestStats().get("denied").statuses()).isEqualTo(Map.of(403, 100L));
+
+    var latency = report.latency();
+    assertThat(latency.p50()).isPositive().isLessThanOrEqualTo(latency.p99());
+    assertThat(latency.p99()).isLessThanOrEqualTo(latency.p999());
+    assertThat(latency.p999()).isLessThanOrEqualTo(latency.max());
+    assertThat(report.format()).contains("requests = 400", "allowed: count = 300", "denied: count = 100");
+  }
+
+  @Test
+  void run_positive_asyncFilterReleasesContainerThread() throws Exception {
+    var pending = new AtomicInteger();
+    var maxPending = new AtomicInteger();
+    Filter filter = (request, response, chain) -> {
+      if (request.getDispatcherType() == DispatcherType.ASYNC) {
+        chain.doFilter(request, response);
+        return;
+      }
+
+      var asyncContext = request.startAsync();
+      maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+      Thread.ofVirtual().start(() -> {
+        sleep(5);
+        pending.decrementAndGet();
+        asyncContext.dispatch();
+      });
+    };
+
+    var report = LoadHarness.builder()
+      .filter(filter)
+      .concurrency(8)
+      .containerThreads(1)
+      .warmupRequests(0)
+      .requests(80)
+      .request(LoadRequest.of("async", 1, () -> new MockHttpServletRequest("GET", "/async")))
+      .build()
+      .run();
+
+    assertThat(report.requestStats().get("async").statuses()).isEqualTo(Map.of(200, 80L));
+    assertThat(maxPending.get()).isGreaterThan(1);
+  }
+
+  @Test
+  void run_positive_unhandledErrorsCounted() throws Exception {
+    Filter filter = (request, response, chain) -> {
+      throw new ServletException("error");
+    };
+
+    var report = LoadHarness.builder()
+      .filter(filter)
+      .warmupRequests(0)
+      .requests(10)
+      .request(LoadRequest.of("failing", 1, () -> new MockHttpServletRequest("GET", "/failing")))
+      .build()
+      .run();
+
+    var stats = report.requestStats().get("failing");
+    assertThat(stats.errors()).isEqualTo(10);
+    assertThat(stats.statuses()).isEmpty();
+  }
+
+  @Test
+  void run_negative_emptyRequestMix() {
+    var harness = LoadHarness.builder().filter((request, response, chain) -> { }).build();
+
+    assertThatThrownBy(harness::run)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Request mix must not be empty");
+  }
+
+  @Test
+  void of_negative_nonPositiveWeight() {
+    assertThatThrownBy(() -> LoadRequest.of("test", 0, MockHttpServletRequest::new))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Request weight must be positive: test");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+#
+# Compares JMH results of two commits.
+#
+# Usage:
+#   folio-benchmarks/compare.sh <base-ref> <head-ref> [JMH options]
+#   folio-benchmarks/compare.sh --results <base.json> <head.json>
+#
+# Each ref is checked out into a temporary git worktree, the benchmark jar is built and run with the given JMH
+# options (all benchmarks by default), and JSON results are stored in folio-benchmarks/target/results.
+# Both refs must contain the folio-benchmarks module. Requires git, mvn, java and jq.
+set -euo pipefail
+
+script_dir="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+repo_dir="$(git -C "$script_dir" rev-parse --show-toplevel)"
+results_dir="$script_dir/target/results"
+
+usage() {
+  sed -n '4,7p' "${BASH_SOURCE[0]}" | sed 's/^# \{0,1\}//'
+  exit 1
+}
+
+run_benchmarks() {
+  local ref="$1" output="$2"
+  shift 2
+  local worktree
+  worktree="$(mktemp -d)"
+
+  echo "Building benchmarks for $ref" >&2
+  git -C "$repo_dir" worktree add --detach "$worktree" "$ref" >/dev/null
+  trap 'git -C "$repo_dir" worktree remove --force "$worktree"' RETURN
+
+  (cd "$worktree" && mvn -B -q -pl folio-benchmarks -am package -DskipTests -Dcheckstyle.skip=true) >&2
+  java -jar "$worktree/folio-benchmarks/target/benchmarks.jar" -rf json -rff "$output" "$@" >&2
+}
+
+compare() {
+  jq -r -n --slurpfile base "$1" --slurpfile head "$2" '
+    def key: .benchmark + (if .params then " " + (.params | to_entries | map(.key + "=" + .value) | join(",")) else "" end);
+    ($base[0] | map({key: key, value: .primaryMetric}) | from_entries) as $baseScores
+    | ["Benchmark", "Base", "Head", "Change", "Units"],
+      ($head[0][] | key as $key | select($baseScores[$key])
+        | [$key, ($baseScores[$key].score * 1000 | round / 1000), (.primaryMetric.score * 1000 | round / 1000),
+           (((.primaryMetric.score - $baseScores[$key].score) / $baseScores[$key].score * 10000 | round / 100
+             | tostring) + "%"),
+           .primaryMetric.scoreUnit])
+    | @tsv' | awk -F '\t' '{ printf "%-100s %14s %14s %10s %7s\n", $1, $2, $3, $4, $5 }'
+}
+
+if [[ $# -lt 2 ]]; then
+  usage
+fi
+
+if [[ "$1" == "--results" ]]; then
+  [[ $# -eq 3 ]] || usage
+  compare "$2" "$3"
+  exit 0
+fi
+
+base_ref="$1"
+head_ref="$2"
+shift 2
+
+mkdir -p "$results_dir"
+base_results="$results_dir/$(git -C "$repo_dir" rev-parse --short "$base_ref").json"
+head_results="$results_dir/$(git -C "$repo_dir" rev-parse --short "$head_ref").json"
+
+run_benchmarks "$base_ref" "$base_results" "$@"
+run_benchmarks "$head_ref" "$head_results" "$@"
+compare "$base_results" "$head_results"
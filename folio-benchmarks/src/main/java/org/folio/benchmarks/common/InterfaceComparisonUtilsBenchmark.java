@@ -0,0 +1,42 @@
+package org.folio.benchmarks.common;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.folio.common.utils.InterfaceComparisonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures comparison of provided and required interface versions, including multi-version requirements.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class InterfaceComparisonUtilsBenchmark {
+
+  private static final String[][] INTERFACES = {
+    {"users", "16.1", "users", "16.0"},
+    {"users", "16.1", "users", "15.0 16.0"},
+    {"inventory", "14.0.2", "inventory", "10.0 11.0 12.0 13.0 14.0"},
+    {"circulation", "14.0", "loan-storage", "7.0"}
+  };
+
+  private int index;
+
+  @Benchmark
+  public int compare() {
+    var i = INTERFACES[index++ & (INTERFACES.length - 1)];
+    return InterfaceComparisonUtils.compare(i[0], i[1], i[2], i[3]);
+  }
+}
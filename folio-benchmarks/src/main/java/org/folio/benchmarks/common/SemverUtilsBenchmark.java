@@ -0,0 +1,54 @@
+package org.folio.benchmarks.common;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.folio.common.utils.SemverUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures module and application identifier parsing and version range checks.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class SemverUtilsBenchmark {
+
+  private static final String[] SOURCE_IDS = {
+    "mod-users-19.4.0",
+    "mod-inventory-storage-27.1.0-SNAPSHOT.810",
+    "app-platform-minimal-2.0.19",
+    "mod-circulation-24.3.0-SNAPSHOT.1234"
+  };
+
+  private static final String[][] VERSION_RANGES = {
+    {"19.4.0", "^19.0.0"},
+    {"27.1.0-SNAPSHOT.810", ">=27.0.0-SNAPSHOT"},
+    {"2.0.19", "~2.0.0 || ^3.0.0"},
+    {"24.3.0", "1.0.0 - 23.9.9"}
+  };
+
+  private int index;
+
+  @Benchmark
+  public String getName() {
+    return SemverUtils.getName(SOURCE_IDS[index++ & (SOURCE_IDS.length - 1)]);
+  }
+
+  @Benchmark
+  public boolean satisfies() {
+    var versionRange = VERSION_RANGES[index++ & (VERSION_RANGES.length - 1)];
+    return SemverUtils.satisfies(versionRange[0], versionRange[1]);
+  }
+}
@@ -0,0 +1,111 @@
+package org.folio.benchmarks.jwt;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.jwt.openid.JsonWebTokenCache;
+import org.folio.jwt.openid.JsonWebTokenParser;
+import org.folio.jwt.openid.OpenidJwtParserProvider;
+import org.folio.jwt.openid.configuration.JwtParserConfiguration;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures parsing and signature verification of an RS256 access token.
+ *
+ * <p>The issuer parser is resolved from an in-memory public key, so JWKS fetching is not part of the
+ * measurement.</p>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class JsonWebTokenParserBenchmark {
+
+  private static final String KEYCLOAK_URL = "http://keycloak:8080";
+  private static final String ISSUER = KEYCLOAK_URL + "/realms/diku";
+
+  @Param({"false", "true"})
+  private boolean cacheEnabled;
+
+  private OpenidJwtParserProvider parserProvider;
+  private JsonWebTokenParser jsonWebTokenParser;
+  private String accessToken;
+
+  @Setup
+  public void setUp() throws Exception {
+    var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(2048);
+    var keyPair = keyPairGenerator.generateKeyPair();
+
+    var claims = new JwtClaims();
+    claims.setIssuer(ISSUER);
+    claims.setSubject("00000000-0000-0000-0000-000000000001");
+    claims.setClaim("preferred_username", "diku_admin");
+    claims.setClaim("user_id", "00000000-0000-0000-0000-000000000001");
+    claims.setIssuedAtToNow();
+    claims.setExpirationTimeMinutesInTheFuture(24 * 60);
+
+    var jws = new JsonWebSignature();
+    jws.setPayload(claims.toJson());
+    jws.setKey(keyPair.getPrivate());
+    jws.setKeyIdHeaderValue("benchmark");
+    jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+    accessToken = jws.getCompactSerialization();
+
+    var jwtParser = new DefaultJWTParser(new JWTAuthContextInfo(keyPair.getPublic(), ISSUER));
+    parserProvider = new StaticJwtParserProvider(jwtParser);
+    var configuration = JwtParserConfiguration.builder().validateUri(true).issuerRootUri(KEYCLOAK_URL).build();
+    var tokenCache = cacheEnabled ? new JsonWebTokenCache(1000, Duration.ofMinutes(5)) : null;
+    jsonWebTokenParser = new JsonWebTokenParser(JsonMapper.builder().build(), configuration, parserProvider,
+      tokenCache);
+  }
+
+  @TearDown
+  public void tearDown() {
+    parserProvider.close();
+  }
+
+  @Benchmark
+  public JsonWebToken parse() throws ParseException {
+    return jsonWebTokenParser.parse(accessToken);
+  }
+
+  private static final class StaticJwtParserProvider extends OpenidJwtParserProvider {
+
+    private final JWTParser jwtParser;
+
+    StaticJwtParserProvider(JWTParser jwtParser) {
+      super(60, 60);
+      this.jwtParser = jwtParser;
+    }
+
+    @Override
+    public JWTParser getParser(String issuerUri) {
+      return ISSUER.equals(issuerUri) ? jwtParser : null;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.folio.benchmarks.kong;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.folio.tools.kong.model.Route;
+import org.folio.tools.kong.service.KongRouteTenantService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rewriting of a route expression with a tenant clause of hundreds of tenants.
+ *
+ * <p>The route expression is restored before each call, so every invocation rewrites the same expression.</p>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class KongRouteTenantServiceBenchmark {
+
+  private static final String TENANT_HEADER = "http.headers.x_okapi_tenant";
+
+  @Param({"100", "500"})
+  private int tenants;
+
+  private final KongRouteTenantService routeTenantService = new KongRouteTenantService();
+  private final Route route = new Route().id("route-1").name("route-1");
+  private String expression;
+  private String existingTenant;
+
+  @Setup
+  public void setUp() {
+    var tenantClause = new StringBuilder("(");
+    for (int i = 0; i < tenants; i++) {
+      if (i > 0) {
+        tenantClause.append(" || ");
+      }
+      tenantClause.append(TENANT_HEADER).append(" == \"tenant").append(i).append('"');
+    }
+    tenantClause.append(')');
+
+    expression = "(http.path ~ \"^/resource/items/([^/]+)$\" && http.method == \"GET\") && " + tenantClause;
+    existingTenant = "tenant" + tenants / 2;
+  }
+
+  @Benchmark
+  public Route addTenant() {
+    route.setExpression(expression);
+    return routeTenantService.addTenant(route, "new-tenant");
+  }
+
+  @Benchmark
+  public Route addExistingTenant() {
+    route.setExpression(expression);
+    return routeTenantService.addTenant(route, existingTenant);
+  }
+
+  @Benchmark
+  public Route removeTenant() {
+    route.setExpression(expression);
+    return routeTenantService.removeTenant(route, existingTenant);
+  }
+}
@@ -0,0 +1,54 @@
+package org.folio.benchmarks.permission;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.folio.common.utils.permission.PermissionUtils;
+import org.folio.common.utils.permission.model.PermissionData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures classification of permission names of all permission types.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class PermissionUtilsBenchmark {
+
+  private static final String[] PERMISSION_NAMES = {
+    "users.item.get",
+    "users.collection.get",
+    "users.item.post",
+    "inventory-storage.instances.item.put",
+    "inventory-storage.instances.collection.delete",
+    "circulation.loans.collection.post",
+    "ui-users.settings.view",
+    "module.orders.enabled",
+    "orders.item.approve",
+    "data-export.job.item.download",
+    "finance.fiscal-years.all",
+    "ui-inventory.instance.edit",
+    "ui-users.loans.renew-through-override",
+    "settings.circulation.enabled",
+    "mod-settings.global.read.circulation",
+    "users-bl.transactions.get"
+  };
+
+  private int index;
+
+  @Benchmark
+  public PermissionData extractPermissionData() {
+    return PermissionUtils.extractPermissionData(PERMISSION_NAMES[index++ & (PERMISSION_NAMES.length - 1)]);
+  }
+}
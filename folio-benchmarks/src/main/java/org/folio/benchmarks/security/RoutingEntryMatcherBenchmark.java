@@ -0,0 +1,131 @@
+package org.folio.benchmarks.security;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
+import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RoutingEntryMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures routing entry lookup for a request over module descriptors with hundreds of handlers.
+ *
+ * <p>Each interface provides typical collection, item and sub-resource handlers. Requests are a fixed random mix of
+ * matching paths with concrete identifiers and paths not served by the module.</p>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = SECONDS)
+public class RoutingEntryMatcherBenchmark {
+
+  private static final int REQUESTS = 1024;
+  private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+
+  @Param({"20", "200"})
+  private int interfaces;
+
+  @Param({"false", "true"})
+  private boolean cacheEnabled;
+
+  private RoutingEntryMatcher routingEntryMatcher;
+  private String[] requestMethods;
+  private String[] requestPaths;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    var descriptor = moduleDescriptor(interfaces);
+    var descriptorProvider = new BenchmarkDescriptorProvider(descriptor);
+    var cacheProperties = new RoutingCacheProperties();
+    cacheProperties.setEnabled(cacheEnabled);
+    routingEntryMatcher = new RoutingEntryMatcher(descriptorProvider, cacheProperties);
+
+    var random = new Random(42);
+    requestMethods = new String[REQUESTS];
+    requestPaths = new String[REQUESTS];
+    for (int i = 0; i < REQUESTS; i++) {
+      var resource = "/resource-" + random.nextInt(interfaces);
+      var id = new UUID(random.nextLong(), random.nextLong());
+      requestMethods[i] = METHODS[random.nextInt(METHODS.length)];
+      requestPaths[i] = switch (random.nextInt(5)) {
+        case 0 -> resource + "/items";
+        case 1, 2 -> resource + "/items/" + id;
+        case 3 -> resource + "/items/" + id + "/notes/" + id;
+        default -> "/unknown-" + random.nextInt(interfaces) + "/items/" + id;
+      };
+    }
+  }
+
+  @Benchmark
+  public Optional<RoutingEntry> lookup() {
+    var i = index++ & (REQUESTS - 1);
+    return routingEntryMatcher.lookup(requestMethods[i], requestPaths[i]);
+  }
+
+  private static ModuleDescriptor moduleDescriptor(int interfaces) {
+    var provides = new ArrayList<InterfaceDescriptor>();
+    for (int i = 0; i < interfaces; i++) {
+      var resource = "/resource-" + i;
+      var interfaceDescriptor = new InterfaceDescriptor();
+      interfaceDescriptor.setId("resource-" + i);
+      interfaceDescriptor.setVersion("1.0");
+      interfaceDescriptor.setHandlers(List.of(
+        routingEntry(resource + "/items", "GET", "POST"),
+        routingEntry(resource + "/items/{id}", "GET", "PUT", "DELETE"),
+        routingEntry(resource + "/items/{id}/notes", "GET", "POST"),
+        routingEntry(resource + "/items/{id}/notes/{noteId}", "GET", "PUT", "DELETE"),
+        routingEntry(resource + "/settings*", "GET", "PUT")));
+      provides.add(interfaceDescriptor);
+    }
+
+    var descriptor = new ModuleDescriptor();
+    descriptor.setId("mod-benchmark-1.0.0");
+    descriptor.setProvides(provides);
+    return descriptor;
+  }
+
+  private static RoutingEntry routingEntry(String pathPattern, String... methods) {
+    var routingEntry = new RoutingEntry();
+    routingEntry.setPathPattern(pathPattern);
+    routingEntry.setMethods(List.of(methods));
+    routingEntry.setPermissionsRequired(List.of("benchmark.item.get"));
+    return routingEntry;
+  }
+
+  private static final class BenchmarkDescriptorProvider extends InternalModuleDescriptorProvider {
+
+    private final ModuleDescriptor moduleDescriptor;
+
+    BenchmarkDescriptorProvider(ModuleDescriptor moduleDescriptor) {
+      super(null, null);
+      this.moduleDescriptor = moduleDescriptor;
+    }
+
+    @Override
+    public ModuleDescriptor getModuleDescriptor() {
+      return moduleDescriptor;
+    }
+  }
+}
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.folio.tools.kong.model.DeclarativeConfig;
 import org.folio.tools.kong.model.Route;
 import org.folio.tools.kong.model.Service;
 import org.folio.tools.kong.service.KongGatewayService;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.DeleteExchange;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
 import org.springframework.web.service.annotation.PutExchange;
 
 @HttpExchange
@@ -98,6 +100,14 @@ public interface KongAdminClient {
     @PathVariable("serviceId") String serviceId,
     @RequestParam(value = "offset", required = false) Integer offset);
 
+  /**
+   * Replaces the whole Kong configuration with a declarative configuration document.
+   *
+   * @param config - declarative configuration with all services and routes
+   */
+  @PostExchange("/config")
+  void loadDeclarativeConfig(@RequestBody DeclarativeConfig config);
+
   /**
    * Result list object wrapper for get by tag endpoints.
    *
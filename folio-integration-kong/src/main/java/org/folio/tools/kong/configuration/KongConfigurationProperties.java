@@ -1,6 +1,7 @@
 package org.folio.tools.kong.configuration;
 
 import lombok.Data;
+import org.folio.common.configuration.properties.HttpClientProperties;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -54,4 +55,28 @@ public class KongConfigurationProperties {
    * Class that represents TLS connection properties.
    */
   private TlsProperties tls;
+
+  /**
+   * Connection properties of the HTTP client for Kong admin API.
+   */
+  private HttpClientProperties httpClient = new HttpClientProperties();
+
+  /**
+   * Parallelism of route synchronization with Kong admin API.
+   */
+  private RouteSyncProperties routeSync = new RouteSyncProperties();
+
+  @Data
+  public static class RouteSyncProperties {
+
+    /**
+     * Maximum number of module descriptors processed at once.
+     */
+    private int moduleParallelism = 4;
+
+    /**
+     * Maximum number of route create and delete requests sent to Kong at once, shared by all modules.
+     */
+    private int routeParallelism = 16;
+  }
 }
@@ -3,6 +3,7 @@ package org.folio.tools.kong.configuration;
 import static org.folio.common.utils.tls.HttpClientTlsUtils.buildHttpServiceClient;
 
 import org.folio.tools.kong.client.KongAdminClient;
+import org.folio.tools.kong.service.KongDeclarativeConfigService;
 import org.folio.tools.kong.service.KongGatewayService;
 import org.folio.tools.kong.service.KongModuleRegistrar;
 import org.folio.tools.kong.service.KongRouteTenantService;
@@ -37,8 +38,8 @@ public class KongRegistrarAutoConfiguration {
         .registerDefaults()
         .withJsonConverter(new JacksonJsonHttpMessageConverter(jsonMapper)));
 
-    return buildHttpServiceClient(restClientBuilder, properties.getTls(), properties.getUrl(),
-      KongAdminClient.class);
+    return buildHttpServiceClient(restClientBuilder, properties.getTls(), properties.getHttpClient(),
+      properties.getUrl(), KongAdminClient.class);
   }
 
   /**
@@ -57,13 +58,33 @@ public class KongRegistrarAutoConfiguration {
    *
    * @param kongAdminClient - {@link KongAdminClient} bean from spring context
    * @param kongRouteTenantService - {@link KongRouteTenantService} bean from spring context
+   * @param properties - kong configuration properties with route synchronization parallelism
    * @return created {@link KongGatewayService} bean
    */
   @Bean(name = "folioKongGatewayService")
   @ConditionalOnMissingBean(KongGatewayService.class)
   public KongGatewayService kongGatewayService(KongAdminClient kongAdminClient,
-    KongRouteTenantService kongRouteTenantService) {
-    return new KongGatewayService(kongAdminClient, kongRouteTenantService);
+    KongRouteTenantService kongRouteTenantService, KongConfigurationProperties properties) {
+    var kongGatewayService = new KongGatewayService(kongAdminClient, kongRouteTenantService);
+    var routeSync = properties.getRouteSync();
+    kongGatewayService.setParallelism(routeSync.getModuleParallelism(), routeSync.getRouteParallelism());
+    return kongGatewayService;
+  }
+
+  /**
+   * Creates {@link KongDeclarativeConfigService} bean.
+   *
+   * @param kongGatewayService - {@link KongGatewayService} bean from spring context
+   * @param kongRouteTenantService - {@link KongRouteTenantService} bean from spring context
+   * @param kongAdminClient - {@link KongAdminClient} bean from spring context
+   * @param jsonMapper - {@link JsonMapper} bean from spring context
+   * @return created {@link KongDeclarativeConfigService} bean
+   */
+  @Bean(name = "folioKongDeclarativeConfigService")
+  @ConditionalOnMissingBean(KongDeclarativeConfigService.class)
+  public KongDeclarativeConfigService kongDeclarativeConfigService(KongGatewayService kongGatewayService,
+    KongRouteTenantService kongRouteTenantService, KongAdminClient kongAdminClient, JsonMapper jsonMapper) {
+    return new KongDeclarativeConfigService(kongGatewayService, kongRouteTenantService, kongAdminClient, jsonMapper);
   }
 
   /**
@@ -0,0 +1,50 @@
+package org.folio.tools.kong.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kong declarative configuration document, loaded by Kong in DB-less mode or pushed to {@code POST /config}.
+ *
+ * <p>Routes are nested into their services, so the document does not reference service ids.</p>
+ */
+@Data
+@NoArgsConstructor
+public class DeclarativeConfig {
+
+  public static final String FORMAT_VERSION = "3.0";
+
+  @JsonProperty("_format_version")
+  private String formatVersion = FORMAT_VERSION;
+
+  private List<ServiceConfig> services = new ArrayList<>();
+
+  /**
+   * Sets services field and returns {@link DeclarativeConfig}.
+   *
+   * @return modified {@link DeclarativeConfig} value
+   */
+  public DeclarativeConfig services(List<ServiceConfig> services) {
+    this.services = services;
+    return this;
+  }
+
+  /**
+   * Kong service with its routes.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor(staticName = "of")
+  public static class ServiceConfig {
+
+    @JsonUnwrapped
+    private Service service;
+
+    private List<Route> routes;
+  }
+}
@@ -0,0 +1,168 @@
+package org.folio.tools.kong.model.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.folio.tools.kong.model.operator.BoolOperator;
+
+/**
+ * Immutable syntax tree of a Kong route expression, produced by {@link RouteExpressionParser}.
+ *
+ * <p>Parentheses are kept as {@link Group} nodes, so {@link #toString()} prints the expression in the canonical form
+ * used by {@link RouteExpressions}: single spaces around operators and no spaces inside parentheses.</p>
+ */
+public sealed interface ExpressionNode {
+
+  /**
+   * Finds the first node matching the condition, visiting a node before its children.
+   *
+   * @param condition - node condition
+   * @return {@link Optional} with the found node, empty if nothing is found
+   */
+  Optional<ExpressionNode> find(Predicate<ExpressionNode> condition);
+
+  /**
+   * Replaces a node of the tree by identity.
+   *
+   * @param target - node instance to replace
+   * @param replacement - replacement node
+   * @return updated tree, or the same instance if the tree does not contain the target node
+   */
+  ExpressionNode replace(ExpressionNode target, ExpressionNode replacement);
+
+  /**
+   * Comparison of a field with a value, e.g. {@code http.path == "/foo"}.
+   *
+   * @param field - field name, including transformation (e.g. {@code lower(http.path)})
+   * @param operator - comparison operator
+   * @param value - value literal as written in the expression, including quotes
+   */
+  record Comparison(String field, String operator, String value) implements ExpressionNode {
+
+    @Override
+    public Optional<ExpressionNode> find(Predicate<ExpressionNode> condition) {
+      return condition.test(this) ? Optional.of(this) : Optional.empty();
+    }
+
+    @Override
+    public ExpressionNode replace(ExpressionNode target, ExpressionNode replacement) {
+      return this == target ? replacement : this;
+    }
+
+    @Override
+    public String toString() {
+      return field + " " + operator + " " + value;
+    }
+  }
+
+  /**
+   * Operands combined with the same logical operator, e.g. {@code a && b && c}.
+   *
+   * @param operator - logical operator
+   * @param operands - two or more operands
+   */
+  record Logical(BoolOperator operator, List<ExpressionNode> operands) implements ExpressionNode {
+
+    public Logical {
+      operands = List.copyOf(operands);
+    }
+
+    @Override
+    public Optional<ExpressionNode> find(Predicate<ExpressionNode> condition) {
+      if (condition.test(this)) {
+        return Optional.of(this);
+      }
+
+      for (var operand : operands) {
+        var result = operand.find(condition);
+        if (result.isPresent()) {
+          return result;
+        }
+      }
+
+      return Optional.empty();
+    }
+
+    @Override
+    public ExpressionNode replace(ExpressionNode target, ExpressionNode replacement) {
+      if (this == target) {
+        return replacement;
+      }
+
+      var updatedOperands = new ArrayList<ExpressionNode>(operands.size());
+      var changed = false;
+      for (var operand : operands) {
+        var updatedOperand = operand.replace(target, replacement);
+        changed |= updatedOperand != operand;
+        updatedOperands.add(updatedOperand);
+      }
+
+      return changed ? new Logical(operator, updatedOperands) : this;
+    }
+
+    @Override
+    public String toString() {
+      return operands.stream()
+        .map(ExpressionNode::toString)
+        .collect(Collectors.joining(" " + operator.getStringValue() + " "));
+    }
+  }
+
+  /**
+   * Expression in parentheses.
+   *
+   * @param expression - expression inside parentheses
+   */
+  record Group(ExpressionNode expression) implements ExpressionNode {
+
+    @Override
+    public Optional<ExpressionNode> find(Predicate<ExpressionNode> condition) {
+      return condition.test(this) ? Optional.of(this) : expression.find(condition);
+    }
+
+    @Override
+    public ExpressionNode replace(ExpressionNode target, ExpressionNode replacement) {
+      if (this == target) {
+        return replacement;
+      }
+
+      var updatedExpression = expression.replace(target, replacement);
+      return updatedExpression == expression ? this : new Group(updatedExpression);
+    }
+
+    @Override
+    public String toString() {
+      return "(" + expression + ")";
+    }
+  }
+
+  /**
+   * Negated expression, e.g. {@code !(http.path == "/foo")}.
+   *
+   * @param expression - negated expression
+   */
+  record Not(ExpressionNode expression) implements ExpressionNode {
+
+    @Override
+    public Optional<ExpressionNode> find(Predicate<ExpressionNode> condition) {
+      return condition.test(this) ? Optional.of(this) : expression.find(condition);
+    }
+
+    @Override
+    public ExpressionNode replace(ExpressionNode target, ExpressionNode replacement) {
+      if (this == target) {
+        return replacement;
+      }
+
+      var updatedExpression = expression.replace(target, replacement);
+      return updatedExpression == expression ? this : new Not(updatedExpression);
+    }
+
+    @Override
+    public String toString() {
+      return "!" + expression;
+    }
+  }
+}
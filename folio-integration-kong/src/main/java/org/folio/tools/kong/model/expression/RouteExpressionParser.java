@@ -0,0 +1,205 @@
+package org.folio.tools.kong.model.expression;
+
+import static org.folio.tools.kong.model.operator.BoolOperator.AND;
+import static org.folio.tools.kong.model.operator.BoolOperator.OR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.folio.tools.kong.model.expression.ExpressionNode.Comparison;
+import org.folio.tools.kong.model.expression.ExpressionNode.Group;
+import org.folio.tools.kong.model.expression.ExpressionNode.Logical;
+import org.folio.tools.kong.model.expression.ExpressionNode.Not;
+import org.folio.tools.kong.model.operator.BoolOperator;
+
+/**
+ * Parses Kong route expressions, as built by {@link RouteExpressions}, into {@link ExpressionNode} trees.
+ *
+ * <p>Supported syntax: comparisons of a field (optionally wrapped into a transformation like {@code lower(...)}) with
+ * a string, raw string ({@code r#"..."#}), number or IP address value, {@code &&} and {@code ||} with {@code &&}
+ * binding tighter, parentheses and {@code !} negation.</p>
+ */
+public final class RouteExpressionParser {
+
+  private static final List<String> SYMBOL_OPERATORS = List.of("==", "!=", "^=", "=^", ">=", "<=", "~", ">", "<");
+  private static final List<String> WORD_OPERATORS = List.of("contains", "in");
+
+  private final String source;
+  private int position;
+
+  private RouteExpressionParser(String source) {
+    this.source = source;
+  }
+
+  /**
+   * Parses route expression.
+   *
+   * @param expression - Kong route expression
+   * @return parsed {@link ExpressionNode} tree
+   * @throws IllegalArgumentException - if the expression is blank or has invalid syntax
+   */
+  public static ExpressionNode parse(String expression) {
+    if (expression == null || expression.isBlank()) {
+      throw new IllegalArgumentException("Route expression must not be blank");
+    }
+
+    var parser = new RouteExpressionParser(expression);
+    var result = parser.parseLogical(OR, () -> parser.parseLogical(AND, parser::parseUnary));
+    parser.skipWhitespaces();
+    if (parser.position < expression.length()) {
+      throw parser.syntaxError("Unexpected character '" + expression.charAt(parser.position) + "'");
+    }
+
+    return result;
+  }
+
+  private ExpressionNode parseLogical(BoolOperator operator, Supplier<ExpressionNode> operandParser) {
+    var operands = new ArrayList<ExpressionNode>();
+    operands.add(operandParser.get());
+    while (consume(operator.getStringValue())) {
+      operands.add(operandParser.get());
+    }
+
+    return operands.size() == 1 ? operands.getFirst() : new Logical(operator, operands);
+  }
+
+  private ExpressionNode parseUnary() {
+    if (consume("!")) {
+      return new Not(parseUnary());
+    }
+
+    if (consume("(")) {
+      var expression = parseLogical(OR, () -> parseLogical(AND, this::parseUnary));
+      if (!consume(")")) {
+        throw syntaxError("Expected ')'");
+      }
+
+      return new Group(expression);
+    }
+
+    return new Comparison(readField(), readOperator(), readValue());
+  }
+
+  private String readField() {
+    skipWhitespaces();
+    var start = position;
+    while (position < source.length() && isFieldCharacter(source.charAt(position))) {
+      position++;
+    }
+
+    if (start == position) {
+      throw syntaxError("Expected field");
+    }
+
+    var field = source.substring(start, position);
+    if (position < source.length() && source.charAt(position) == '(') {
+      position++;
+      var argument = readField();
+      if (!consume(")")) {
+        throw syntaxError("Expected ')' after transformation argument");
+      }
+
+      return field + "(" + argument + ")";
+    }
+
+    return field;
+  }
+
+  private String readOperator() {
+    skipWhitespaces();
+    for (var operator : SYMBOL_OPERATORS) {
+      if (source.startsWith(operator, position)) {
+        position += operator.length();
+        return operator;
+      }
+    }
+
+    var start = position;
+    if (consumeWord("not") && consumeWord("in")) {
+      return "not in";
+    }
+
+    position = start;
+    for (var operator : WORD_OPERATORS) {
+      if (consumeWord(operator)) {
+        return operator;
+      }
+    }
+
+    throw syntaxError("Expected operator");
+  }
+
+  private String readValue() {
+    skipWhitespaces();
+    var start = position;
+    if (source.startsWith("r#\"", position)) {
+      var end = source.indexOf("\"#", position + 3);
+      if (end < 0) {
+        throw syntaxError("Unterminated raw string");
+      }
+
+      position = end + 2;
+      return source.substring(start, position);
+    }
+
+    if (position < source.length() && source.charAt(position) == '"') {
+      position++;
+      while (position < source.length() && source.charAt(position) != '"') {
+        position += source.charAt(position) == '\\' ? 2 : 1;
+      }
+
+      if (position >= source.length()) {
+        throw syntaxError("Unterminated string");
+      }
+
+      position++;
+      return source.substring(start, position);
+    }
+
+    while (position < source.length() && !Character.isWhitespace(source.charAt(position))
+      && source.charAt(position) != ')') {
+      position++;
+    }
+
+    if (start == position) {
+      throw syntaxError("Expected value");
+    }
+
+    return source.substring(start, position);
+  }
+
+  private boolean consume(String token) {
+    skipWhitespaces();
+    if (source.startsWith(token, position)) {
+      position += token.length();
+      return true;
+    }
+
+    return false;
+  }
+
+  private boolean consumeWord(String word) {
+    skipWhitespaces();
+    var end = position + word.length();
+    if (source.startsWith(word, position) && (end == source.length() || Character.isWhitespace(source.charAt(end)))) {
+      position = end;
+      return true;
+    }
+
+    return false;
+  }
+
+  private void skipWhitespaces() {
+    while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+      position++;
+    }
+  }
+
+  private IllegalArgumentException syntaxError(String message) {
+    return new IllegalArgumentException(message + " at position " + position + ": " + source);
+  }
+
+  private static boolean isFieldCharacter(char character) {
+    return Character.isLetterOrDigit(character) || character == '.' || character == '_' || character == '-';
+  }
+}
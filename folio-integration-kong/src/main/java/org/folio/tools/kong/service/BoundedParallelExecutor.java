@@ -0,0 +1,105 @@
+package org.folio.tools.kong.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Applies a task to a collection of items on virtual threads, with at most {@code parallelism} tasks running at once.
+ *
+ * <p>Permits are shared by all concurrent {@link #map(Collection, Function)} calls of the same executor, so nested
+ * use (e.g. routes of several modules synchronized in parallel) is bounded by a single limit. Results are returned in
+ * the order of items. An executor with parallelism {@code 1} runs tasks on the calling thread.</p>
+ */
+final class BoundedParallelExecutor {
+
+  private final int parallelism;
+  private final Semaphore permits;
+
+  /**
+   * Creates bounded parallel executor.
+   *
+   * @param parallelism - maximum number of tasks running at once
+   * @throws IllegalArgumentException - if parallelism is not positive
+   */
+  BoundedParallelExecutor(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+
+    this.parallelism = parallelism;
+    this.permits = new Semaphore(parallelism);
+  }
+
+  /**
+   * Creates executor running tasks one after another on the calling thread.
+   *
+   * @return {@link BoundedParallelExecutor} object
+   */
+  static BoundedParallelExecutor sequential() {
+    return new BoundedParallelExecutor(1);
+  }
+
+  /**
+   * Applies task to every item and waits for all tasks to complete.
+   *
+   * @param items - items to process
+   * @param task - task to apply
+   * @param <T> - item type
+   * @param <R> - result type
+   * @return {@link List} with task results in the order of items
+   * @throws RuntimeException - the first task error in the order of items, once all tasks are completed
+   */
+  <T, R> List<R> map(Collection<T> items, Function<T, R> task) {
+    if (parallelism == 1 || items.size() < 2) {
+      return items.stream().map(task).toList();
+    }
+
+    var futures = new ArrayList<Future<R>>(items.size());
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var item : items) {
+        futures.add(executor.submit(() -> execute(item, task)));
+      }
+    }
+
+    var results = new ArrayList<R>(futures.size());
+    for (var future : futures) {
+      results.add(getResult(future));
+    }
+
+    return results;
+  }
+
+  private <T, R> R execute(T item, Function<T, R> task) throws InterruptedException {
+    permits.acquire();
+    try {
+      return task.apply(item);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static <R> R getResult(Future<R> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for task result", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+
+      throw new IllegalStateException("Task failed", e.getCause());
+    }
+  }
+}
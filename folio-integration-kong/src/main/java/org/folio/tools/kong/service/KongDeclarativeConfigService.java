@@ -0,0 +1,116 @@
+package org.folio.tools.kong.service;
+
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.error.Parameter;
+import org.folio.tools.kong.client.KongAdminClient;
+import org.folio.tools.kong.exception.KongIntegrationException;
+import org.folio.tools.kong.model.DeclarativeConfig;
+import org.folio.tools.kong.model.DeclarativeConfig.ServiceConfig;
+import org.folio.tools.kong.model.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Renders services and routes of module descriptors into a single Kong declarative configuration, which is loaded
+ * by Kong with one request instead of a request per service and route.
+ *
+ * <p>Routes are built by {@link KongGatewayService#getRoutes(ModuleDescriptor)}, so they are equal to the routes
+ * created by {@link KongGatewayService#addRoutes(Collection)}. Tenants entitled to a module are rendered into the
+ * tenant clause of its routes, since the loaded configuration cannot be edited per route afterwards.</p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class KongDeclarativeConfigService {
+
+  private final KongGatewayService kongGatewayService;
+  private final KongRouteTenantService kongRouteTenantService;
+  private final KongAdminClient kongAdminClient;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Renders declarative configuration for module descriptors.
+   *
+   * @param moduleDescriptors - {@link Collection} with {@link ModuleDescriptor} objects to be processed
+   * @param serviceProvider - provides Kong service (upstream URL, timeouts) for a module descriptor, service name
+   *   defaults to the module id
+   * @param tenantsProvider - provides tenants entitled to a module descriptor, routes of a module without tenants
+   *   keep the wildcard tenant clause
+   * @return {@link DeclarativeConfig} object with a service per module descriptor
+   */
+  public DeclarativeConfig render(Collection<ModuleDescriptor> moduleDescriptors,
+    Function<ModuleDescriptor, Service> serviceProvider,
+    Function<ModuleDescriptor, Collection<String>> tenantsProvider) {
+    var services = new ArrayList<ServiceConfig>();
+    var routesCount = 0;
+    for (var moduleDescriptor : emptyIfNull(moduleDescriptors)) {
+      var service = serviceProvider.apply(moduleDescriptor);
+      if (service.getName() == null) {
+        service.name(moduleDescriptor.getId());
+      }
+
+      var routes = kongGatewayService.getRoutes(moduleDescriptor);
+      var tenants = tenantsProvider.apply(moduleDescriptor);
+      if (isNotEmpty(tenants)) {
+        routes.forEach(route -> kongRouteTenantService.updateTenants(route, tenants, null));
+      }
+
+      routesCount += routes.size();
+      services.add(ServiceConfig.of(service, routes));
+    }
+
+    log.info("Declarative configuration is rendered: services = {}, routes = {}", services.size(), routesCount);
+    return new DeclarativeConfig().services(services);
+  }
+
+  /**
+   * Replaces Kong configuration with the given declarative configuration in a single request.
+   *
+   * @param config - {@link DeclarativeConfig} object to load
+   * @throws KongIntegrationException if Kong rejected the configuration
+   */
+  public void apply(DeclarativeConfig config) {
+    try {
+      kongAdminClient.loadDeclarativeConfig(config);
+      log.info("Declarative configuration is loaded to Kong: services = {}", config.getServices().size());
+    } catch (Exception e) {
+      log.warn("Failed to load declarative configuration to Kong", e);
+      var parameters = List.of(new Parameter().key("cause").value(e.getMessage()));
+      throw new KongIntegrationException("Failed to load declarative configuration", parameters, e);
+    }
+  }
+
+  /**
+   * Writes declarative configuration to a JSON file, which can be used as Kong {@code declarative_config}.
+   *
+   * @param config - {@link DeclarativeConfig} object to write
+   * @param path - target file path, parent directories are created if missing
+   * @throws IllegalStateException if the file cannot be written
+   */
+  public void write(DeclarativeConfig config, Path path) {
+    try {
+      var parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      try (var outputStream = Files.newOutputStream(path)) {
+        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(outputStream, config);
+      }
+
+      log.info("Declarative configuration is written: path = {}", path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write declarative configuration: " + path, e);
+    }
+  }
+}
@@ -1,10 +1,7 @@
 package org.folio.tools.kong.service;
 
 import static java.util.Collections.emptyList;
-import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toCollection;
-import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.codec.digest.DigestUtils.sha1Hex;
 import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
@@ -24,12 +21,10 @@ import static org.springframework.util.ObjectUtils.nullSafeEquals;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -63,6 +58,21 @@ public class KongGatewayService {
 
   private final KongAdminClient kongAdminClient;
   private final KongRouteTenantService kongRouteTenantService;
+  private BoundedParallelExecutor moduleExecutor = BoundedParallelExecutor.sequential();
+  private BoundedParallelExecutor routeExecutor = BoundedParallelExecutor.sequential();
+
+  /**
+   * Sets the number of modules and routes synchronized with Kong at once, route calls are limited across all modules.
+   * Modules and routes are synchronized one after another by default.
+   *
+   * @param moduleParallelism - maximum number of modules processed at once
+   * @param routeParallelism - maximum number of route calls to Kong Admin API at once
+   * @throws IllegalArgumentException - if any of values is not positive
+   */
+  public void setParallelism(int moduleParallelism, int routeParallelism) {
+    this.moduleExecutor = new BoundedParallelExecutor(moduleParallelism);
+    this.routeExecutor = new BoundedParallelExecutor(routeParallelism);
+  }
 
   /**
    * Adds routes for API Gateway.
@@ -94,6 +104,16 @@ public class KongGatewayService {
     performOperation(moduleDescriptors, "remove", md -> removeKongRoutes(md.getId()));
   }
 
+  /**
+   * Builds routes for a module descriptor, as they are created in Kong by {@link #addRoutes(Collection)}.
+   *
+   * @param moduleDescriptor - {@link ModuleDescriptor} object to be processed
+   * @return {@link List} with {@link Route} objects
+   */
+  public List<Route> getRoutes(ModuleDescriptor moduleDescriptor) {
+    return mapItems(prepareRoutes(moduleDescriptor, moduleDescriptor.getId()), Pair::getLeft);
+  }
+
   /**
    * Adds a tenant to all routes for a specific module.
    *
@@ -160,6 +180,68 @@ public class KongGatewayService {
     }
   }
 
+  /**
+   * Adds and removes tenants for all routes of the given modules. Routes of each module are loaded once, each route
+   * expression is rewritten once for all tenants and only routes with a changed expression are upserted.
+   *
+   * @param moduleIds - the module identifiers
+   * @param tenantsToAdd - the tenant names to add, nullable
+   * @param tenantsToRemove - the tenant names to remove, nullable
+   * @throws TenantRouteUpdateException if the input is invalid or the operation fails for any module or route
+   */
+  public void updateTenantsInModuleRoutes(Collection<String> moduleIds, Collection<String> tenantsToAdd,
+    Collection<String> tenantsToRemove) {
+    log.info("Updating tenants in routes: modules = {}, tenantsToAdd = {}, tenantsToRemove = {}",
+      moduleIds, tenantsToAdd, tenantsToRemove);
+    validateTenantBatchInput(moduleIds, tenantsToAdd, tenantsToRemove);
+
+    var failures = new ArrayList<String>();
+    for (var moduleFailures : moduleExecutor.map(moduleIds,
+      moduleId -> updateTenantsInRoutes(moduleId, tenantsToAdd, tenantsToRemove))) {
+      failures.addAll(moduleFailures);
+    }
+
+    if (!failures.isEmpty()) {
+      throw new TenantRouteUpdateException(
+        "Failed to update tenants in routes for modules " + moduleIds + ". Failures: " + String.join(", ", failures));
+    }
+  }
+
+  private List<String> updateTenantsInRoutes(String moduleId, Collection<String> tenantsToAdd,
+    Collection<String> tenantsToRemove) {
+    try {
+      var serviceId = getExistingServiceId(moduleId);
+      var routes = toStream(getKongRoutes(moduleId))
+        .filter(Objects::nonNull)
+        .filter(route -> isNotBlank(route.getExpression()))
+        .toList();
+      var changedRoutes = routes.stream()
+        .filter(route -> kongRouteTenantService.updateTenants(route, tenantsToAdd, tenantsToRemove))
+        .toList();
+
+      var failedRoutes = routeExecutor.map(changedRoutes, route -> upsertTenantRoute(serviceId, route)).stream()
+        .flatMap(Optional::stream)
+        .toList();
+
+      log.info("Tenants are updated in routes: moduleId = {}, routes = {}, updated = {}, failed = {}",
+        moduleId, routes.size(), changedRoutes.size() - failedRoutes.size(), failedRoutes.size());
+      return mapItems(failedRoutes, routeName -> moduleId + "/" + routeName);
+    } catch (Exception e) {
+      log.error("Failed to update tenants in routes for module [{}]: {}", moduleId, e.getMessage());
+      return List.of(moduleId + ": " + e.getMessage());
+    }
+  }
+
+  private Optional<String> upsertTenantRoute(String serviceId, Route route) {
+    try {
+      kongAdminClient.upsertRoute(serviceId, route.getName(), route);
+      return Optional.empty();
+    } catch (Exception e) {
+      log.error("Failed to update tenants in route [{}]: {}", route.getName(), e.getMessage());
+      return Optional.of(route.getName());
+    }
+  }
+
   private List<String> addTenantToRoutes(List<Route> routes, String tenantName, String serviceId) {
     var failedRoutes = new ArrayList<String>();
     for (var route : routes) {
@@ -252,8 +334,8 @@ public class KongGatewayService {
   private void performOperation(Collection<ModuleDescriptor> moduleDescriptors, String operation,
     Function<ModuleDescriptor, Collection<Parameter>> moduleOperation) {
     var allErrors = new ArrayList<Parameter>();
-    for (var moduleDescriptor : emptyIfNull(moduleDescriptors)) {
-      allErrors.addAll(moduleOperation.apply(moduleDescriptor));
+    for (var moduleErrors : moduleExecutor.map(emptyIfNull(moduleDescriptors), moduleOperation)) {
+      allErrors.addAll(moduleErrors);
     }
 
     if (isNotEmpty(allErrors)) {
@@ -264,50 +346,40 @@ public class KongGatewayService {
   private List<Parameter> updateRoutesForModule(ModuleDescriptor moduleDescriptor) {
     var moduleId = moduleDescriptor.getId();
     var serviceId = getExistingServiceId(moduleId);
-    var existingRouteNames = getKongRoutes(moduleId).stream()
-      .map(Route::getName)
-      .collect(toCollection(LinkedHashSet::new));
-
+    var existingRoutes = getKongRoutes(moduleId);
     var routes = prepareRoutes(moduleDescriptor, moduleId);
-    var newRoutesCreationErrors = createNewKongRoutes(routes, existingRouteNames, serviceId);
-
-    var routeNames = routes.stream()
-      .map(pair -> pair.getLeft().getName())
-      .collect(toSet());
-
-    var deprecatedRoutesDeletionErrors = deleteDeprecatedKongRoutes(existingRouteNames, routeNames, serviceId);
-
-    var resultErrorParameters = new ArrayList<>(newRoutesCreationErrors);
-    resultErrorParameters.addAll(deprecatedRoutesDeletionErrors);
-
+    var reconciliation = RouteReconciliation.of(routes, existingRoutes, this::applyExistingTenants);
+
+    var routesToUpsert = new ArrayList<>(reconciliation.created());
+    routesToUpsert.addAll(reconciliation.changed());
+    var resultErrorParameters = new ArrayList<>(collectErrors(routeExecutor.map(routesToUpsert,
+      pair -> createKongRoute(serviceId, pair.getLeft(), pair.getRight()))));
+    resultErrorParameters.addAll(collectErrors(routeExecutor.map(reconciliation.deprecated(),
+      routeName -> deleteRoute(serviceId, routeName))));
+
+    log.info("Routes are reconciled: moduleId = {}, unchanged = {}, changed = {}, new = {}, deprecated = {}, "
+        + "skipped calls = {}", moduleId, reconciliation.unchanged().size(), reconciliation.changed().size(),
+      reconciliation.created().size(), reconciliation.deprecated().size(), reconciliation.skippedCalls());
     return resultErrorParameters;
   }
 
-  private List<Parameter> createNewKongRoutes(List<Pair<Route, RoutingEntry>> routes,
-    LinkedHashSet<String> existingRouteNames, String serviceId) {
-    return toStream(routes)
-      .filter(not(pair -> existingRouteNames.contains(pair.getLeft().getName())))
-      .map(pair -> createKongRoute(serviceId, pair.getLeft(), pair.getRight()))
-      .flatMap(Optional::stream)
-      .toList();
-  }
+  /**
+   * Applies tenants entitled to the existing route to the desired route, so an update keeps tenant clauses.
+   */
+  private Route applyExistingTenants(Route route, Route existingRoute) {
+    var tenants = kongRouteTenantService.getTenants(existingRoute);
+    if (!tenants.isEmpty()) {
+      kongRouteTenantService.updateTenants(route, tenants, null);
+    }
 
-  private List<Parameter> deleteDeprecatedKongRoutes(LinkedHashSet<String> existingRouteNames, Set<String> routeNames,
-    String serviceId) {
-    return toStream(existingRouteNames)
-      .filter(not(routeNames::contains))
-      .map(routeName -> deleteRoute(serviceId, routeName))
-      .flatMap(Optional::stream)
-      .toList();
+    return route;
   }
 
   private List<Parameter> addRoutesForModule(ModuleDescriptor moduleDescriptor) {
     var moduleId = moduleDescriptor.getId();
     var serviceId = getExistingServiceId(moduleId);
-    return prepareRoutes(moduleDescriptor, moduleId).stream()
-      .map(kongRoutePair -> createKongRoute(serviceId, kongRoutePair.getLeft(), kongRoutePair.getRight()))
-      .flatMap(Optional::stream)
-      .toList();
+    return collectErrors(routeExecutor.map(prepareRoutes(moduleDescriptor, moduleId),
+      kongRoutePair -> createKongRoute(serviceId, kongRoutePair.getLeft(), kongRoutePair.getRight())));
   }
 
   private List<Pair<Route, RoutingEntry>> prepareRoutes(ModuleDescriptor desc, String moduleId) {
@@ -375,10 +447,8 @@ public class KongGatewayService {
 
   private List<Parameter> removeKongRoutes(String moduleId) {
     var serviceId = getExistingServiceId(moduleId);
-    return getKongRoutes(moduleId).stream()
-      .map(kongRoute -> deleteRoute(serviceId, kongRoute.getId()))
-      .flatMap(Optional::stream)
-      .toList();
+    return collectErrors(routeExecutor.map(getKongRoutes(moduleId),
+      kongRoute -> deleteRoute(serviceId, kongRoute.getId())));
   }
 
   private Optional<Parameter> deleteRoute(String serviceId, String routeIdOrName) {
@@ -445,6 +515,12 @@ public class KongGatewayService {
     return Pair.of(staticPath, 1);
   }
 
+  private static List<Parameter> collectErrors(List<Optional<Parameter>> results) {
+    return results.stream()
+      .flatMap(Optional::stream)
+      .toList();
+  }
+
   private static String asString(Object re) {
     return re.toString().replace("\n", "\\n");
   }
@@ -477,6 +553,18 @@ public class KongGatewayService {
     }
   }
 
+  private static void validateTenantBatchInput(Collection<String> moduleIds, Collection<String> tenantsToAdd,
+    Collection<String> tenantsToRemove) {
+    var hasBlankValues = Stream.of(moduleIds, tenantsToAdd, tenantsToRemove)
+      .filter(Objects::nonNull)
+      .flatMap(Collection::stream)
+      .anyMatch(StringUtils::isBlank);
+    if (CollectionUtils.isEmpty(moduleIds) || hasBlankValues) {
+      throw new TenantRouteUpdateException("Failed to update tenants in routes for modules " + moduleIds + ". "
+        + "Module ids must be provided, module ids and tenant names must be non-blank strings.");
+    }
+  }
+
   private static void validateTenantChangeInput(String tenantName, String moduleId, String operation) {
     if (isBlank(tenantName) || isBlank(moduleId)) {
       throw new IllegalStateException(
@@ -1,47 +1,45 @@
 package org.folio.tools.kong.service;
 
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.tools.kong.model.operator.BoolOperator.AND;
+import static org.folio.tools.kong.model.operator.BoolOperator.OR;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.tools.kong.model.Route;
-
+import org.folio.tools.kong.model.expression.ExpressionNode;
+import org.folio.tools.kong.model.expression.ExpressionNode.Comparison;
+import org.folio.tools.kong.model.expression.ExpressionNode.Group;
+import org.folio.tools.kong.model.expression.ExpressionNode.Logical;
+import org.folio.tools.kong.model.expression.RouteExpressionParser;
+
+/**
+ * Adds and removes tenants of route expressions.
+ *
+ * <p>Tenants are kept in a tenant clause: one or multiple header equality checks joined by {@code ||}, wrapped in
+ * parentheses, e.g. {@code (http.headers.x_okapi_tenant == "t1" || http.headers.x_okapi_tenant == "t2")}. A route
+ * without tenants has the wildcard tenant expression {@code http.headers.x_okapi_tenant ~ r#".*"#} instead.</p>
+ *
+ * <p>Expressions are edited as {@link ExpressionNode} trees and printed in the canonical form. Parsed trees are cached
+ * by route id, so repeated edits of the same route do not parse its expression again.</p>
+ */
 @Log4j2
 @RequiredArgsConstructor
 public class KongRouteTenantService {
 
   private static final String TENANT_HEADER = "http.headers.x_okapi_tenant";
-  private static final String WILDCARD_TENANT_EXPRESSION = "http.headers.x_okapi_tenant ~ r#\".*\"#";
-
-  // Matches a tenant clause consisting of one or multiple header equality checks joined by ||, wrapped in parentheses.
-  // Examples that will match:
-  //   (http.headers.x_okapi_tenant == "t1")
-  //   (http.headers.x_okapi_tenant == "t1" || http.headers.x_okapi_tenant == "t2")
-  private static final Pattern TENANT_CLAUSE_PATTERN = Pattern.compile(
-    "\\(" // opening parenthesis (required)
-      + "\\s*" + Pattern.quote(TENANT_HEADER) + "\\s*==\\s*\"[^\"]+\"" // first comparison
-      + "(?:\\s*\\|\\|\\s*" + Pattern.quote(TENANT_HEADER) + "\\s*==\\s*\"[^\"]+\")*" // additional comparisons
-      + "\\s*" + "\\)" // closing parenthesis (required)
-  );
-
-  // Pattern to match a single tenant equality check
-  private static final Pattern SINGLE_TENANT_PATTERN = Pattern.compile(
-    Pattern.quote(TENANT_HEADER) + "\\s*==\\s*\"([^\"]+)\""
-  );
-
-  // Pattern to match wildcard tenant expression (used for checking existence)
-  private static final Pattern WILDCARD_TENANT_PATTERN = Pattern.compile(
-    Pattern.quote(TENANT_HEADER) + "\\s*~\\s*r#\".*\"#"
-  );
-
-  // Pattern to match wildcard tenant expression with optional surrounding whitespace and parentheses
-  // Used for replacement operations
-  private static final Pattern WILDCARD_REPLACEMENT_PATTERN = Pattern.compile(
-    "\\s*\\(?\\s*" + Pattern.quote(TENANT_HEADER) + "\\s*~\\s*r#\".*\"#\\s*\\)?"
-  );
+  private static final Comparison WILDCARD_TENANT = new Comparison(TENANT_HEADER, "~", "r#\".*\"#");
+  private static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+  private final Map<String, ParsedExpression> parsedExpressions = new ConcurrentHashMap<>();
 
   /**
    * Adds a tenant to the route expression. If the tenant already exists in the expression, no changes are made.
@@ -51,22 +49,35 @@ public class KongRouteTenantService {
    * @return the updated route with the tenant added to the expression
    */
   public Route addTenant(Route route, String tenantId) {
-    if (!isValidInput(route, tenantId)) {
+    if (!isValidInput(route, tenantId) || !isValidExpression(route.getExpression(), route.getId())) {
       return route;
     }
 
-    var expression = route.getExpression();
-    if (!isValidExpression(expression, route.getId())) {
+    log.debug("Adding tenant [{}] to route [id: {}, expression: {}]", tenantId, route.getId(), route.getExpression());
+    var tree = parse(route);
+    if (tree == null) {
       return route;
     }
 
-    log.debug("Adding tenant [{}] to route [id: {}, expression: {}]", tenantId, route.getId(), expression);
+    var wildcard = findWildcard(tree);
+    if (wildcard != null) {
+      log.debug("Route expression contains wildcard tenant pattern, replacing with specific tenant");
+      return update(route, tree.replace(wildcard, createTenantClause(List.of(tenantId))));
+    }
+
+    var tenantClause = findTenantClause(tree);
+    if (tenantClause == null) {
+      return update(route, appendTenantClause(tree, createTenantClause(List.of(tenantId))));
+    }
 
-    if (containsWildcardPattern(expression)) {
-      return replaceWildcardPattern(route, expression, tenantId);
+    var tenants = extractTenants(tenantClause);
+    if (tenants.contains(tenantId)) {
+      log.debug("Tenant [{}] already exists in route expression", tenantId);
+      return route;
     }
 
-    return addTenantToExpression(route, expression, tenantId);
+    tenants.add(tenantId);
+    return update(route, tree.replace(tenantClause, createTenantClause(tenants)));
   }
 
   /**
@@ -77,224 +88,222 @@ public class KongRouteTenantService {
    * @return the updated route with the tenant removed from the expression
    */
   public Route removeTenant(Route route, String tenantId) {
-    if (!isValidInput(route, tenantId)) {
+    if (!isValidInput(route, tenantId) || !isValidExpression(route.getExpression(), route.getId())) {
       return route;
     }
 
-    var expression = route.getExpression();
-    if (!isValidExpression(expression, route.getId())) {
+    log.debug("Removing tenant [{}] from route [id: {}, expression: {}]", tenantId, route.getId(),
+      route.getExpression());
+    var tree = parse(route);
+    if (tree == null) {
       return route;
     }
 
-    log.debug("Removing tenant [{}] from route [id: {}, expression: {}]", tenantId, route.getId(), expression);
-
-    if (containsWildcardPattern(expression)) {
+    if (findWildcard(tree) != null) {
       log.debug("Route expression contains wildcard tenant pattern, cannot remove specific tenant");
       return route;
     }
 
-    return removeTenantFromExpression(route, expression, tenantId);
+    var tenantClause = findTenantClause(tree);
+    if (tenantClause == null) {
+      log.debug("Route expression does not contain tenant clause, nothing to remove");
+      return route;
+    }
+
+    var tenants = extractTenants(tenantClause);
+    if (!tenants.remove(tenantId)) {
+      log.debug("Tenant [{}] does not exist in route expression", tenantId);
+      return route;
+    }
+
+    return update(route, tree.replace(tenantClause, createTenantClause(tenants)));
   }
 
-  private static boolean isValidInput(Route route, String tenantId) {
-    if (route == null || isBlank(tenantId)) {
-      log.warn("Cannot process tenant: route or tenantId is null/blank");
+  /**
+   * Adds and removes tenants of the route expression with a single rewrite of the tenant clause. Tenants to remove are
+   * removed before tenants to add are added, so a tenant present in both collections stays in the expression.
+   *
+   * @param route - the route to update, its expression is changed in place
+   * @param tenantsToAdd - tenant identifiers to add, nullable
+   * @param tenantsToRemove - tenant identifiers to remove, nullable
+   * @return true if the route expression is changed
+   */
+  public boolean updateTenants(Route route, Collection<String> tenantsToAdd, Collection<String> tenantsToRemove) {
+    if (route == null || !isValidExpression(route.getExpression(), route.getId())) {
       return false;
     }
-    return true;
-  }
 
-  private static boolean isValidExpression(String expression, String routeId) {
-    if (isBlank(expression)) {
-      log.warn("Cannot process tenant for route [id: {}]: expression is null/blank", routeId);
+    var tree = parse(route);
+    if (tree == null) {
       return false;
     }
+
+    var tenantClause = findTenantClause(tree);
+    var currentTenants = tenantClause != null ? extractTenants(tenantClause) : new LinkedHashSet<String>();
+    var tenants = new LinkedHashSet<>(currentTenants);
+    emptyIfNull(tenantsToRemove).forEach(tenants::remove);
+    emptyIfNull(tenantsToAdd).stream().filter(StringUtils::isNotBlank).forEach(tenants::add);
+    if (tenants.equals(currentTenants)) {
+      return false;
+    }
+
+    var wildcard = findWildcard(tree);
+    if (tenantClause != null) {
+      update(route, tree.replace(tenantClause, createTenantClause(tenants)));
+    } else if (wildcard != null) {
+      update(route, tree.replace(wildcard, createTenantClause(tenants)));
+    } else {
+      update(route, appendTenantClause(tree, createTenantClause(tenants)));
+    }
+
     return true;
   }
 
   /**
-   * Checks if the expression contains a wildcard tenant pattern.
-   * Uses Pattern.find() to avoid catastrophic backtracking issues.
+   * Provides tenants of the route expression tenant clause.
+   *
+   * @param route - the route to process
+   * @return {@link List} with tenant identifiers in the order of the clause, empty if the route accepts any tenant
    */
-  private static boolean containsWildcardPattern(String expression) {
-    return WILDCARD_TENANT_PATTERN.matcher(expression).find();
-  }
+  public List<String> getTenants(Route route) {
+    if (route == null || isBlank(route.getExpression())) {
+      return List.of();
+    }
 
-  private static Route replaceWildcardPattern(Route route, String expression, String tenantId) {
-    log.debug("Route expression contains wildcard tenant pattern, replacing with specific tenant");
-    var updatedExpression = replaceWildcardWithTenant(expression, tenantId);
-    route.setExpression(updatedExpression);
-    log.debug("Updated route expression: {}", updatedExpression);
-    return route;
+    var tree = parse(route);
+    var tenantClause = tree != null ? findTenantClause(tree) : null;
+    return tenantClause != null ? List.copyOf(extractTenants(tenantClause)) : List.of();
   }
 
-  private static Route addTenantToExpression(Route route, String expression, String tenantId) {
-    var matcher = TENANT_CLAUSE_PATTERN.matcher(expression);
-    if (matcher.find()) {
-      var tenantClause = matcher.group();
-
-      if (containsTenant(tenantClause, tenantId)) {
-        log.debug("Tenant [{}] already exists in route expression", tenantId);
-        return route;
-      }
+  /**
+   * Parses route expression, reusing the tree cached for the route id if the expression is not changed since.
+   */
+  private ExpressionNode parse(Route route) {
+    var routeId = route.getId();
+    var expression = route.getExpression();
+    var cached = routeId != null ? parsedExpressions.get(routeId) : null;
+    if (cached != null && cached.expression().equals(expression)) {
+      return cached.tree();
+    }
 
-      var updatedClause = addTenantToClause(tenantClause, tenantId);
-      var updatedExpression = expression.replace(tenantClause, updatedClause);
-      route.setExpression(updatedExpression);
-      log.debug("Updated route expression: {}", updatedExpression);
-      return route;
+    try {
+      var tree = RouteExpressionParser.parse(expression);
+      cache(routeId, expression, tree);
+      return tree;
+    } catch (IllegalArgumentException e) {
+      log.warn("Cannot process tenant for route [id: {}]: {}", routeId, e.getMessage());
+      return null;
     }
+  }
 
-    var tenantClause = createTenantClause(tenantId);
-    var updatedExpression = expression + " && " + tenantClause;
+  private Route update(Route route, ExpressionNode tree) {
+    var updatedExpression = tree.toString();
     route.setExpression(updatedExpression);
+    cache(route.getId(), updatedExpression, tree);
     log.debug("Updated route expression: {}", updatedExpression);
     return route;
   }
 
-  private static Route removeTenantFromExpression(Route route, String expression, String tenantId) {
-    var matcher = TENANT_CLAUSE_PATTERN.matcher(expression);
-    if (!matcher.find()) {
-      log.debug("Route expression does not contain tenant clause, nothing to remove");
-      return route;
-    }
-
-    var tenantClause = matcher.group();
-
-    if (!containsTenant(tenantClause, tenantId)) {
-      log.debug("Tenant [{}] does not exist in route expression", tenantId);
-      return route;
+  private void cache(String routeId, String expression, ExpressionNode tree) {
+    if (routeId != null && (parsedExpressions.size() < MAX_CACHED_EXPRESSIONS
+      || parsedExpressions.containsKey(routeId))) {
+      parsedExpressions.put(routeId, new ParsedExpression(expression, tree));
     }
+  }
 
-    var updatedClause = removeTenantFromClause(tenantClause, tenantId);
-
-    if (isBlank(updatedClause)) {
-      replaceTenantClauseWithPlaceholder(route, expression, tenantClause);
-    } else {
-      var updatedExpression = expression.replace(tenantClause, updatedClause);
-      route.setExpression(updatedExpression);
-      log.debug("Updated route expression: {}", updatedExpression);
+  private static boolean isValidInput(Route route, String tenantId) {
+    if (route == null || isBlank(tenantId)) {
+      log.warn("Cannot process tenant: route or tenantId is null/blank");
+      return false;
     }
-
-    return route;
+    return true;
   }
 
-  private static void replaceTenantClauseWithPlaceholder(Route route, String expression, String tenantClause) {
-    var wildcardClause = "(" + WILDCARD_TENANT_EXPRESSION + ")";
-    var updatedExpression = expression.replace(tenantClause, wildcardClause);
-    route.setExpression(updatedExpression);
-    log.debug("Replaced tenant clause with wildcard expression, updated route expression: {}", updatedExpression);
+  private static boolean isValidExpression(String expression, String routeId) {
+    if (isBlank(expression)) {
+      log.warn("Cannot process tenant for route [id: {}]: expression is null/blank", routeId);
+      return false;
+    }
+    return true;
   }
 
   /**
-   * Replaces wildcard tenant pattern with specific tenant clause.
+   * Finds the wildcard tenant expression, together with its parentheses if it is the only expression inside them.
    */
-  private static String replaceWildcardWithTenant(String expression, String tenantId) {
-    var matcher = WILDCARD_REPLACEMENT_PATTERN.matcher(expression);
-
-    if (matcher.find()) {
-      var matched = matcher.group();
-      var tenantClause = createTenantClause(tenantId);
-      var replacement = buildReplacement(matched, tenantClause);
-      return matcher.replaceFirst(replacement);
-    }
-
-    return expression;
+  private static ExpressionNode findWildcard(ExpressionNode tree) {
+    return tree.find(node -> WILDCARD_TENANT.equals(node)
+        || node instanceof Group group && WILDCARD_TENANT.equals(group.expression()))
+      .orElse(null);
   }
 
-  private static String buildReplacement(String matched, String tenantClause) {
-    var leadingSpace = extractLeadingWhitespace(matched);
-    var trimmed = matched.trim();
+  private static Group findTenantClause(ExpressionNode tree) {
+    return (Group) tree.find(KongRouteTenantService::isTenantClause).orElse(null);
+  }
 
-    if (trimmed.startsWith("(") && trimmed.endsWith(")")) {
-      return leadingSpace + tenantClause;
+  private static boolean isTenantClause(ExpressionNode node) {
+    if (!(node instanceof Group group)) {
+      return false;
     }
 
-    if (trimmed.endsWith(")")) {
-      return leadingSpace + tenantClause + ")";
+    if (group.expression() instanceof Logical logical) {
+      return logical.operator() == OR && logical.operands().stream().allMatch(KongRouteTenantService::isTenantCheck);
     }
 
-    return leadingSpace + tenantClause;
+    return isTenantCheck(group.expression());
   }
 
-  private static String extractLeadingWhitespace(String str) {
-    var leadingSpace = new StringBuilder();
-    for (int i = 0; i < str.length(); i++) {
-      char c = str.charAt(i);
-      if (c == ' ' || c == '\t') {
-        leadingSpace.append(c);
-      } else {
-        break;
-      }
-    }
-    return leadingSpace.toString();
+  private static boolean isTenantCheck(ExpressionNode node) {
+    return node instanceof Comparison comparison
+      && TENANT_HEADER.equals(comparison.field())
+      && "==".equals(comparison.operator())
+      && comparison.value().startsWith("\"");
   }
 
   /**
-   * Checks if a tenant exists in the tenant clause.
+   * Appends tenant clause to the expression using {@code &&}, top-level {@code ||} expression is wrapped into
+   * parentheses to keep its meaning.
    */
-  private static boolean containsTenant(String tenantClause, String tenantId) {
-    var matcher = SINGLE_TENANT_PATTERN.matcher(tenantClause);
-    while (matcher.find()) {
-      if (tenantId.equals(matcher.group(1))) {
-        return true;
-      }
+  private static ExpressionNode appendTenantClause(ExpressionNode tree, ExpressionNode tenantClause) {
+    if (tree instanceof Logical logical && logical.operator() == AND) {
+      var operands = new ArrayList<>(logical.operands());
+      operands.add(tenantClause);
+      return new Logical(AND, operands);
     }
-    return false;
-  }
 
-  /**
-   * Creates a new tenant clause with the given tenant ID.
-   */
-  private static String createTenantClause(String tenantId) {
-    return "(" + TENANT_HEADER + " == \"" + tenantId + "\")";
-  }
-
-  /**
-   * Adds a tenant to an existing tenant clause.
-   */
-  private static String addTenantToClause(String tenantClause, String tenantId) {
-    // Remove the closing parenthesis
-    var withoutClosing = tenantClause.substring(0, tenantClause.lastIndexOf(')'));
-    return withoutClosing + " || " + TENANT_HEADER + " == \"" + tenantId + "\")";
+    var operand = tree instanceof Logical ? new Group(tree) : tree;
+    return new Logical(AND, List.of(operand, tenantClause));
   }
 
   /**
-   * Removes a tenant from a tenant clause. Returns null if the clause becomes empty.
+   * Creates a tenant clause with the given tenants, or the wildcard tenant expression in parentheses if there are no
+   * tenants.
    */
-  private static String removeTenantFromClause(String tenantClause, String tenantId) {
-    var tenants = extractTenants(tenantClause);
-    tenants.remove(tenantId);
-
+  private static Group createTenantClause(Collection<String> tenants) {
     if (tenants.isEmpty()) {
-      return null;
+      return new Group(WILDCARD_TENANT);
     }
 
-    if (tenants.size() == 1) {
-      return createTenantClause(tenants.get(0));
+    var tenantChecks = new ArrayList<ExpressionNode>(tenants.size());
+    for (var tenant : tenants) {
+      tenantChecks.add(new Comparison(TENANT_HEADER, "==", "\"" + tenant + "\""));
     }
 
-    var clause = new StringBuilder("(");
-    for (int i = 0; i < tenants.size(); i++) {
-      if (i > 0) {
-        clause.append(" || ");
-      }
-      clause.append(TENANT_HEADER).append(" == \"").append(tenants.get(i)).append("\"");
-    }
-    clause.append(")");
-
-    return clause.toString();
+    return new Group(tenantChecks.size() == 1 ? tenantChecks.getFirst() : new Logical(OR, tenantChecks));
   }
 
   /**
    * Extracts all tenant IDs from a tenant clause.
    */
-  private static List<String> extractTenants(String tenantClause) {
-    var tenants = new ArrayList<String>();
-    var matcher = SINGLE_TENANT_PATTERN.matcher(tenantClause);
-    while (matcher.find()) {
-      tenants.add(matcher.group(1));
+  private static LinkedHashSet<String> extractTenants(Group tenantClause) {
+    var tenants = new LinkedHashSet<String>();
+    var expression = tenantClause.expression();
+    var tenantChecks = expression instanceof Logical logical ? logical.operands() : List.of(expression);
+    for (var tenantCheck : tenantChecks) {
+      var value = ((Comparison) tenantCheck).value();
+      tenants.add(value.substring(1, value.length() - 1));
     }
     return tenants;
   }
+
+  private record ParsedExpression(String expression, ExpressionNode tree) {}
 }
@@ -0,0 +1,98 @@
+package org.folio.tools.kong.service;
+
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.common.domain.model.RoutingEntry;
+import org.folio.tools.kong.model.Route;
+
+/**
+ * Classification of desired module routes against the routes existing in Kong.
+ *
+ * <p>Routes are matched by name, matched routes are compared by content hash of the fields managed by
+ * {@link KongGatewayService}: expression, priority, tags and {@code strip_path}. Tenants entitled to an existing
+ * route are applied to the desired route before comparison, so tenant clauses are neither reported as changes nor
+ * lost when a changed route is updated.</p>
+ *
+ * @param unchanged - desired routes equal to existing ones, no calls required
+ * @param changed - desired routes that differ from existing ones, with tenants of existing routes applied
+ * @param created - desired routes missing in Kong
+ * @param deprecated - names of existing routes that are not desired anymore
+ */
+record RouteReconciliation(List<Pair<Route, RoutingEntry>> unchanged, List<Pair<Route, RoutingEntry>> changed,
+  List<Pair<Route, RoutingEntry>> created, List<String> deprecated) {
+
+  /**
+   * Classifies desired routes against existing routes.
+   *
+   * @param desiredRoutes - routes built from module descriptor with their routing entries
+   * @param existingRoutes - routes loaded from Kong
+   * @param tenantMerger - applies tenants of the existing route (second argument) to the desired one (first argument)
+   * @return {@link RouteReconciliation} object
+   */
+  static RouteReconciliation of(List<Pair<Route, RoutingEntry>> desiredRoutes, List<Route> existingRoutes,
+    BiFunction<Route, Route, Route> tenantMerger) {
+    var existingRoutesByName = new LinkedHashMap<String, Route>();
+    for (var existingRoute : emptyIfNull(existingRoutes)) {
+      existingRoutesByName.putIfAbsent(existingRoute.getName(), existingRoute);
+    }
+
+    var unchanged = new ArrayList<Pair<Route, RoutingEntry>>();
+    var changed = new ArrayList<Pair<Route, RoutingEntry>>();
+    var created = new ArrayList<Pair<Route, RoutingEntry>>();
+    for (var desiredRoute : desiredRoutes) {
+      var route = desiredRoute.getLeft();
+      var existingRoute = existingRoutesByName.remove(route.getName());
+      if (existingRoute == null) {
+        created.add(desiredRoute);
+        continue;
+      }
+
+      var existingHash = getContentHash(existingRoute);
+      if (existingHash.equals(getContentHash(route))) {
+        unchanged.add(desiredRoute);
+        continue;
+      }
+
+      var mergedRoute = tenantMerger.apply(route, existingRoute);
+      if (existingHash.equals(getContentHash(mergedRoute))) {
+        unchanged.add(desiredRoute);
+      } else {
+        changed.add(Pair.of(mergedRoute, desiredRoute.getRight()));
+      }
+    }
+
+    return new RouteReconciliation(unchanged, changed, created, List.copyOf(existingRoutesByName.keySet()));
+  }
+
+  /**
+   * Provides stable hash of route content managed by {@link KongGatewayService}.
+   *
+   * @param route - route to process
+   * @return SHA-256 hex hash of route expression, priority, tags and {@code strip_path} flag
+   */
+  static String getContentHash(Route route) {
+    var tags = emptyIfNull(route.getTags()).stream()
+      .filter(Objects::nonNull)
+      .sorted()
+      .toList();
+
+    return sha256Hex(Objects.toString(route.getExpression(), "") + '\n' + route.getPriority() + '\n'
+      + String.join(",", tags) + '\n' + route.isStripPath());
+  }
+
+  /**
+   * Provides the number of Kong calls skipped because routes are unchanged.
+   *
+   * @return number of unchanged routes
+   */
+  int skippedCalls() {
+    return unchanged.size();
+  }
+}
@@ -0,0 +1,121 @@
+package org.folio.tools.kong.model.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tools.kong.model.expression.RouteExpressions.bool;
+import static org.folio.tools.kong.model.expression.RouteExpressions.combineUsingAnd;
+import static org.folio.tools.kong.model.expression.RouteExpressions.combineUsingOr;
+import static org.folio.tools.kong.model.expression.RouteExpressions.httpHeader;
+import static org.folio.tools.kong.model.expression.RouteExpressions.httpMethod;
+import static org.folio.tools.kong.model.expression.RouteExpressions.httpPath;
+import static org.folio.tools.kong.model.expression.RouteExpressions.netPort;
+import static org.folio.tools.kong.model.expression.RouteExpressions.netSrcIp;
+import static org.folio.tools.kong.model.operator.BoolOperator.AND;
+import static org.folio.tools.kong.model.operator.BoolOperator.OR;
+import static org.folio.tools.kong.model.transformation.StringTransformations.LOWER;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.folio.test.types.UnitTest;
+import org.folio.tools.kong.model.expression.ExpressionNode.Comparison;
+import org.folio.tools.kong.model.expression.ExpressionNode.Group;
+import org.folio.tools.kong.model.expression.ExpressionNode.Logical;
+import org.folio.tools.kong.model.expression.ExpressionNode.Not;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class RouteExpressionParserTest {
+
+  private static final Comparison PATH = new Comparison("http.path", "==", "\"/foo\"");
+  private static final Comparison GET = new Comparison("http.method", "==", "\"GET\"");
+  private static final Comparison POST = new Comparison("http.method", "==", "\"POST\"");
+
+  @DisplayName("parse_parameterized_canonicalForm")
+  @MethodSource("routeExpressionDataProvider")
+  @ParameterizedTest(name = "[{index}] given=''{0}''")
+  void parse_parameterized_canonicalForm(RouteExpression expression) {
+    var result = RouteExpressionParser.parse(expression.toString());
+    assertThat(result).hasToString(expression.toString());
+  }
+
+  @Test
+  void parse_positive_tree() {
+    var result = RouteExpressionParser.parse("(http.path == \"/foo\" && (http.method == \"GET\" "
+      + "|| http.method == \"POST\"))");
+
+    assertThat(result).isEqualTo(new Group(new Logical(AND, List.of(PATH, new Group(new Logical(OR, List.of(GET,
+      POST)))))));
+  }
+
+  @Test
+  void parse_positive_andBindsTighterThanOr() {
+    var result = RouteExpressionParser.parse("http.path == \"/foo\" || http.method == \"GET\" && !(tls.sni == \"a\")");
+
+    var negation = new Not(new Group(new Comparison("tls.sni", "==", "\"a\"")));
+    assertThat(result).isEqualTo(new Logical(OR, List.of(PATH, new Logical(AND, List.of(GET, negation)))));
+  }
+
+  @Test
+  void parse_positive_whitespacesNormalized() {
+    var result = RouteExpressionParser.parse(
+      "  ( http.path==\"/foo bar\"&&\thttp.headers.x_okapi_tenant  ~ r#\".*\"#)");
+    assertThat(result).hasToString("(http.path == \"/foo bar\" && http.headers.x_okapi_tenant ~ r#\".*\"#)");
+  }
+
+  @Test
+  void parse_positive_escapedQuote() {
+    var result = RouteExpressionParser.parse("http.path == \"/foo\\\"bar\"");
+    assertThat(result).isEqualTo(new Comparison("http.path", "==", "\"/foo\\\"bar\""));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "",
+    "  ",
+    "http.path",
+    "http.path ==",
+    "http.path == \"/foo",
+    "http.path ~ r#\"/foo",
+    "(http.path == \"/foo\"",
+    "http.path == \"/foo\")",
+    "http.path == \"/foo\" &&",
+    "lower(http.path == \"/foo\""
+  })
+  void parse_negative_invalidSyntax(String expression) {
+    assertThatThrownBy(() -> RouteExpressionParser.parse(expression))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void replace_positive_unchangedTreeIsSameInstance() {
+    var tree = RouteExpressionParser.parse("(http.path == \"/foo\" && http.method == \"GET\")");
+
+    assertThat(tree.replace(PATH, GET)).isSameAs(tree);
+
+    var path = tree.find(PATH::equals).orElseThrow();
+    assertThat(tree.replace(path, POST)).hasToString("(http.method == \"POST\" && http.method == \"GET\")");
+  }
+
+  private static Stream<Arguments> routeExpressionDataProvider() {
+    return Stream.of(
+      arguments(httpPath().equalsTo("/foo")),
+      arguments(httpPath().withTransformation(LOWER).prefixMatching("/foo")),
+      arguments(httpPath().contains("foo")),
+      arguments(netPort().greaterThanOrEqualsTo(1024)),
+      arguments(netSrcIp().in("10.0.0.0/8")),
+      arguments(netSrcIp().notIn("::1")),
+      arguments(bool(httpPath().suffixMatching("/foo")).or(httpMethod().notEqualsTo("GET"))),
+      arguments(combineUsingAnd(
+        httpPath().regexMatching("^/foo/([^/]+)$"),
+        combineUsingOr(httpMethod().equalsTo("GET"), httpMethod().equalsTo("POST")),
+        httpHeader("x-okapi-module-id").equalsTo("mod-foo-1.0.0"),
+        httpHeader("x-okapi-tenant").headerRegexMatching("\".*\"")))
+    );
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.tools.kong.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BoundedParallelExecutorTest {
+
+  @Test
+  void map_positive_resultsInItemOrder() {
+    var executor = new BoundedParallelExecutor(8);
+    var items = IntStream.range(0, 100).boxed().toList();
+
+    var result = executor.map(items, item -> {
+      sleep(100 - item);
+      return item * 2;
+    });
+
+    assertThat(result).isEqualTo(IntStream.range(0, 100).map(i -> i * 2).boxed().toList());
+  }
+
+  @Test
+  void map_positive_parallelismBounded() {
+    var executor = new BoundedParallelExecutor(4);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    executor.map(IntStream.range(0, 50).boxed().toList(), item -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(5);
+      return running.decrementAndGet();
+    });
+
+    assertThat(maxRunning.get()).isBetween(2, 4);
+  }
+
+  @Test
+  void map_positive_permitsSharedByNestedCalls() {
+    var moduleExecutor = new BoundedParallelExecutor(4);
+    var routeExecutor = new BoundedParallelExecutor(3);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    moduleExecutor.map(List.of(1, 2, 3, 4), module -> routeExecutor.map(IntStream.range(0, 10).boxed().toList(),
+      route -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(5);
+        return running.decrementAndGet();
+      }));
+
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void map_positive_sequentialOnCallingThread() {
+    var threads = ConcurrentHashMap.<Thread>newKeySet();
+
+    var result = BoundedParallelExecutor.sequential().map(List.of("a", "b"), item -> {
+      threads.add(Thread.currentThread());
+      return item.toUpperCase();
+    });
+
+    assertThat(result).containsExactly("A", "B");
+    assertThat(threads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  void map_negative_firstErrorRethrownAfterAllTasks() {
+    var executor = new BoundedParallelExecutor(4);
+    var completed = new AtomicInteger();
+
+    assertThatThrownBy(() -> executor.map(IntStream.range(0, 10).boxed().toList(), item -> {
+      if (item == 3 || item == 7) {
+        throw new IllegalStateException("Failed item: " + item);
+      }
+      sleep(5);
+      return completed.incrementAndGet();
+    }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed item: 3");
+
+    assertThat(completed.get()).isEqualTo(8);
+  }
+
+  @Test
+  void constructor_negative_nonPositiveParallelism() {
+    assertThatThrownBy(() -> new BoundedParallelExecutor(0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Parallelism must be positive: 0");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package org.folio.tools.kong.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.test.types.UnitTest;
+import org.folio.tools.kong.client.KongAdminClient;
+import org.folio.tools.kong.exception.KongIntegrationException;
+import org.folio.tools.kong.model.DeclarativeConfig;
+import org.folio.tools.kong.model.DeclarativeConfig.ServiceConfig;
+import org.folio.tools.kong.model.Route;
+import org.folio.tools.kong.model.Service;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.databind.json.JsonMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KongDeclarativeConfigServiceTest {
+
+  private static final String MODULE_ID = "mod-foo-1.0.0";
+  private static final String MODULE_URL = "http://mod-foo:8081";
+
+  private KongDeclarativeConfigService kongDeclarativeConfigService;
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+  @Mock private KongGatewayService kongGatewayService;
+  @Mock private KongRouteTenantService kongRouteTenantService;
+  @Mock private KongAdminClient kongAdminClient;
+
+  @BeforeEach
+  void setUp() {
+    kongDeclarativeConfigService = new KongDeclarativeConfigService(kongGatewayService, kongRouteTenantService,
+      kongAdminClient, jsonMapper);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(kongGatewayService, kongRouteTenantService, kongAdminClient);
+  }
+
+  @Test
+  void render_positive() {
+    var moduleDescriptor = new ModuleDescriptor().id(MODULE_ID);
+    when(kongGatewayService.getRoutes(moduleDescriptor)).thenReturn(List.of(route()));
+
+    var result = kongDeclarativeConfigService.render(List.of(moduleDescriptor),
+      md -> new Service().url(MODULE_URL), md -> List.of());
+
+    assertThat(result).isEqualTo(new DeclarativeConfig().services(List.of(
+      ServiceConfig.of(new Service().name(MODULE_ID).url(MODULE_URL), List.of(route())))));
+  }
+
+  @Test
+  void render_positive_entitledTenants() {
+    var moduleDescriptor = new ModuleDescriptor().id(MODULE_ID);
+    var route = route();
+    var tenants = List.of("diku", "test");
+    when(kongGatewayService.getRoutes(moduleDescriptor)).thenReturn(List.of(route));
+
+    var result = kongDeclarativeConfigService.render(List.of(moduleDescriptor),
+      md -> new Service().url(MODULE_URL), md -> tenants);
+
+    assertThat(result.getServices()).hasSize(1);
+    verify(kongRouteTenantService).updateTenants(route, tenants, null);
+  }
+
+  @Test
+  void render_positive_tenantClauseRendered() {
+    var service = new KongDeclarativeConfigService(kongGatewayService, new KongRouteTenantService(),
+      kongAdminClient, jsonMapper);
+    var moduleDescriptor = new ModuleDescriptor().id(MODULE_ID);
+    var route = new Route().name("route")
+      .expression("(http.path == \"/foo\" && http.headers.x_okapi_tenant ~ r#\".*\"#)");
+    when(kongGatewayService.getRoutes(moduleDescriptor)).thenReturn(List.of(route));
+
+    var result = service.render(List.of(moduleDescriptor), md -> new Service(), md -> List.of("diku", "test"));
+
+    var renderedRoute = result.getServices().getFirst().getRoutes().getFirst();
+    assertThat(renderedRoute.getExpression()).isEqualTo("(http.path == \"/foo\" && "
+      + "(http.headers.x_okapi_tenant == \"diku\" || http.headers.x_okapi_tenant == \"test\"))");
+  }
+
+  @Test
+  void render_positive_emptyDescriptors() {
+    var result = kongDeclarativeConfigService.render(null, md -> new Service(), md -> List.of());
+
+    assertThat(result.getFormatVersion()).isEqualTo(DeclarativeConfig.FORMAT_VERSION);
+    assertThat(result.getServices()).isEmpty();
+  }
+
+  @Test
+  void apply_positive() {
+    var config = declarativeConfig();
+
+    kongDeclarativeConfigService.apply(config);
+
+    verify(kongAdminClient).loadDeclarativeConfig(config);
+  }
+
+  @Test
+  void apply_negative_configRejected() {
+    var config = declarativeConfig();
+    var error = HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+    doThrow(error).when(kongAdminClient).loadDeclarativeConfig(config);
+
+    assertThatThrownBy(() -> kongDeclarativeConfigService.apply(config))
+      .isInstanceOf(KongIntegrationException.class)
+      .hasMessage("Failed to load declarative configuration")
+      .hasCause(error);
+  }
+
+  @Test
+  void write_positive(@TempDir Path tempDir) {
+    var path = tempDir.resolve("kong/kong.json");
+
+    kongDeclarativeConfigService.write(declarativeConfig(), path);
+
+    var result = jsonMapper.readTree(path.toFile());
+    assertThat(result.get("_format_version").asString()).isEqualTo("3.0");
+    var service = result.get("services").get(0);
+    assertThat(service.get("name").asString()).isEqualTo(MODULE_ID);
+    assertThat(service.get("url").asString()).isEqualTo(MODULE_URL);
+    var route = service.get("routes").get(0);
+    assertThat(route.get("name").asString()).isEqualTo("route");
+    assertThat(route.get("expression").asString()).isEqualTo("(http.path == \"/foo\")");
+    assertThat(route.get("strip_path").asBoolean()).isFalse();
+  }
+
+  @Test
+  void write_negative_directoryPath(@TempDir Path tempDir) throws Exception {
+    var path = Files.createDirectory(tempDir.resolve("kong.json"));
+    var config = declarativeConfig();
+
+    assertThatThrownBy(() -> kongDeclarativeConfigService.write(config, path))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to write declarative configuration: " + path);
+  }
+
+  private static DeclarativeConfig declarativeConfig() {
+    return new DeclarativeConfig().services(List.of(
+      ServiceConfig.of(new Service().name(MODULE_ID).url(MODULE_URL), List.of(route()))));
+  }
+
+  private static Route route() {
+    return new Route().name("route").expression("(http.path == \"/foo\")").priority(1).stripPath(false);
+  }
+}
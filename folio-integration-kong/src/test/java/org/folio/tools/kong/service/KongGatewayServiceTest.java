@@ -134,6 +134,26 @@ class KongGatewayServiceTest {
         route(List.of("POST"), "/bar/entities", 1, "bar-1.0", barModuleId)));
     }
 
+    @Test
+    void positive_parallel() {
+      var fooModuleId = "mod-foo-1.0.0";
+      var fooModuleUuid = UUID.randomUUID().toString();
+      var barModuleId = "mod-bar-1.0.0";
+      var barModuleUuid = UUID.randomUUID().toString();
+      when(kongAdminClient.getService(fooModuleId)).thenReturn(new Service().id(fooModuleUuid).name(fooModuleId));
+      when(kongAdminClient.getService(barModuleId)).thenReturn(new Service().id(barModuleUuid).name(barModuleId));
+      when(kongAdminClient.upsertRoute(anyString(), anyString(), routeCaptor.capture())).then(i -> i.getArgument(2));
+
+      kongGatewayService.setParallelism(2, 4);
+      kongGatewayService.addRoutes(List.of(mdWithMultipleInterface1(), mdWithMultipleInterface2()));
+
+      assertThat(routeCaptor.getAllValues()).containsExactlyInAnyOrder(
+        route(List.of("GET"), "/baz/entities", 1, "baz-multiple-1.0", fooModuleId, multipleTypeHeaders(fooModuleId)),
+        route(List.of("POST"), "/foo/entities", 1, "foo-1.0", fooModuleId),
+        route(List.of("GET"), "/baz/entities", 1, "baz-multiple-1.0", barModuleId, multipleTypeHeaders(barModuleId)),
+        route(List.of("POST"), "/bar/entities", 1, "bar-1.0", barModuleId));
+    }
+
     @Test
     void positive_timerInterfaceIgnored() {
       var serviceId = UUID.randomUUID().toString();
@@ -326,6 +346,62 @@ class KongGatewayServiceTest {
       verify(kongAdminClient).deleteRoute(SERVICE_ID, deprecatedRoute.getName());
     }
 
+    @Test
+    void positive_changedRouteUpdated() {
+      var changedRoute = route(List.of("POST"), "/entities", 0, INTERFACE_ID, MOD_ID, emptyMap());
+      var existingRoutes = List.of(
+        changedRoute,
+        route(List.of("GET"), "^/entities/([^/]+)$", 0, INTERFACE_ID, MOD_ID, emptyMap()));
+
+      when(kongAdminClient.getService(MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(MOD_ID, null)).thenReturn(new KongResultList<>(null, existingRoutes));
+      when(kongAdminClient.upsertRoute(anyString(), anyString(), routeCaptor.capture())).then(i -> i.getArgument(2));
+
+      kongGatewayService.updateRoutes(List.of(moduleDescriptor()));
+
+      assertThat(routeCaptor.getAllValues()).isEqualTo(List.of(
+        route(List.of("POST"), "/entities", 1, INTERFACE_ID, MOD_ID, emptyMap())));
+      verify(kongRouteTenantService).getTenants(changedRoute);
+    }
+
+    @Test
+    void positive_existingTenantsAppliedInSingleRewrite() {
+      var changedRoute = route(List.of("POST"), "/entities", 0, INTERFACE_ID, MOD_ID, emptyMap());
+      var existingRoutes = List.of(
+        changedRoute,
+        route(List.of("GET"), "^/entities/([^/]+)$", 0, INTERFACE_ID, MOD_ID, emptyMap()));
+      var tenants = List.of("diku", "test", "demo");
+
+      when(kongAdminClient.getService(MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(MOD_ID, null)).thenReturn(new KongResultList<>(null, existingRoutes));
+      when(kongRouteTenantService.getTenants(changedRoute)).thenReturn(tenants);
+      when(kongAdminClient.upsertRoute(anyString(), anyString(), routeCaptor.capture())).then(i -> i.getArgument(2));
+
+      kongGatewayService.updateRoutes(List.of(moduleDescriptor()));
+
+      var expectedRoute = route(List.of("POST"), "/entities", 1, INTERFACE_ID, MOD_ID, emptyMap());
+      assertThat(routeCaptor.getAllValues()).isEqualTo(List.of(expectedRoute));
+      verify(kongRouteTenantService).updateTenants(expectedRoute, tenants, null);
+    }
+
+    @Test
+    void positive_tenantClausesPreserved() {
+      var tenantService = new KongRouteTenantService();
+      var existingRoutes = List.of(
+        tenantService.addTenant(route(List.of("POST"), "/entities", 0, INTERFACE_ID, MOD_ID, emptyMap()), "diku"),
+        tenantService.addTenant(route(List.of("GET"), "^/entities/([^/]+)$", 0, INTERFACE_ID, MOD_ID, emptyMap()),
+          "diku"));
+
+      when(kongAdminClient.getService(MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(MOD_ID, null)).thenReturn(new KongResultList<>(null, existingRoutes));
+      when(kongAdminClient.upsertRoute(anyString(), anyString(), routeCaptor.capture())).then(i -> i.getArgument(2));
+
+      new KongGatewayService(kongAdminClient, tenantService).updateRoutes(List.of(moduleDescriptor()));
+
+      var expectedRoute = route(List.of("POST"), "/entities", 1, INTERFACE_ID, MOD_ID, emptyMap());
+      assertThat(routeCaptor.getAllValues()).isEqualTo(List.of(tenantService.addTenant(expectedRoute, "diku")));
+    }
+
     @Test
     void positive_serviceNotFound() {
       when(kongAdminClient.getService(MOD_ID)).thenThrow(
@@ -372,6 +448,24 @@ class KongGatewayServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("getRoutes")
+  class GetRoutes {
+
+    @Test
+    void positive() {
+      var result = kongGatewayService.getRoutes(moduleDescriptor());
+
+      assertThat(result).isEqualTo(List.of(
+        route(List.of("GET"), "^/entities/([^/]+)$", "test1-2.0"),
+        route(List.of("PUT"), "^/entities/([^/]+)/sub-entities$", "test1-2.0"),
+        route(List.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"),
+          "^/entities/sub-entities(.*)$", 0, "test1-2.0", MOD_ID),
+        route(List.of("PUT"), "/tests/1", 1, "test1-2.0", MOD_ID),
+        route(List.of("GET"), "/test2-entities", 1, "test2-1.0", MOD_ID)));
+    }
+  }
+
   @Nested
   @DisplayName("upsertService")
   class UpsertService {
@@ -705,6 +799,81 @@ class KongGatewayServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("updateTenantsInModuleRoutes")
+  class UpdateTenantsInModuleRoutes {
+
+    private static final String OTHER_MOD_ID = "other-module-0.0.1";
+    private static final List<String> TENANTS_TO_ADD = List.of("t1", "t2");
+    private static final List<String> TENANTS_TO_REMOVE = List.of("t3");
+
+    @Test
+    @DisplayName("should upsert only routes with changed expression")
+    void updateTenantsInModuleRoutes_positive() {
+      var route1 = new Route().name("route-name-1").expression("http.path == \"/test1\"");
+      var route2 = new Route().name("route-name-2").expression("http.path == \"/test2\"");
+
+      when(kongAdminClient.getService(MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(ROUTE_TAGS, null))
+        .thenReturn(new KongResultList<>(null, List.of(route1, route2)));
+      when(kongRouteTenantService.updateTenants(route1, TENANTS_TO_ADD, TENANTS_TO_REMOVE)).thenReturn(true);
+      when(kongRouteTenantService.updateTenants(route2, TENANTS_TO_ADD, TENANTS_TO_REMOVE)).thenReturn(false);
+
+      kongGatewayService.updateTenantsInModuleRoutes(List.of(MOD_ID), TENANTS_TO_ADD, TENANTS_TO_REMOVE);
+
+      verify(kongAdminClient).upsertRoute(SERVICE_ID, "route-name-1", route1);
+    }
+
+    @Test
+    @DisplayName("should rewrite route expression once for all tenants")
+    void updateTenantsInModuleRoutes_positive_expressionRewrittenOnce() {
+      var route = new Route().name("route-name-1").expression("(http.path == \"/test1\" "
+        + "&& http.headers.x_okapi_tenant ~ r#\".*\"#)");
+      var service = new KongGatewayService(kongAdminClient, new KongRouteTenantService());
+
+      when(kongAdminClient.getService(MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(ROUTE_TAGS, null)).thenReturn(new KongResultList<>(null, List.of(route)));
+
+      service.updateTenantsInModuleRoutes(List.of(MOD_ID), TENANTS_TO_ADD, TENANTS_TO_REMOVE);
+
+      verify(kongAdminClient).upsertRoute(SERVICE_ID, "route-name-1", new Route().name("route-name-1")
+        .expression("(http.path == \"/test1\" "
+          + "&& (http.headers.x_okapi_tenant == \"t1\" || http.headers.x_okapi_tenant == \"t2\"))"));
+    }
+
+    @Test
+    @DisplayName("should process all modules and report failed modules and routes")
+    void updateTenantsInModuleRoutes_negative_partialFailure() {
+      var route = new Route().name("route-name-1").expression("http.path == \"/test1\"");
+
+      when(kongAdminClient.getService(MOD_ID)).thenThrow(HttpClientErrorException.NotFound.class);
+      when(kongAdminClient.getService(OTHER_MOD_ID)).thenReturn(kongService());
+      when(kongAdminClient.getRoutesByTag(OTHER_MOD_ID, null)).thenReturn(new KongResultList<>(null, List.of(route)));
+      when(kongRouteTenantService.updateTenants(route, TENANTS_TO_ADD, TENANTS_TO_REMOVE)).thenReturn(true);
+      doThrow(HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Update failed", null, null, null))
+        .when(kongAdminClient).upsertRoute(SERVICE_ID, "route-name-1", route);
+
+      var moduleIds = List.of(MOD_ID, OTHER_MOD_ID);
+      assertThatThrownBy(() -> kongGatewayService.updateTenantsInModuleRoutes(moduleIds, TENANTS_TO_ADD,
+        TENANTS_TO_REMOVE))
+        .isInstanceOf(TenantRouteUpdateException.class)
+        .hasMessageContaining("Failed to update tenants in routes for modules")
+        .hasMessageContaining(MOD_ID + ": Failed to find Kong service for module: " + MOD_ID)
+        .hasMessageContaining(OTHER_MOD_ID + "/route-name-1");
+    }
+
+    @Test
+    @DisplayName("should throw exception when tenant name is blank")
+    void updateTenantsInModuleRoutes_negative_blankTenant() {
+      var moduleIds = List.of(MOD_ID);
+      var tenantsToAdd = List.of("t1", " ");
+
+      assertThatThrownBy(() -> kongGatewayService.updateTenantsInModuleRoutes(moduleIds, tenantsToAdd, null))
+        .isInstanceOf(TenantRouteUpdateException.class)
+        .hasMessageContaining("module ids and tenant names must be non-blank strings");
+    }
+  }
+
   static class TestValues {
 
     static Route route(List<String> methods, String path, String interfaceId) {
@@ -2,6 +2,7 @@ package org.folio.tools.kong.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.folio.test.types.UnitTest;
 import org.folio.tools.kong.model.Route;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,105 @@ class KongRouteTenantServiceTest {
     service = new KongRouteTenantService();
   }
 
+  @Nested
+  @DisplayName("getTenants")
+  class GetTenants {
+
+    @Test
+    void getTenants_positive() {
+      var route = new Route().expression("(http.path == \"/entities\" && (http.headers.x_okapi_tenant == \"t1\" "
+        + "|| http.headers.x_okapi_tenant == \"t2\"))");
+
+      assertThat(service.getTenants(route)).containsExactly("t1", "t2");
+    }
+
+    @Test
+    void getTenants_positive_wildcard() {
+      var route = new Route().expression("(http.path == \"/entities\" && http.headers.x_okapi_tenant ~ r#\".*\"#)");
+
+      assertThat(service.getTenants(route)).isEmpty();
+      assertThat(service.getTenants(null)).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("updateTenants")
+  class UpdateTenants {
+
+    private static final String PATH_EXPRESSION = "(http.path == \"/entities\" && http.method == \"GET\"";
+
+    @Test
+    @DisplayName("should replace wildcard tenant pattern with all added tenants")
+    void updateTenants_wildcardPattern() {
+      var route = new Route().expression(PATH_EXPRESSION + " && http.headers.x_okapi_tenant ~ r#\".*\"#)");
+
+      var result = service.updateTenants(route, List.of("t1", "t2"), null);
+
+      assertThat(result).isTrue();
+      assertThat(route.getExpression()).isEqualTo(PATH_EXPRESSION
+        + " && (http.headers.x_okapi_tenant == \"t1\" || http.headers.x_okapi_tenant == \"t2\"))");
+    }
+
+    @Test
+    @DisplayName("should add and remove tenants of existing tenant clause")
+    void updateTenants_tenantClause() {
+      var route = new Route().expression(PATH_EXPRESSION
+        + " && (http.headers.x_okapi_tenant == \"t1\" || http.headers.x_okapi_tenant == \"t2\"))");
+
+      var result = service.updateTenants(route, List.of("t3", "t2"), List.of("t1"));
+
+      assertThat(result).isTrue();
+      assertThat(route.getExpression()).isEqualTo(PATH_EXPRESSION
+        + " && (http.headers.x_okapi_tenant == \"t2\" || http.headers.x_okapi_tenant == \"t3\"))");
+    }
+
+    @Test
+    @DisplayName("should replace tenant clause with wildcard pattern when all tenants are removed")
+    void updateTenants_allTenantsRemoved() {
+      var route = new Route().expression(PATH_EXPRESSION
+        + " && (http.headers.x_okapi_tenant == \"t1\" || http.headers.x_okapi_tenant == \"t2\"))");
+
+      var result = service.updateTenants(route, List.of(), List.of("t1", "t2"));
+
+      assertThat(result).isTrue();
+      assertThat(route.getExpression()).isEqualTo(PATH_EXPRESSION + " && (http.headers.x_okapi_tenant ~ r#\".*\"#))");
+    }
+
+    @Test
+    @DisplayName("should append tenant clause when expression has no tenant information")
+    void updateTenants_noTenantInfo() {
+      var route = new Route().expression(PATH_EXPRESSION + ")");
+
+      var result = service.updateTenants(route, List.of("t1"), List.of());
+
+      assertThat(result).isTrue();
+      assertThat(route.getExpression()).isEqualTo(PATH_EXPRESSION + ") && (http.headers.x_okapi_tenant == \"t1\")");
+    }
+
+    @Test
+    @DisplayName("should not change expression when tenants are already applied")
+    void updateTenants_notChanged() {
+      var expression = PATH_EXPRESSION + " && (http.headers.x_okapi_tenant == \"t1\"))";
+      var route = new Route().expression(expression);
+
+      var result = service.updateTenants(route, List.of("t1"), List.of("t2"));
+
+      assertThat(result).isFalse();
+      assertThat(route.getExpression()).isEqualTo(expression);
+    }
+
+    @Test
+    @DisplayName("should not change wildcard expression when tenants are only removed")
+    void updateTenants_wildcardPatternNotChanged() {
+      var expression = PATH_EXPRESSION + " && http.headers.x_okapi_tenant ~ r#\".*\"#)";
+      var route = new Route().expression(expression);
+
+      assertThat(service.updateTenants(route, null, List.of("t1"))).isFalse();
+      assertThat(service.updateTenants(null, List.of("t1"), null)).isFalse();
+      assertThat(route.getExpression()).isEqualTo(expression);
+    }
+  }
+
   @Nested
   @DisplayName("addTenant")
   class AddTenant {
@@ -597,5 +697,48 @@ class KongRouteTenantServiceTest {
       assertThat(route2.getExpression())
         .isEqualTo("(http.headers.x_okapi_tenant ~ r#\".*\"#) && http.path ~ \"^/test$\"");
     }
+
+    @Test
+    @DisplayName("should wrap top-level or expression into parentheses when tenant clause is appended")
+    void addTenant_topLevelOrExpression() {
+      var route = new Route()
+        .id("test-route-49")
+        .expression("http.path == \"/a\" || http.path == \"/b\"");
+
+      service.addTenant(route, "t1");
+
+      assertThat(route.getExpression())
+        .isEqualTo("(http.path == \"/a\" || http.path == \"/b\") && (http.headers.x_okapi_tenant == \"t1\")");
+    }
+
+    @Test
+    @DisplayName("should parse expression again when expression of cached route is changed")
+    void addTenant_cachedRouteExpressionChanged() {
+      var route = new Route()
+        .id("test-route-50")
+        .expression("(http.path == \"/a\" && http.headers.x_okapi_tenant ~ r#\".*\"#)");
+
+      service.addTenant(route, "t1");
+      route.setExpression("(http.path == \"/b\" && (http.headers.x_okapi_tenant == \"t2\"))");
+      service.addTenant(route, "t3");
+
+      assertThat(route.getExpression()).isEqualTo("(http.path == \"/b\" "
+        + "&& (http.headers.x_okapi_tenant == \"t2\" || http.headers.x_okapi_tenant == \"t3\"))");
+      assertThat(service.getTenants(route)).containsExactly("t2", "t3");
+    }
+
+    @Test
+    @DisplayName("should not change expression with invalid syntax")
+    void addTenant_invalidExpression() {
+      var route = new Route()
+        .id("test-route-51")
+        .expression("(http.path == \"/a\" && http.headers.x_okapi_tenant ~ r#\".*\"#");
+
+      service.addTenant(route, "t1");
+
+      assertThat(route.getExpression())
+        .isEqualTo("(http.path == \"/a\" && http.headers.x_okapi_tenant ~ r#\".*\"#");
+      assertThat(service.getTenants(route)).isEmpty();
+    }
   }
 }
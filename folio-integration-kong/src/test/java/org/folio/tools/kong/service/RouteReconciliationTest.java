@@ -0,0 +1,66 @@
+package org.folio.tools.kong.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.common.domain.model.RoutingEntry;
+import org.folio.test.types.UnitTest;
+import org.folio.tools.kong.model.Route;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RouteReconciliationTest {
+
+  private static final RoutingEntry ROUTING_ENTRY = new RoutingEntry().methods(List.of("GET")).pathPattern("/foo");
+
+  @Test
+  void of_positive() {
+    var unchanged = route("unchanged", "http.path == \"/foo\"", 1);
+    var changed = route("changed", "http.path == \"/bar\"", 1);
+    var created = route("created", "http.path == \"/baz\"", 1);
+    var existingRoutes = List.of(
+      route("unchanged", "http.path == \"/foo\"", 1),
+      route("changed", "http.path == \"/bar\"", 0),
+      route("deprecated", "http.path == \"/old\"", 1));
+
+    var result = RouteReconciliation.of(List.of(pair(unchanged), pair(changed), pair(created)), existingRoutes,
+      (route, existingRoute) -> route);
+
+    assertThat(result.unchanged()).containsExactly(pair(unchanged));
+    assertThat(result.changed()).containsExactly(pair(changed));
+    assertThat(result.created()).containsExactly(pair(created));
+    assertThat(result.deprecated()).containsExactly("deprecated");
+    assertThat(result.skippedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void of_positive_mergedRouteUnchanged() {
+    var desired = route("route", "http.path == \"/foo\"", 1);
+    var existing = route("route", "http.path == \"/foo\" && tenant", 1);
+
+    var result = RouteReconciliation.of(List.of(pair(desired)), List.of(existing),
+      (route, existingRoute) -> route.expression(route.getExpression() + " && tenant"));
+
+    assertThat(result.unchanged()).hasSize(1);
+    assertThat(result.changed()).isEmpty();
+  }
+
+  @Test
+  void getContentHash_positive_tagOrderIgnored() {
+    var route = route("route", "http.path == \"/foo\"", 1).tags(List.of("mod-foo-1.0.0", "foo-1.0"));
+    var sameRoute = route("other", "http.path == \"/foo\"", 1).tags(List.of("foo-1.0", "mod-foo-1.0.0"));
+
+    assertThat(RouteReconciliation.getContentHash(route)).isEqualTo(RouteReconciliation.getContentHash(sameRoute));
+    assertThat(RouteReconciliation.getContentHash(route))
+      .isNotEqualTo(RouteReconciliation.getContentHash(sameRoute.stripPath(true)));
+  }
+
+  private static Route route(String name, String expression, int priority) {
+    return new Route().name(name).expression(expression).priority(priority).stripPath(false);
+  }
+
+  private static Pair<Route, RoutingEntry> pair(Route route) {
+    return Pair.of(route, ROUTING_ENTRY);
+  }
+}
@@ -4,13 +4,22 @@ import static org.apache.commons.lang3.StringUtils.removeEnd;
 import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.springframework.security.web.util.matcher.RegexRequestMatcher.regexMatcher;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
+import org.folio.security.configuration.properties.AuthorizationFilterProperties;
+import org.folio.security.filter.AsyncAuthorizationFilter;
 import org.folio.security.filter.ExceptionHandlerFilter;
 import org.folio.security.integration.authtoken.configuration.OkapiSecurityConfiguration;
 import org.folio.security.integration.keycloak.configuration.KeycloakSecurityConfiguration;
 import org.folio.security.service.AuthorizationService;
+import org.folio.security.service.SecurityMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -30,11 +39,15 @@ import tools.jackson.databind.ObjectMapper;
 
 @EnableWebSecurity
 @RequiredArgsConstructor
+@EnableConfigurationProperties(AuthorizationFilterProperties.class)
 @Import({KeycloakSecurityConfiguration.class, OkapiSecurityConfiguration.class})
 public class SecurityConfiguration implements WebSecurityCustomizer {
 
   public static final String ROUTER_PREFIX_PROPERTY = "application.router.path-prefix";
+  public static final String AUTHORIZATION_EXECUTOR = "folioAuthorizationExecutor";
+
   private final Environment environment;
+  private final AuthorizationFilterProperties authorizationFilterProperties;
 
   /**
    * Allows unauthorized requests.
@@ -57,17 +70,36 @@ public class SecurityConfiguration implements WebSecurityCustomizer {
 
   @Bean
   @ConditionalOnBean(AuthorizationService.class)
-  public SecurityFilterChain filterChain(HttpSecurity http, AuthorizationService authService, ObjectMapper mapper)
-    throws Exception {
+  public SecurityFilterChain filterChain(HttpSecurity http, AuthorizationService authService, ObjectMapper mapper,
+    @Qualifier(AUTHORIZATION_EXECUTOR) ObjectProvider<ExecutorService> authorizationExecutor,
+    ObjectProvider<SecurityMetrics> securityMetrics) throws Exception {
+    var executor = authorizationExecutor.getIfAvailable();
+    var authorizationFilter = executor != null
+      ? new AsyncAuthorizationFilter(authService, executor, authorizationFilterProperties.getDeadline())
+      : new org.folio.security.filter.AuthorizationFilter(authService);
+    var exceptionHandlerFilter = new ExceptionHandlerFilter(mapper);
+    securityMetrics.ifAvailable(exceptionHandlerFilter::setSecurityMetrics);
+
     return http
       .csrf(AbstractHttpConfigurer::disable)
       .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
       .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
-      .addFilterBefore(new org.folio.security.filter.AuthorizationFilter(authService), AuthorizationFilter.class)
-      .addFilterBefore(new ExceptionHandlerFilter(mapper), org.folio.security.filter.AuthorizationFilter.class)
+      .addFilterBefore(authorizationFilter, AuthorizationFilter.class)
+      .addFilterBefore(exceptionHandlerFilter, authorizationFilter.getClass())
       .build();
   }
 
+  /**
+   * Executor for asynchronous authorization, each request is authorized on its own virtual thread.
+   *
+   * @return {@link ExecutorService} object
+   */
+  @Bean(name = AUTHORIZATION_EXECUTOR)
+  @ConditionalOnProperty("application.security.authorization-filter.async-enabled")
+  public ExecutorService authorizationExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("authorization-", 0).factory());
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public SecurityFilterChain noAuthFilterChain(HttpSecurity http) throws Exception {
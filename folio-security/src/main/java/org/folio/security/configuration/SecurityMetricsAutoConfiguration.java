@@ -0,0 +1,33 @@
+package org.folio.security.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.folio.security.configuration.properties.SecurityMetricsProperties;
+import org.folio.security.service.SecurityMetrics;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Provides {@link SecurityMetrics} if a {@link MeterRegistry} is available, it is picked up by the security filter
+ * chain, authorization services and token parsers.
+ */
+@AutoConfiguration(afterName = {
+  "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration",
+  "org.springframework.boot.micrometer.metrics.autoconfigure.MetricsAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(value = "application.security.metrics.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(SecurityMetricsProperties.class)
+public class SecurityMetricsAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SecurityMetrics securityMetrics(MeterRegistry meterRegistry, SecurityMetricsProperties properties) {
+    return new SecurityMetrics(meterRegistry, properties);
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.security.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.security.authorization-filter")
+public class AuthorizationFilterProperties {
+
+  /**
+   * Defines if requests must be authorized on virtual threads within an asynchronous request, releasing the servlet
+   * container thread while remote authorization is in progress.
+   */
+  private boolean asyncEnabled = false;
+
+  /**
+   * Maximum time to wait for asynchronous authorization, request fails with 503 status code when it is exceeded.
+   */
+  @NotNull
+  private Duration deadline = Duration.ofSeconds(10);
+}
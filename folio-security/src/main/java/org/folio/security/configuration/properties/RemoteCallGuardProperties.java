@@ -0,0 +1,58 @@
+package org.folio.security.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.security.remote-call-guard")
+public class RemoteCallGuardProperties {
+
+  /**
+   * Defines if remote authorization calls (Keycloak permission evaluation, mod-authtoken checks) must be isolated per
+   * tenant with a concurrency bulkhead, load shedding and a circuit breaker.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of concurrent remote calls per tenant.
+   */
+  @Positive
+  private int maxConcurrentCalls = 32;
+
+  /**
+   * Maximum number of calls per tenant waiting for a free slot, calls beyond it are rejected immediately.
+   */
+  @PositiveOrZero
+  private int maxQueueDepth = 64;
+
+  /**
+   * Maximum time to wait for a free slot before the call is rejected.
+   */
+  @NotNull
+  private Duration maxWait = Duration.ofSeconds(1);
+
+  /**
+   * Number of consecutive failed calls (server errors, I/O errors and timeouts) that opens the tenant circuit.
+   */
+  @Positive
+  private int failureThreshold = 5;
+
+  /**
+   * Time to reject calls of an open circuit before a single trial call is let through.
+   */
+  @NotNull
+  private Duration openDuration = Duration.ofSeconds(30);
+
+  /**
+   * Maximum number of tenants with tracked bulkhead and circuit state, idle tenants are removed to make room for new
+   * ones, calls of a new tenant are shed while all tracked tenants are busy.
+   */
+  @Positive
+  private long maxTenants = 1_000;
+}
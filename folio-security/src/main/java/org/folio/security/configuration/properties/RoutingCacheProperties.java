@@ -0,0 +1,23 @@
+package org.folio.security.configuration.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.security.routing-cache")
+public class RoutingCacheProperties {
+
+  /**
+   * Defines if resolved routing entries must be cached by HTTP method and normalized request path.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of cached (method, path) lookup results, including negative ones.
+   */
+  @Positive
+  private long maxSize = 1000;
+}
@@ -0,0 +1,33 @@
+package org.folio.security.configuration.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.security.metrics")
+public class SecurityMetricsProperties {
+
+  /**
+   * Defines if the security request path must be instrumented when a Micrometer {@code MeterRegistry} is available.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Defines if meters must be tagged by tenant, a single {@code tenant} tag value is not recorded otherwise.
+   */
+  private boolean tenantTagEnabled = true;
+
+  /**
+   * Maximum number of distinct verified tenant tag values, meters of further tenants are tagged with {@code other}.
+   */
+  @Positive
+  private int maxTenants = 100;
+
+  /**
+   * Defines if timers must publish percentile histograms.
+   */
+  private boolean percentileHistogram = false;
+}
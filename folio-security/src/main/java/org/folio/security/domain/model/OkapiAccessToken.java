@@ -13,4 +13,9 @@ public class OkapiAccessToken {
   private UUID userId;
 
   private String tenant;
+
+  /**
+   * Token expiration time in seconds since epoch, null if token does not expire.
+   */
+  private Long exp;
 }
@@ -0,0 +1,8 @@
+package org.folio.security.exception;
+
+public class AuthorizationTimeoutException extends RuntimeException {
+
+  public AuthorizationTimeoutException(String message) {
+    super(message);
+  }
+}
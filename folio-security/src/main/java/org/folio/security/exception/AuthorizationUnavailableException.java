@@ -0,0 +1,8 @@
+package org.folio.security.exception;
+
+public class AuthorizationUnavailableException extends RuntimeException {
+
+  public AuthorizationUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -9,4 +9,16 @@ public class ForbiddenException extends RuntimeException {
   public ForbiddenException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  private ForbiddenException(String message, Throwable cause, boolean writableStackTrace) {
+    super(message, cause, true, writableStackTrace);
+  }
+
+  public static ForbiddenException stackless(String message) {
+    return new ForbiddenException(message, null, false);
+  }
+
+  public static ForbiddenException stackless(String message, Throwable cause) {
+    return new ForbiddenException(message, cause, false);
+  }
 }
@@ -9,4 +9,16 @@ public class NotAuthorizedException extends RuntimeException {
   public NotAuthorizedException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  private NotAuthorizedException(String message, Throwable cause, boolean writableStackTrace) {
+    super(message, cause, true, writableStackTrace);
+  }
+
+  public static NotAuthorizedException stackless(String message) {
+    return new NotAuthorizedException(message, null, false);
+  }
+
+  public static NotAuthorizedException stackless(String message, Throwable cause) {
+    return new NotAuthorizedException(message, cause, false);
+  }
 }
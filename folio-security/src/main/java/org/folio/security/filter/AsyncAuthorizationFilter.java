@@ -0,0 +1,161 @@
+package org.folio.security.filter;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.log4j.Log4j2;
+import org.folio.security.exception.AuthorizationTimeoutException;
+import org.folio.security.service.AuthorizationService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Authorization filter that releases the servlet container thread while the request is authorized.
+ *
+ * <p>The request is switched to asynchronous mode and authorized on the given executor (virtual threads by default)
+ * within the configured deadline. Once authorization completes, fails or exceeds the deadline, the request is
+ * dispatched back to the container and the filter chain continues with the authentication result or the error, so
+ * errors are handled by {@link ExceptionHandlerFilter} the same way as in blocking mode. Requests that do not support
+ * asynchronous processing are authorized on the calling thread.</p>
+ */
+@Log4j2
+public class AsyncAuthorizationFilter extends AuthorizationFilter {
+
+  static final String RESULT_ATTRIBUTE = AsyncAuthorizationFilter.class.getName() + ".RESULT";
+
+  private final ExecutorService executor;
+  private final Duration deadline;
+
+  /**
+   * Creates asynchronous authorization filter.
+   *
+   * @param authorizationService - authorization service
+   * @param executor - executor for authorization tasks
+   * @param deadline - maximum time to wait for authorization
+   */
+  public AsyncAuthorizationFilter(AuthorizationService authorizationService, ExecutorService executor,
+    Duration deadline) {
+    super(authorizationService);
+    this.executor = executor;
+    this.deadline = deadline;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws IOException, ServletException {
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      continueFilterChain(request, response, filterChain);
+      return;
+    }
+
+    if (!request.isAsyncSupported()) {
+      super.doFilterInternal(request, response, filterChain);
+      return;
+    }
+
+    var authToken = resolveAuthToken(request);
+    var asyncContext = request.startAsync(request, response);
+    asyncContext.setTimeout(deadline.toMillis());
+
+    var completed = new AtomicBoolean();
+    var task = new AtomicReference<Future<?>>();
+    asyncContext.addListener(new DeadlineListener(completed, task));
+    task.set(executor.submit(() -> authorize(asyncContext, authToken, completed)));
+  }
+
+  private void continueFilterChain(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws IOException, ServletException {
+    var result = (AuthorizationResult) request.getAttribute(RESULT_ATTRIBUTE);
+    if (result == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    request.removeAttribute(RESULT_ATTRIBUTE);
+    if (result.error() != null) {
+      throw result.error();
+    }
+
+    SecurityContextHolder.getContext().setAuthentication(result.authentication());
+    filterChain.doFilter(request, response);
+  }
+
+  private void authorize(AsyncContext asyncContext, String authToken, AtomicBoolean completed) {
+    AuthorizationResult result;
+    try {
+      var request = (HttpServletRequest) asyncContext.getRequest();
+      result = new AuthorizationResult(authorizationService.authorize(request, authToken), null);
+    } catch (RuntimeException e) {
+      result = new AuthorizationResult(null, e);
+    }
+
+    dispatch(asyncContext, result, completed);
+  }
+
+  private static void dispatch(AsyncContext asyncContext, AuthorizationResult result, AtomicBoolean completed) {
+    if (completed.compareAndSet(false, true)) {
+      asyncContext.getRequest().setAttribute(RESULT_ATTRIBUTE, result);
+      asyncContext.dispatch();
+    }
+  }
+
+  private record AuthorizationResult(Authentication authentication, RuntimeException error) {}
+
+  private final class DeadlineListener implements AsyncListener {
+
+    private final AtomicBoolean completed;
+    private final AtomicReference<Future<?>> task;
+
+    DeadlineListener(AtomicBoolean completed, AtomicReference<Future<?>> task) {
+      this.completed = completed;
+      this.task = task;
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      log.warn("Authorization deadline exceeded: deadline = {}", deadline);
+      var error = new AuthorizationTimeoutException("Authorization deadline exceeded");
+      dispatch(event.getAsyncContext(), new AuthorizationResult(null, error), completed);
+      // cancelled after the timeout result is dispatched, so an interrupted task cannot dispatch its own result first
+      cancelTask();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      cancelTask();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      // nothing to do, authorization result is already dispatched
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nothing to do, listener is registered for a single asynchronous cycle
+    }
+
+    private void cancelTask() {
+      var future = task.get();
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+  }
+}
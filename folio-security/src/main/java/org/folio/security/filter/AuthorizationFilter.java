@@ -22,16 +22,32 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class AuthorizationFilter extends OncePerRequestFilter {
 
-  private final AuthorizationService authorizationService;
+  protected final AuthorizationService authorizationService;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
     throws IOException, ServletException {
+    var authToken = resolveAuthToken(request);
+    var auth = authorizationService.authorize(request, authToken);
+    SecurityContextHolder.getContext().setAuthentication(auth);
+
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * Resolves auth token from {@code Authorization} or {@code X-Okapi-Token} request headers.
+   *
+   * @param request - http servlet request
+   * @return auth token without {@code Bearer} prefix
+   * @throws NotAuthorizedException - if auth token is not found
+   * @throws TokenMismatchException - if {@code Authorization} and {@code X-Okapi-Token} values are different
+   */
+  protected String resolveAuthToken(HttpServletRequest request) {
     var okapiToken = request.getHeader(TOKEN);
     var authToken = Optional.ofNullable(request.getHeader(AUTHORIZATION)).orElse(okapiToken);
 
     if (authToken == null) {
-      throw new NotAuthorizedException("Failed to find auth token in request.");
+      throw NotAuthorizedException.stackless("Failed to find auth token in request.");
     }
 
     authToken = trimTokenBearer(authToken);
@@ -40,10 +56,7 @@ public class AuthorizationFilter extends OncePerRequestFilter {
       throw new TokenMismatchException("X-Okapi-Token is not equal to Authorization token");
     }
 
-    var auth = authorizationService.authorize(request, authToken);
-    SecurityContextHolder.getContext().setAuthentication(auth);
-
-    filterChain.doFilter(request, response);
+    return authToken;
   }
 
   private static String trimTokenBearer(String token) {
@@ -1,22 +1,28 @@
 package org.folio.security.filter;
 
+import static org.folio.common.utils.OkapiHeaders.TENANT;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.domain.model.error.ErrorCode;
-import org.folio.common.domain.model.error.ErrorResponse;
 import org.folio.common.utils.ExceptionHandlerUtils;
+import org.folio.security.exception.AuthorizationTimeoutException;
+import org.folio.security.exception.AuthorizationUnavailableException;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
 import org.folio.security.exception.RoutingEntryMatchingException;
 import org.folio.security.exception.TokenMismatchException;
+import org.folio.security.service.SecurityMetrics;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.filter.OncePerRequestFilter;
 import tools.jackson.databind.ObjectMapper;
 
@@ -24,7 +30,24 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class ExceptionHandlerFilter extends OncePerRequestFilter {
 
+  private static final int MAX_CACHED_BODIES = 64;
+
   private final ObjectMapper mapper;
+  private final Map<ResponseBodyKey, byte[]> responseBodies = new ConcurrentHashMap<>();
+
+  /**
+   * Optional security path metrics, counting error responses by category and tenant.
+   */
+  @Setter private SecurityMetrics securityMetrics;
+
+  /**
+   * Handles errors of asynchronous dispatches as well, since {@link AsyncAuthorizationFilter} rethrows authorization
+   * errors on the asynchronous dispatch.
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,38 +55,74 @@ public class ExceptionHandlerFilter extends OncePerRequestFilter {
     try {
       filterChain.doFilter(request, response);
     } catch (ForbiddenException exception) {
-      handleException(response, exception, HttpStatus.FORBIDDEN, ErrorCode.AUTH_ERROR);
+      handleException(request, response, exception, HttpStatus.FORBIDDEN, ErrorCode.AUTH_ERROR);
     } catch (NotAuthorizedException exception) {
-      handleException(response, exception, HttpStatus.UNAUTHORIZED, ErrorCode.AUTH_ERROR);
+      handleException(request, response, exception, HttpStatus.UNAUTHORIZED, ErrorCode.AUTH_ERROR);
     } catch (TokenMismatchException exception) {
-      handleException(response, exception, HttpStatus.BAD_REQUEST, ErrorCode.FOUND_ERROR);
+      handleException(request, response, exception, HttpStatus.BAD_REQUEST, ErrorCode.FOUND_ERROR);
     } catch (IllegalArgumentException exception) {
-      handleException(response, exception, HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR);
+      handleException(request, response, exception, HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR);
     } catch (RoutingEntryMatchingException exception) {
-      handleException(response, exception, HttpStatus.NOT_FOUND, ErrorCode.ROUTE_NOT_FOUND_ERROR);
+      handleException(request, response, exception, HttpStatus.NOT_FOUND, ErrorCode.ROUTE_NOT_FOUND_ERROR);
+    } catch (AuthorizationTimeoutException | AuthorizationUnavailableException exception) {
+      handleException(request, response, exception, HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_ERROR);
     } catch (Exception exception) {
-      handleException(response, exception, HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN_ERROR);
+      handleException(request, response, exception, HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.UNKNOWN_ERROR);
     }
   }
 
   public void handleException(HttpServletResponse response, Exception exception, HttpStatus status, ErrorCode errorCode)
     throws IOException {
     log.debug("Handling filter exception", exception);
-    var responseEntity = ExceptionHandlerUtils.buildResponseEntity(exception, status, errorCode);
-    writeResponse(response, responseEntity);
+    var body = getResponseBody(exception, status, errorCode);
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+
+    var outputStream = response.getOutputStream();
+    outputStream.write(body);
+    outputStream.flush();
   }
 
-  private void writeResponse(HttpServletResponse response, ResponseEntity<ErrorResponse> responseEntity)
-    throws IOException {
-    response.setStatus(responseEntity.getStatusCode().value());
+  private void handleException(HttpServletRequest request, HttpServletResponse response, Exception exception,
+    HttpStatus status, ErrorCode errorCode) throws IOException {
+    handleException(response, exception, status, errorCode);
+    if (securityMetrics != null) {
+      securityMetrics.recordError(request.getHeader(TENANT), status.value(), errorCode.getValue());
+    }
+  }
 
-    var error = responseEntity.getBody();
-    if (error != null) {
-      response.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+  /**
+   * Provides serialized error response, bodies of authorization errors are serialized once per exception type,
+   * message and error code, since these errors use a small set of fixed messages.
+   */
+  private byte[] getResponseBody(Exception exception, HttpStatus status, ErrorCode errorCode) {
+    if (!hasFixedMessage(exception)) {
+      return serialize(exception, status, errorCode);
+    }
 
-      var writer = response.getWriter();
-      writer.print(mapper.writeValueAsString(error));
-      writer.flush();
+    var key = new ResponseBodyKey(exception.getClass(), exception.getMessage(), errorCode);
+    var body = responseBodies.get(key);
+    if (body == null) {
+      body = serialize(exception, status, errorCode);
+      if (responseBodies.size() < MAX_CACHED_BODIES) {
+        responseBodies.putIfAbsent(key, body);
+      }
     }
+
+    return body;
   }
+
+  private byte[] serialize(Exception exception, HttpStatus status, ErrorCode errorCode) {
+    var responseEntity = ExceptionHandlerUtils.buildResponseEntity(exception, status, errorCode);
+    return mapper.writeValueAsBytes(responseEntity.getBody());
+  }
+
+  private static boolean hasFixedMessage(Exception exception) {
+    return exception instanceof ForbiddenException
+      || exception instanceof NotAuthorizedException
+      || exception instanceof TokenMismatchException;
+  }
+
+  private record ResponseBodyKey(Class<?> type, String message, ErrorCode errorCode) {}
 }
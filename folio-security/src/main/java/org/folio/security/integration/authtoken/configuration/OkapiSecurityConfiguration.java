@@ -2,14 +2,21 @@ package org.folio.security.integration.authtoken.configuration;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
 import org.folio.security.integration.authtoken.client.AuthtokenClient;
 import org.folio.security.integration.authtoken.configuration.properties.OkapiProperties;
+import org.folio.security.integration.authtoken.service.OkapiAuthorizationCache;
 import org.folio.security.integration.authtoken.service.OkapiAuthorizationService;
 import org.folio.security.service.AuthorizationService;
 import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
+import org.folio.security.service.SecurityMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
@@ -23,7 +30,8 @@ import tools.jackson.databind.ObjectMapper;
 @Log4j2
 @ConditionalOnExpression(
   "${application.security.enabled} && ${application.okapi.enabled} && !${application.keycloak.enabled}")
-@EnableConfigurationProperties(OkapiProperties.class)
+@EnableConfigurationProperties({
+  OkapiProperties.class, RoutingCacheProperties.class, RemoteCallGuardProperties.class})
 @RequiredArgsConstructor
 public class OkapiSecurityConfiguration {
 
@@ -44,17 +52,34 @@ public class OkapiSecurityConfiguration {
   @Bean
   public AuthorizationService authorizationService(AuthtokenClient authtokenClient, ObjectMapper objectMapper,
     InternalModuleDescriptorProvider internalModuleDescriptorProvider, RoutingEntryMatcher routingEntryMatcher,
-    UrlPathHelper urlPathHelper, Environment environment) {
+    UrlPathHelper urlPathHelper, Environment environment, ObjectProvider<OkapiAuthorizationCache> authorizationCache,
+    ObjectProvider<RemoteCallGuard> remoteCallGuard, ObjectProvider<SecurityMetrics> securityMetrics) {
     var okapiAuthorizationService = new OkapiAuthorizationService(properties.getUrl(),
       objectMapper, authtokenClient, routingEntryMatcher, internalModuleDescriptorProvider);
     okapiAuthorizationService.setEnvironment(environment);
     okapiAuthorizationService.setUrlPathHelper(urlPathHelper);
+    authorizationCache.ifAvailable(okapiAuthorizationService::setAuthorizationCache);
+    remoteCallGuard.ifAvailable(okapiAuthorizationService::setRemoteCallGuard);
+    securityMetrics.ifAvailable(okapiAuthorizationService::setSecurityMetrics);
     return okapiAuthorizationService;
   }
 
   @Bean
-  public RoutingEntryMatcher routingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider) {
-    return new RoutingEntryMatcher(descriptorProvider);
+  @ConditionalOnProperty("application.security.remote-call-guard.enabled")
+  public RemoteCallGuard remoteCallGuard(RemoteCallGuardProperties remoteCallGuardProperties) {
+    return new RemoteCallGuard("authtoken", remoteCallGuardProperties);
+  }
+
+  @Bean
+  @ConditionalOnProperty("application.okapi.authorization-cache.enabled")
+  public OkapiAuthorizationCache okapiAuthorizationCache() {
+    return new OkapiAuthorizationCache(properties.getAuthorizationCache());
+  }
+
+  @Bean
+  public RoutingEntryMatcher routingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider,
+    RoutingCacheProperties routingCacheProperties) {
+    return new RoutingEntryMatcher(descriptorProvider, routingCacheProperties);
   }
 
   @Bean
@@ -1,7 +1,11 @@
 package org.folio.security.integration.authtoken.configuration.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -14,4 +18,32 @@ public class OkapiProperties {
   private String url;
   @NotNull(message = "mod-authtoken url should be defined")
   private String modAuthtokenUrl;
+
+  /**
+   * Successful mod-authtoken check cache settings.
+   */
+  @Valid
+  private OkapiAuthorizationCacheProperties authorizationCache = new OkapiAuthorizationCacheProperties();
+
+  @Data
+  @NoArgsConstructor
+  public static class OkapiAuthorizationCacheProperties {
+
+    /**
+     * Defines if successful mod-authtoken checks must be cached.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached checks.
+     */
+    @Positive
+    private long maxSize = 10_000;
+
+    /**
+     * Time to keep successful check, check never outlives the token expiration time (if token has it).
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(1);
+  }
 }
@@ -0,0 +1,77 @@
+package org.folio.security.integration.authtoken.service;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
+
+/**
+ * Permission header values sent to mod-authtoken for a routing entry.
+ *
+ * @param requiredPermissions - comma-separated required permissions, null if there are none
+ * @param desiredPermissions - comma-separated desired permissions, null if there are none
+ * @param modulePermissions - module permissions grouped by module id, empty if there are none
+ */
+public record AuthtokenPermissionHeaders(String requiredPermissions, String desiredPermissions,
+  Map<String, List<String>> modulePermissions) {
+
+  private static final String COMMA = ",";
+
+  /**
+   * Computes permission header values for the routing entry.
+   *
+   * @param routingEntry - routing entry
+   * @param moduleDescriptor - module descriptor, providing the routing entry, used only if the routing entry has
+   *   module permissions
+   * @return {@link AuthtokenPermissionHeaders} object
+   */
+  public static AuthtokenPermissionHeaders of(RoutingEntry routingEntry, ModuleDescriptor moduleDescriptor) {
+    return new AuthtokenPermissionHeaders(
+      joinPermissions(routingEntry.getPermissionsRequired()),
+      joinPermissions(routingEntry.getPermissionsDesired()),
+      getModulePermissions(routingEntry, moduleDescriptor));
+  }
+
+  /**
+   * Precomputes permission header values for all routing entries of the module descriptor.
+   *
+   * @param moduleDescriptor - module descriptor
+   * @return map with permission header values, keyed by routing entry identity
+   */
+  public static Map<RoutingEntry, AuthtokenPermissionHeaders> index(ModuleDescriptor moduleDescriptor) {
+    var headers = new IdentityHashMap<RoutingEntry, AuthtokenPermissionHeaders>();
+    if (moduleDescriptor == null || moduleDescriptor.getProvides() == null) {
+      return headers;
+    }
+
+    for (var interfaceDescriptor : moduleDescriptor.getProvides()) {
+      if (interfaceDescriptor.getHandlers() == null) {
+        continue;
+      }
+      for (var routingEntry : interfaceDescriptor.getHandlers()) {
+        headers.put(routingEntry, of(routingEntry, moduleDescriptor));
+      }
+    }
+
+    return headers;
+  }
+
+  private static Map<String, List<String>> getModulePermissions(RoutingEntry routingEntry,
+    ModuleDescriptor moduleDescriptor) {
+    var modulePermissions = routingEntry.getModulePermissions();
+    if (isEmpty(modulePermissions)) {
+      return emptyMap();
+    }
+
+    return singletonMap(moduleDescriptor.getId(), modulePermissions);
+  }
+
+  private static String joinPermissions(List<String> permissions) {
+    return isEmpty(permissions) ? null : String.join(COMMA, permissions);
+  }
+}
@@ -0,0 +1,126 @@
+package org.folio.security.integration.authtoken.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.security.integration.authtoken.configuration.properties.OkapiProperties;
+import org.folio.security.service.TokenDigest;
+
+/**
+ * Cache of successful mod-authtoken checks.
+ *
+ * <p>Checks are keyed by SHA-256 digest of the access token and permission header values, so raw tokens are never
+ * kept in memory. Failed checks are not cached. A cached check is kept for the configured TTL and never outlives the
+ * token expiration time, if the token has one.</p>
+ */
+public class OkapiAuthorizationCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "okapi.authorization.checks";
+
+  private final Cache<CheckKey, Duration> cache;
+  private final Duration ttl;
+  private final Clock clock;
+
+  /**
+   * Creates authorization check cache.
+   *
+   * @param properties - authorization cache properties
+   */
+  public OkapiAuthorizationCache(OkapiProperties.OkapiAuthorizationCacheProperties properties) {
+    this(properties, Ticker.systemTicker(), Clock.systemUTC());
+  }
+
+  OkapiAuthorizationCache(OkapiProperties.OkapiAuthorizationCacheProperties properties, Ticker ticker, Clock clock) {
+    this.ttl = properties.getTtl();
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(properties.getMaxSize())
+      .expireAfter(Expiry.writing((CheckKey key, Duration checkTtl) -> checkTtl))
+      .ticker(ticker)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Creates cache key for the given access token and permission header values.
+   *
+   * @param token - raw access token
+   * @param headers - permission header values
+   * @return {@link CheckKey} object
+   */
+  public CheckKey createKey(String token, AuthtokenPermissionHeaders headers) {
+    return new CheckKey(TokenDigest.sha256(token), headers);
+  }
+
+  /**
+   * Checks if successful check is cached.
+   *
+   * @param key - check key
+   * @return true if successful check is cached and not expired, false - otherwise
+   */
+  public boolean isAuthorized(CheckKey key) {
+    return cache.getIfPresent(key) != null;
+  }
+
+  /**
+   * Caches successful check until the token expiration time, but not longer than the configured TTL.
+   *
+   * @param key - check key
+   * @param tokenExpiresAt - token expiration time in seconds since epoch, nullable (token does not expire)
+   */
+  public void putAuthorized(CheckKey key, Long tokenExpiresAt) {
+    var effectiveTtl = ttl;
+    if (tokenExpiresAt != null) {
+      var tokenTtl = Duration.ofSeconds(tokenExpiresAt).minusMillis(clock.millis());
+      effectiveTtl = tokenTtl.compareTo(ttl) < 0 ? tokenTtl : ttl;
+    }
+
+    if (effectiveTtl.isNegative() || effectiveTtl.isZero()) {
+      return;
+    }
+
+    cache.put(key, effectiveTtl);
+  }
+
+  /**
+   * Removes all cached checks.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Provides cache statistics: hit, miss and eviction counters.
+   *
+   * @return {@link CacheStats} of the check cache
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  /**
+   * Binds cache size, hit/miss and eviction metrics to the given registry.
+   *
+   * @param registry - meter registry
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    new CaffeineCacheMetrics<>(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+  }
+
+  /**
+   * Cache key: token digest and permission header values.
+   *
+   * @param tokenDigest - SHA-256 digest of the access token
+   * @param headers - permission header values
+   */
+  public record CheckKey(String tokenDigest, AuthtokenPermissionHeaders headers) {}
+}
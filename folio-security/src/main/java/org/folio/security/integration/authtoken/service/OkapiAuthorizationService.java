@@ -1,29 +1,28 @@
 package org.folio.security.integration.authtoken.service;
 
-import static java.util.Collections.emptyMap;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.folio.common.utils.OkapiHeaders.SUPERTENANT_ID;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
+import lombok.Setter;
+import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
 import org.folio.security.domain.model.AuthUserPrincipal;
 import org.folio.security.domain.model.OkapiAccessToken;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
-import org.folio.security.exception.RoutingEntryMatchingException;
 import org.folio.security.integration.authtoken.client.AuthtokenClient;
+import org.folio.security.integration.authtoken.service.OkapiAuthorizationCache.CheckKey;
 import org.folio.security.service.AbstractAuthorizationService;
 import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
+import org.folio.security.service.SingleFlight;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
 import org.springframework.web.client.HttpClientErrorException;
@@ -32,7 +31,6 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class OkapiAuthorizationService extends AbstractAuthorizationService {
 
-  private static final String COMMA = ",";
   private static final String TOKEN_SEPARATOR = "\\.";
   private static final String INVALID_SEGMENTS_JWT_ERROR_MSG = "Invalid amount of segments in JsonWebToken.";
 
@@ -41,54 +39,99 @@ public class OkapiAuthorizationService extends AbstractAuthorizationService {
   private final AuthtokenClient authtokenClient;
   private final RoutingEntryMatcher routingEntryMatcher;
   private final InternalModuleDescriptorProvider descriptorProvider;
+  private final SingleFlight<AuthtokenCheckKey, Boolean> authtokenCheckFlight = new SingleFlight<>();
+  private volatile PermissionHeadersIndex permissionHeadersIndex;
+
+  /**
+   * Optional successful check cache, checks are not cached if it is not set.
+   */
+  @Setter private OkapiAuthorizationCache authorizationCache;
+
+  /**
+   * Optional per-tenant bulkhead and circuit breaker for mod-authtoken calls, tenant is taken from the token
+   * {@code tenant} claim, not from the client-supplied {@code x-okapi-tenant} header.
+   */
+  @Setter private RemoteCallGuard remoteCallGuard;
 
   @Override
   public Authentication authorize(HttpServletRequest request, String token) {
     var path = getRequestPath(request);
     var method = request.getMethod();
 
-    var routingEntry = routingEntryMatcher.lookup(method, path)
-      .orElseThrow(() -> new RoutingEntryMatchingException("Unable to resolve routing entry for path: " + path));
+    var routingEntry = lookupRoutingEntry(routingEntryMatcher, request, method, path);
+
+    var headers = getPermissionHeaders(routingEntry);
+    var cacheKey = authorizationCache != null ? authorizationCache.createKey(token, headers) : null;
+    var isCached = cacheKey != null && authorizationCache.isAuthorized(cacheKey);
+    var parsedToken = getParsedJwtBody(token);
+    if (!isCached) {
+      checkAuthToken(parsedToken.getTenant(), path, headers, token);
+    }
 
-    var requiredPermissions = extractPermissionsCommaSplit(routingEntry.getPermissionsRequired());
-    var desiredPermissions = extractPermissionsCommaSplit(routingEntry.getPermissionsDesired());
-    var modulePermissions = extractModulePermissions(routingEntry);
+    if (cacheKey != null && !isCached) {
+      authorizationCache.putAuthorized(cacheKey, parsedToken.getExp());
+    }
+
+    return createAuthentication(parsedToken);
+  }
 
+  private void checkAuthToken(String tenant, String path, AuthtokenPermissionHeaders headers, String token) {
     try {
-      authtokenClient.checkAuthToken(URI.create(path), requiredPermissions, desiredPermissions, modulePermissions,
-        token, SUPERTENANT_ID, okapiUrl);
+      var checkKey = new AuthtokenCheckKey(path, headers, token);
+      authtokenCheckFlight.execute(checkKey, () -> remoteCallGuard != null
+        ? remoteCallGuard.execute(tenant, () -> callAuthtoken(tenant, checkKey))
+        : callAuthtoken(tenant, checkKey));
     } catch (HttpClientErrorException.Forbidden e) {
-      throw new ForbiddenException("Access forbidden");
+      throw ForbiddenException.stackless("Access forbidden");
     } catch (HttpClientErrorException.Unauthorized e) {
-      throw new NotAuthorizedException("Not authorized");
+      throw NotAuthorizedException.stackless("Not authorized");
     }
-    return createAuthentication(token);
   }
 
-  private Map<String, List<String>> extractModulePermissions(RoutingEntry routingEntry) {
-    var modPerms = routingEntry.getModulePermissions();
-    if (CollectionUtils.isNotEmpty(modPerms)) {
-      var modPermissionsGroupedByModuleId = new HashMap<String, List<String>>();
-      var moduleId = descriptorProvider.getModuleDescriptor().getId();
-      modPermissionsGroupedByModuleId.put(moduleId, modPerms);
-      return modPermissionsGroupedByModuleId;
+  /**
+   * Calls mod-authtoken, concurrent identical checks share a single call.
+   */
+  private Boolean callAuthtoken(String tenant, AuthtokenCheckKey key) {
+    var headers = key.headers();
+    var startedAt = securityMetrics != null ? securityMetrics.startTimer() : 0L;
+    try {
+      authtokenClient.checkAuthToken(URI.create(key.path()), headers.requiredPermissions(),
+        headers.desiredPermissions(), headers.modulePermissions(), key.token(), SUPERTENANT_ID, okapiUrl);
+      recordRemoteAuthorization(startedAt, tenant, null);
+      return Boolean.TRUE;
+    } catch (RuntimeException e) {
+      recordRemoteAuthorization(startedAt, tenant, e);
+      throw e;
     }
-    return emptyMap();
   }
 
-  private String extractPermissionsCommaSplit(List<String> permissions) {
-    if (isEmpty(permissions)) {
-      return null;
+  private void recordRemoteAuthorization(long startedAt, String tenant, Throwable error) {
+    if (securityMetrics != null) {
+      securityMetrics.recordRemoteAuthorization(startedAt, "authtoken", tenant, error);
     }
-    return String.join(COMMA, permissions);
   }
 
-  private PreAuthenticatedAuthenticationToken createAuthentication(String jwt) {
-    return new PreAuthenticatedAuthenticationToken(getAuthUserPrincipal(jwt), null, Collections.emptyList());
+  /**
+   * Returns permission header values for the routing entry, precomputed once per loaded module descriptor.
+   */
+  private AuthtokenPermissionHeaders getPermissionHeaders(RoutingEntry routingEntry) {
+    var moduleDescriptor = descriptorProvider.getModuleDescriptor();
+    var index = permissionHeadersIndex;
+    if (index == null || index.moduleDescriptor() != moduleDescriptor) {
+      index = new PermissionHeadersIndex(moduleDescriptor, AuthtokenPermissionHeaders.index(moduleDescriptor));
+      permissionHeadersIndex = index;
+    }
+
+    var headers = index.headers().get(routingEntry);
+    return headers != null ? headers : AuthtokenPermissionHeaders.of(routingEntry, moduleDescriptor);
   }
 
-  private AuthUserPrincipal getAuthUserPrincipal(String jwt) {
-    var parsedOkapiToken = getParsedJwtBody(jwt);
+  private PreAuthenticatedAuthenticationToken createAuthentication(OkapiAccessToken parsedOkapiToken) {
+    return new PreAuthenticatedAuthenticationToken(getAuthUserPrincipal(parsedOkapiToken), null,
+      Collections.emptyList());
+  }
+
+  private AuthUserPrincipal getAuthUserPrincipal(OkapiAccessToken parsedOkapiToken) {
     var userId = parsedOkapiToken.getUserId();
     return new AuthUserPrincipal()
       .tenant(parsedOkapiToken.getTenant())
@@ -99,14 +142,19 @@ public class OkapiAuthorizationService extends AbstractAuthorizationService {
   private OkapiAccessToken getParsedJwtBody(String authToken) {
     var split = authToken.split(TOKEN_SEPARATOR);
     if (split.length < 2 || split.length > 3) {
-      throw new NotAuthorizedException(INVALID_SEGMENTS_JWT_ERROR_MSG);
+      throw NotAuthorizedException.stackless(INVALID_SEGMENTS_JWT_ERROR_MSG);
     }
 
     try {
       var decodedValue = new String(Base64.getDecoder().decode(split[1]));
       return objectMapper.readValue(decodedValue, OkapiAccessToken.class);
     } catch (Exception exception) {
-      throw new NotAuthorizedException("Failed to read JsonWebToken body", exception);
+      throw NotAuthorizedException.stackless("Failed to read JsonWebToken body", exception);
     }
   }
+
+  private record AuthtokenCheckKey(String path, AuthtokenPermissionHeaders headers, String token) {}
+
+  private record PermissionHeadersIndex(ModuleDescriptor moduleDescriptor,
+    Map<RoutingEntry, AuthtokenPermissionHeaders> headers) {}
 }
@@ -3,15 +3,26 @@ package org.folio.security.integration.keycloak.configuration;
 import static org.folio.common.utils.tls.HttpClientTlsUtils.buildHttpServiceClient;
 
 import lombok.RequiredArgsConstructor;
+import org.folio.jwt.openid.JsonWebTokenCache;
 import org.folio.jwt.openid.JsonWebTokenParser;
 import org.folio.jwt.openid.OpenidJwtParserProvider;
 import org.folio.jwt.openid.configuration.JwtParserConfiguration;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.folio.security.integration.keycloak.service.KeycloakAuthorizationService;
+import org.folio.security.integration.keycloak.service.KeycloakJwtParserPreloader;
+import org.folio.security.integration.keycloak.service.KeycloakLocalPolicyEvaluator;
+import org.folio.security.integration.keycloak.service.KeycloakModuleDescriptorMapper;
+import org.folio.security.integration.keycloak.service.KeycloakPermissionCache;
 import org.folio.security.integration.keycloak.service.KeycloakPublicKeyProvider;
+import org.folio.security.integration.keycloak.service.KeycloakRptPermissionProvider;
 import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
+import org.folio.security.service.SecurityMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -23,7 +34,8 @@ import org.springframework.web.util.UrlPathHelper;
 import tools.jackson.databind.ObjectMapper;
 
 @ConditionalOnProperty({"application.security.enabled", "application.keycloak.enabled"})
-@EnableConfigurationProperties(KeycloakProperties.class)
+@EnableConfigurationProperties({
+  KeycloakProperties.class, RoutingCacheProperties.class, RemoteCallGuardProperties.class})
 @RequiredArgsConstructor
 public class KeycloakSecurityConfiguration {
 
@@ -31,49 +43,114 @@ public class KeycloakSecurityConfiguration {
 
   @Bean
   public KeycloakAuthClient keycloakAuthClient() {
-    return buildHttpServiceClient(RestClient.builder(), properties.getTls(), properties.getUrl(),
-      KeycloakAuthClient.class);
+    return buildHttpServiceClient(RestClient.builder(), properties.getTls(), properties.getHttpClient(),
+      properties.getUrl(), KeycloakAuthClient.class);
   }
 
   @Bean
   public KeycloakAuthorizationService authorizationService(KeycloakAuthClient keycloakClient,
     RoutingEntryMatcher routingEntryMatcher, JsonWebTokenParser jsonWebTokenParser,
-    Environment environment, UrlPathHelper urlPathHelper) {
+    Environment environment, UrlPathHelper urlPathHelper, ObjectProvider<KeycloakPermissionCache> permissionCache,
+    ObjectProvider<KeycloakLocalPolicyEvaluator> policyEvaluator,
+    ObjectProvider<KeycloakRptPermissionProvider> rptPermissionProvider,
+    ObjectProvider<RemoteCallGuard> remoteCallGuard, ObjectProvider<SecurityMetrics> securityMetrics) {
     var service = new KeycloakAuthorizationService(properties, keycloakClient, routingEntryMatcher, jsonWebTokenParser);
     service.setEnvironment(environment);
     service.setUrlPathHelper(urlPathHelper);
+    permissionCache.ifAvailable(service::setPermissionCache);
+    policyEvaluator.ifAvailable(service::setPolicyEvaluator);
+    rptPermissionProvider.ifAvailable(service::setRptPermissionProvider);
+    remoteCallGuard.ifAvailable(service::setRemoteCallGuard);
+    securityMetrics.ifAvailable(service::setSecurityMetrics);
     return service;
   }
 
   @Bean
-  public KeycloakPublicKeyProvider publicKeyProvider(KeycloakAuthClient keycloakAuthClient) {
-    return new KeycloakPublicKeyProvider(keycloakAuthClient);
+  @ConditionalOnProperty("application.security.remote-call-guard.enabled")
+  public RemoteCallGuard remoteCallGuard(RemoteCallGuardProperties remoteCallGuardProperties) {
+    return new RemoteCallGuard("keycloak", remoteCallGuardProperties);
+  }
+
+  @Bean
+  @ConditionalOnProperty("application.keycloak.rpt.enabled")
+  public KeycloakRptPermissionProvider keycloakRptPermissionProvider(KeycloakAuthClient keycloakClient,
+    JsonWebTokenParser jsonWebTokenParser, OpenidJwtParserProvider openidJwtParserProvider,
+    ObjectProvider<RemoteCallGuard> remoteCallGuard, ObjectProvider<SecurityMetrics> securityMetrics) {
+    var provider = new KeycloakRptPermissionProvider(keycloakClient, jsonWebTokenParser,
+      properties.getClient().getClientId(), properties.getRpt());
+    openidJwtParserProvider.registerInvalidationListener(provider::invalidate);
+    remoteCallGuard.ifAvailable(provider::setRemoteCallGuard);
+    securityMetrics.ifAvailable(provider::setSecurityMetrics);
+    return provider;
+  }
+
+  @Bean
+  @ConditionalOnProperty("application.keycloak.local-policy-evaluation.enabled")
+  public KeycloakLocalPolicyEvaluator keycloakLocalPolicyEvaluator(
+    InternalModuleDescriptorProvider descriptorProvider) {
+    return new KeycloakLocalPolicyEvaluator(descriptorProvider, new KeycloakModuleDescriptorMapper());
+  }
+
+  @Bean
+  @ConditionalOnProperty("application.keycloak.authorization-cache.enabled")
+  public KeycloakPermissionCache keycloakPermissionCache(OpenidJwtParserProvider openidJwtParserProvider) {
+    var permissionCache = new KeycloakPermissionCache(properties.getAuthorizationCache());
+    openidJwtParserProvider.registerInvalidationListener(permissionCache::invalidate);
+    return permissionCache;
+  }
+
+  @Bean
+  public KeycloakPublicKeyProvider publicKeyProvider(KeycloakAuthClient keycloakAuthClient,
+    ObjectProvider<SecurityMetrics> securityMetrics) {
+    var publicKeyProvider = new KeycloakPublicKeyProvider(keycloakAuthClient, properties.getJwksCache());
+    securityMetrics.ifAvailable(publicKeyProvider::setSecurityMetrics);
+    return publicKeyProvider;
   }
 
   @Bean
   public JsonWebTokenParser jsonWebTokenParser(ObjectMapper objectMapper, KeycloakProperties keycloakProperties,
     OpenidJwtParserProvider openidJwtParserProvider) {
 
+    var jwtCacheConfiguration = properties.getJwtCacheConfiguration();
     var jwtParserConfiguration = JwtParserConfiguration.builder()
-      .validateUri(properties.getJwtCacheConfiguration().isValidateUri())
+      .validateUri(jwtCacheConfiguration.isValidateUri())
       .issuerRootUri(keycloakProperties.getUrl())
       .build();
 
-    return new JsonWebTokenParser(objectMapper, jwtParserConfiguration, openidJwtParserProvider);
+    var tokenCacheProperties = jwtCacheConfiguration.getTokenCache();
+    var tokenCache = tokenCacheProperties.isEnabled()
+      ? new JsonWebTokenCache(tokenCacheProperties.getMaxSize(), tokenCacheProperties.getMaxTtl())
+      : null;
+
+    return new JsonWebTokenParser(objectMapper, jwtParserConfiguration, openidJwtParserProvider, tokenCache);
   }
 
   @Bean
-  public OpenidJwtParserProvider openidJwtParserProvider() {
+  public OpenidJwtParserProvider openidJwtParserProvider(ObjectProvider<SecurityMetrics> securityMetrics) {
     var jwtCacheConfiguration = properties.getJwtCacheConfiguration();
-    return new OpenidJwtParserProvider(
+    var provider = new OpenidJwtParserProvider(
       jwtCacheConfiguration.getJwksRefreshInterval(),
       jwtCacheConfiguration.getForcedJwksRefreshInterval(),
       properties.getJwksBaseUrl());
+    securityMetrics.ifAvailable(metrics -> provider.setJwksLoadListener(metrics.jwksLoadListener()));
+
+    var backgroundRefreshInterval = jwtCacheConfiguration.getBackgroundRefreshInterval();
+    if (backgroundRefreshInterval != null) {
+      provider.startBackgroundRefresh(backgroundRefreshInterval);
+    }
+
+    return provider;
+  }
+
+  @Bean
+  public KeycloakJwtParserPreloader keycloakJwtParserPreloader(OpenidJwtParserProvider openidJwtParserProvider) {
+    return new KeycloakJwtParserPreloader(properties, openidJwtParserProvider);
   }
 
   @Bean
-  public RoutingEntryMatcher routingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider) {
-    return new RoutingEntryMatcher(descriptorProvider);
+  public RoutingEntryMatcher routingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider,
+    RoutingCacheProperties routingCacheProperties) {
+    return new RoutingEntryMatcher(descriptorProvider, routingCacheProperties);
   }
 
   @Bean
@@ -1,7 +1,14 @@
 package org.folio.security.integration.keycloak.configuration.properties;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.folio.common.configuration.properties.HttpClientProperties;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
@@ -28,8 +35,33 @@ public class KeycloakProperties {
   /**
    * Authentication JWT parser configuration settings.
    */
+  @Valid
   private KeycloakJwtCacheProperties jwtCacheConfiguration = new KeycloakJwtCacheProperties();
 
+  /**
+   * Realm public key (JWKS) cache settings, used by token validator.
+   */
+  @Valid
+  private KeycloakJwksCacheProperties jwksCache = new KeycloakJwksCacheProperties();
+
+  /**
+   * Authorization (UMA permission evaluation) decision cache settings.
+   */
+  @Valid
+  private KeycloakAuthorizationCacheProperties authorizationCache = new KeycloakAuthorizationCacheProperties();
+
+  /**
+   * In-process permission evaluation settings.
+   */
+  @Valid
+  private KeycloakLocalPolicyProperties localPolicyEvaluation = new KeycloakLocalPolicyProperties();
+
+  /**
+   * Requesting party token (RPT) authorization settings.
+   */
+  @Valid
+  private KeycloakRptProperties rpt = new KeycloakRptProperties();
+
   /**
    * Impersonation client name.
    */
@@ -53,6 +85,12 @@ public class KeycloakProperties {
   @NestedConfigurationProperty
   private TlsProperties tls;
 
+  /**
+   * Keycloak HTTP client connection properties.
+   */
+  @NestedConfigurationProperty
+  private HttpClientProperties httpClient = new HttpClientProperties();
+
   @Data
   @NoArgsConstructor
   public static class KeycloakJwtCacheProperties {
@@ -73,5 +111,135 @@ public class KeycloakProperties {
      * <p>Applies for signing key rotation</p>
      */
     private int forcedJwksRefreshInterval = 60;
+
+    /**
+     * Realms (tenants) which JWT parsers are created and JWKS loaded for on application startup.
+     */
+    private List<String> preloadRealms = new ArrayList<>();
+
+    /**
+     * Interval of background JWT parser refresh with freshly loaded JWKS, nullable (background refresh is disabled).
+     *
+     * <p>Must be shorter than {@link #jwksRefreshInterval}, so request threads never find an expired JWKS.</p>
+     */
+    private Duration backgroundRefreshInterval;
+
+    /**
+     * Verified token cache settings.
+     */
+    @Valid
+    private KeycloakTokenCacheProperties tokenCache = new KeycloakTokenCacheProperties();
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class KeycloakTokenCacheProperties {
+
+    /**
+     * Defines if verified json web tokens must be cached to skip repeated signature verification.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached tokens.
+     */
+    @Positive
+    private long maxSize = 10_000;
+
+    /**
+     * Maximum time to keep verified token, nullable, token never outlives its expiration time.
+     */
+    private Duration maxTtl = Duration.ofMinutes(5);
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class KeycloakJwksCacheProperties {
+
+    /**
+     * Maximum number of realms which keys are cached.
+     */
+    @Positive
+    private long maxRealms = 1_000;
+
+    /**
+     * Time to keep realm keys before reloading them.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Minimum interval between JWKS fetches for a realm, triggered by unknown key identifiers or failed fetches.
+     */
+    @NotNull
+    private Duration minRefreshInterval = Duration.ofSeconds(10);
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class KeycloakAuthorizationCacheProperties {
+
+    /**
+     * Defines if Keycloak permission evaluation decisions must be cached.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached decisions.
+     */
+    @Positive
+    private long maxSize = 10_000;
+
+    /**
+     * Maximum time to keep granted decision, decision never outlives the token expiration time.
+     */
+    @NotNull
+    private Duration maxTtl = Duration.ofMinutes(1);
+
+    /**
+     * Time to keep denied decision, must be short to pick up permission changes quickly.
+     */
+    @NotNull
+    private Duration denialTtl = Duration.ofSeconds(5);
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class KeycloakLocalPolicyProperties {
+
+    /**
+     * Defines if permissions must be granted in-process by realm roles of the access token, using role policies
+     * mapped from the module descriptor, before falling back to Keycloak permission evaluation.
+     */
+    private boolean enabled = false;
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class KeycloakRptProperties {
+
+    /**
+     * Defines if requests must be authorized by permissions of a requesting party token, requested once per access
+     * token, instead of per-request permission evaluation.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of access tokens which RPT permissions are cached.
+     */
+    @Positive
+    private long maxSize = 10_000;
+
+    /**
+     * Maximum time to keep RPT permissions, they never outlive the access token and RPT expiration time.
+     */
+    @NotNull
+    private Duration maxTtl = Duration.ofMinutes(5);
+
+    /**
+     * Time to keep the result of a rejected RPT request, must be short to pick up permission changes quickly.
+     */
+    @NotNull
+    private Duration denialTtl = Duration.ofSeconds(5);
   }
 }
@@ -11,7 +11,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.jwt.JsonWebToken;
@@ -20,11 +22,15 @@ import org.folio.jwt.openid.JsonWebTokenParser;
 import org.folio.security.domain.model.AuthUserPrincipal;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
-import org.folio.security.exception.RoutingEntryMatchingException;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.integration.keycloak.model.TokenResponse;
+import org.folio.security.integration.keycloak.service.KeycloakPermissionCache.Decision;
+import org.folio.security.integration.keycloak.service.KeycloakPermissionCache.PermissionKey;
 import org.folio.security.service.AbstractAuthorizationService;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
+import org.folio.security.service.SingleFlight;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
 import org.springframework.util.LinkedMultiValueMap;
@@ -39,23 +45,53 @@ public class KeycloakAuthorizationService extends AbstractAuthorizationService {
   private final KeycloakAuthClient keycloakClient;
   private final RoutingEntryMatcher routingEntryMatcher;
   private final JsonWebTokenParser jsonWebTokenParser;
+  private final SingleFlight<EvaluationKey, TokenResponse> evaluationFlight = new SingleFlight<>();
+
+  /**
+   * Optional permission evaluation decision cache, decisions are not cached if it is not set.
+   */
+  @Setter private KeycloakPermissionCache permissionCache;
+
+  /**
+   * Optional local policy evaluator, all permissions are evaluated by Keycloak if it is not set.
+   */
+  @Setter private KeycloakLocalPolicyEvaluator policyEvaluator;
+
+  /**
+   * Optional requesting party token (RPT) permission provider, replaces per-request permission evaluation if set.
+   */
+  @Setter private KeycloakRptPermissionProvider rptPermissionProvider;
+
+  /**
+   * Optional per-tenant bulkhead and circuit breaker for permission evaluation calls.
+   */
+  @Setter private RemoteCallGuard remoteCallGuard;
 
   @Override
   public Authentication authorize(HttpServletRequest request, String token) {
     var path = getRequestPath(request);
     var method = request.getMethod();
-    var routingEntry = routingEntryMatcher.lookup(method, path)
-      .orElseThrow(() -> new RoutingEntryMatchingException("Unable to resolve routing entry for path: " + path));
+    var routingEntry = lookupRoutingEntry(routingEntryMatcher, request, method, path);
+    var accessToken = parseToken(token);
+    return isEmpty(routingEntry.getPermissionsRequired())
+      ? checkTenantMatching(accessToken, request)
+      : evaluatePermissions(routingEntry, method, accessToken, token);
+  }
 
-    JsonWebToken accessToken;
+  private JsonWebToken parseToken(String token) {
+    var startedAt = securityMetrics != null ? securityMetrics.startTimer() : 0L;
     try {
-      accessToken = jsonWebTokenParser.parse(token);
+      var accessToken = jsonWebTokenParser.parse(token);
+      if (securityMetrics != null) {
+        securityMetrics.recordTokenParse(startedAt, getTenant(accessToken), true);
+      }
+      return accessToken;
     } catch (ParseException e) {
-      throw new NotAuthorizedException("Not authorized");
+      if (securityMetrics != null) {
+        securityMetrics.recordTokenParse(startedAt, null, false);
+      }
+      throw NotAuthorizedException.stackless("Not authorized");
     }
-    return isEmpty(routingEntry.getPermissionsRequired())
-      ? checkTenantMatching(accessToken, request)
-      : evaluatePermissions(routingEntry, method, accessToken, token);
   }
 
   private Authentication checkTenantMatching(JsonWebToken accessToken, HttpServletRequest request) {
@@ -71,26 +107,114 @@ public class KeycloakAuthorizationService extends AbstractAuthorizationService {
 
   private Authentication evaluatePermissions(RoutingEntry re, String method, JsonWebToken jwt, String jwtStr) {
     log.info("Evaluating user permissions to {}", re);
-    var body = prepareRequestBody(re, method);
+    var permission = getPermission(re, method);
+    if (policyEvaluator != null && policyEvaluator.isGranted(permission, jwt)) {
+      return createAuthentication(jwt);
+    }
+
+    if (rptPermissionProvider != null) {
+      return authorizeByRpt(re, method, jwt, jwtStr);
+    }
+
+    var cacheKey = getCacheKey(jwt, jwtStr, permission);
+    var cachedDecision = cacheKey != null ? permissionCache.get(cacheKey) : null;
+    if (cachedDecision != null) {
+      log.debug("Using cached permission decision: permission = {}, decision = {}", permission, cachedDecision);
+      if (cachedDecision == Decision.DENIED) {
+        throw ForbiddenException.stackless("Access forbidden");
+      }
+      return createAuthentication(jwt);
+    }
+
     try {
-      keycloakClient.evaluatePermissions(body, "Bearer " + jwtStr);
+      var evaluationKey = new EvaluationKey(jwtStr, permission);
+      evaluationFlight.execute(evaluationKey, () -> guardRemoteCall(jwt,
+        () -> evaluateRemotely(permission, jwt, jwtStr, cacheKey)));
       return createAuthentication(jwt);
     } catch (HttpClientErrorException.Forbidden e) {
-      throw new ForbiddenException("Access forbidden", e);
+      throw ForbiddenException.stackless("Access forbidden", e);
+    } catch (HttpClientErrorException.Unauthorized e) {
+      throw NotAuthorizedException.stackless("Not authorized", e);
+    }
+  }
+
+  private Authentication authorizeByRpt(RoutingEntry re, String method, JsonWebToken jwt, String jwtStr) {
+    boolean granted;
+    try {
+      granted = rptPermissionProvider.isGranted(jwt, jwtStr, getResource(re), method);
     } catch (HttpClientErrorException.Unauthorized e) {
-      throw new NotAuthorizedException("Not authorized", e);
+      throw NotAuthorizedException.stackless("Not authorized", e);
     }
+
+    if (!granted) {
+      throw ForbiddenException.stackless("Access forbidden");
+    }
+
+    return createAuthentication(jwt);
+  }
+
+  /**
+   * Sends UMA permission evaluation request to Keycloak, concurrent identical evaluations share a single call.
+   */
+  private TokenResponse evaluateRemotely(String permission, JsonWebToken jwt, String jwtStr, PermissionKey cacheKey) {
+    var startedAt = securityMetrics != null ? securityMetrics.startTimer() : 0L;
+    try {
+      var tokenResponse = keycloakClient.evaluatePermissions(prepareRequestBody(permission), "Bearer " + jwtStr);
+      recordRemoteAuthorization(startedAt, jwt, null);
+      if (cacheKey != null) {
+        permissionCache.putGranted(cacheKey, jwt.getExpirationTime());
+      }
+      return tokenResponse;
+    } catch (HttpClientErrorException.Forbidden e) {
+      recordRemoteAuthorization(startedAt, jwt, e);
+      if (cacheKey != null) {
+        permissionCache.putDenied(cacheKey, jwt.getExpirationTime());
+      }
+      throw e;
+    } catch (RuntimeException e) {
+      recordRemoteAuthorization(startedAt, jwt, e);
+      throw e;
+    }
+  }
+
+  private void recordRemoteAuthorization(long startedAt, JsonWebToken jwt, Throwable error) {
+    if (securityMetrics != null) {
+      securityMetrics.recordRemoteAuthorization(startedAt, "keycloak", getTenant(jwt), error);
+    }
+  }
+
+  private static String getTenant(JsonWebToken jwt) {
+    return jwt.getIssuer() != null ? resolveTenant(jwt.getIssuer()) : null;
+  }
+
+  private <T> T guardRemoteCall(JsonWebToken jwt, Supplier<T> call) {
+    return remoteCallGuard != null ? remoteCallGuard.execute(resolveTenant(jwt.getIssuer()), call) : call.get();
+  }
+
+  private PermissionKey getCacheKey(JsonWebToken jwt, String jwtStr, String permission) {
+    if (permissionCache == null || jwt.getIssuer() == null) {
+      return null;
+    }
+
+    return permissionCache.createKey(resolveTenant(jwt.getIssuer()), jwtStr, permission);
   }
 
-  private MultiValueMap<String, String> prepareRequestBody(RoutingEntry routingEntry, String scope) {
-    var resource = StringUtils.getIfEmpty(routingEntry.getPath(), routingEntry::getPathPattern);
+  private MultiValueMap<String, String> prepareRequestBody(String permission) {
     MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
     body.add("grant_type", UMA_GRANT_TYPE);
     body.add("audience", properties.getClient().getClientId());
-    body.add("permission", resource + "#" + scope);
+    body.add("permission", permission);
     return body;
   }
 
+  private static String getPermission(RoutingEntry routingEntry, String scope) {
+    return getResource(routingEntry) + "#" + scope;
+  }
+
+  private static String getResource(RoutingEntry routingEntry) {
+    return StringUtils.getIfEmpty(routingEntry.getPath(), routingEntry::getPathPattern);
+  }
+
   private static PreAuthenticatedAuthenticationToken createAuthentication(JsonWebToken accessToken) {
     var authUserPrincipal = new AuthUserPrincipal()
       .userId(getFolioUserId(accessToken))
@@ -108,4 +232,6 @@ public class KeycloakAuthorizationService extends AbstractAuthorizationService {
       .map(UUID::fromString)
       .orElse(null);
   }
+
+  private record EvaluationKey(String token, String permission) {}
 }
@@ -0,0 +1,38 @@
+package org.folio.security.integration.keycloak.service;
+
+import static org.apache.commons.lang3.StringUtils.removeEnd;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.jwt.openid.OpenidJwtParserProvider;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Creates JWT parsers and loads JWKS for the configured realms on application startup, so the first request per
+ * realm does not pay the JWKS fetch.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class KeycloakJwtParserPreloader {
+
+  private final KeycloakProperties properties;
+  private final OpenidJwtParserProvider openidJwtParserProvider;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void preloadParsers() {
+    var realms = properties.getJwtCacheConfiguration().getPreloadRealms();
+    if (realms.isEmpty()) {
+      return;
+    }
+
+    log.info("Preloading JWT parsers for realms: {}", realms);
+    var issuerRootUri = removeEnd(properties.getUrl(), "/");
+    var issuerUris = realms.stream()
+      .map(realm -> issuerRootUri + "/realms/" + realm)
+      .toList();
+
+    openidJwtParserProvider.preload(issuerUris);
+  }
+}
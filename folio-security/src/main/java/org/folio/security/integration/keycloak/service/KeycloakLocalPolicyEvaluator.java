@@ -0,0 +1,166 @@
+package org.folio.security.integration.keycloak.service;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+
+import jakarta.json.JsonString;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.security.integration.keycloak.model.KeycloakMappings;
+import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.keycloak.representations.idm.authorization.AbstractPolicyRepresentation;
+import org.keycloak.representations.idm.authorization.RolePolicyRepresentation;
+
+/**
+ * Evaluates Keycloak permissions in-process, using the policies imported to Keycloak for the module.
+ *
+ * <p>Mappings of {@link KeycloakModuleDescriptorMapper} (role policies and scope permissions) are compiled into a
+ * {@code resource#scope} to required roles index. A permission is granted locally if the verified access token has
+ * any of the required realm roles in {@code realm_access.roles} claim, the same way the affirmative role policies are
+ * evaluated by Keycloak. Evaluation never denies: unknown permissions or tokens without the required roles are left to
+ * the remote (UMA) evaluation, because Keycloak can have policies that are not described in the module
+ * descriptor.</p>
+ */
+@Log4j2
+public class KeycloakLocalPolicyEvaluator {
+
+  public static final String REALM_ACCESS_CLAIM = "realm_access";
+  public static final String ROLES_FIELD = "roles";
+
+  private final InternalModuleDescriptorProvider descriptorProvider;
+  private final KeycloakModuleDescriptorMapper mapper;
+  private volatile CompiledPolicies compiledPolicies;
+
+  /**
+   * Creates local policy evaluator.
+   *
+   * @param descriptorProvider - module descriptor provider
+   * @param mapper - module descriptor to Keycloak mappings mapper
+   */
+  public KeycloakLocalPolicyEvaluator(InternalModuleDescriptorProvider descriptorProvider,
+    KeycloakModuleDescriptorMapper mapper) {
+    this.descriptorProvider = descriptorProvider;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Checks if the permission can be granted by roles of the verified access token.
+   *
+   * @param permission - requested permission in format {@code resource#scope}
+   * @param accessToken - verified access token
+   * @return true if the token has any of the required roles, false if the decision must be made by Keycloak
+   */
+  public boolean isGranted(String permission, JsonWebToken accessToken) {
+    var requiredRoles = getRequiredRoles(permission);
+    if (requiredRoles.isEmpty()) {
+      return false;
+    }
+
+    for (var role : getRealmRoles(accessToken)) {
+      var roleName = getRoleName(role);
+      if (roleName != null && requiredRoles.contains(roleName)) {
+        log.debug("Permission is granted locally: permission = {}, role = {}", permission, roleName);
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Provides roles, any of which grants the given permission.
+   *
+   * @param permission - permission in format {@code resource#scope}
+   * @return required role names, empty if permission is not known
+   */
+  public Set<String> getRequiredRoles(String permission) {
+    return getCompiledPolicies().requiredRoles().getOrDefault(permission, emptySet());
+  }
+
+  /**
+   * Compiles Keycloak mappings into {@code resource#scope} to required roles index.
+   *
+   * @param mappings - Keycloak mappings of the module descriptor
+   * @return required role names by permission
+   */
+  public static Map<String, Set<String>> compile(KeycloakMappings mappings) {
+    var policyRoles = new HashMap<String, Set<String>>();
+    for (var policy : emptyIfNull(mappings.getRolePolicies())) {
+      policyRoles.put(policy.getName(), getRoleNames(policy));
+    }
+
+    var requiredRoles = new HashMap<String, Set<String>>();
+    for (var permission : emptyIfNull(mappings.getScopePermissions())) {
+      var roles = getPermissionRoles(permission, policyRoles);
+      if (roles.isEmpty()) {
+        continue;
+      }
+
+      for (var resource : emptyIfNull(permission.getResources())) {
+        for (var scope : emptyIfNull(permission.getScopes())) {
+          requiredRoles.computeIfAbsent(resource + "#" + scope, key -> new HashSet<>()).addAll(roles);
+        }
+      }
+    }
+
+    var result = new HashMap<String, Set<String>>(requiredRoles.size());
+    requiredRoles.forEach((permission, roles) -> result.put(permission, Set.copyOf(roles)));
+    return Map.copyOf(result);
+  }
+
+  private CompiledPolicies getCompiledPolicies() {
+    var descriptor = descriptorProvider.getModuleDescriptor();
+    var policies = compiledPolicies;
+    if (policies != null && policies.descriptor() == descriptor) {
+      return policies;
+    }
+
+    if (descriptor == null) {
+      return new CompiledPolicies(null, emptyMap());
+    }
+
+    log.info("Compiling local policies from module descriptor: id = {}", descriptor.getId());
+    policies = new CompiledPolicies(descriptor, compile(mapper.map(descriptor, false)));
+    compiledPolicies = policies;
+    return policies;
+  }
+
+  private static Set<String> getPermissionRoles(AbstractPolicyRepresentation permission,
+    Map<String, Set<String>> policyRoles) {
+    var roles = new HashSet<String>();
+    for (var policyName : emptyIfNull(permission.getPolicies())) {
+      roles.addAll(policyRoles.getOrDefault(policyName, emptySet()));
+    }
+    return roles;
+  }
+
+  private static Set<String> getRoleNames(RolePolicyRepresentation policy) {
+    var roles = new HashSet<String>();
+    for (var role : emptyIfNull(policy.getRoles())) {
+      roles.add(role.getId());
+    }
+    return roles;
+  }
+
+  private static Collection<?> getRealmRoles(JsonWebToken accessToken) {
+    return accessToken.getClaim(REALM_ACCESS_CLAIM) instanceof Map<?, ?> realmAccess
+      && realmAccess.get(ROLES_FIELD) instanceof Collection<?> roles ? roles : emptySet();
+  }
+
+  private static String getRoleName(Object role) {
+    if (role instanceof JsonString jsonString) {
+      return jsonString.getString();
+    }
+
+    return role instanceof String roleName ? roleName : null;
+  }
+
+  private record CompiledPolicies(ModuleDescriptor descriptor, Map<String, Set<String>> requiredRoles) {}
+}
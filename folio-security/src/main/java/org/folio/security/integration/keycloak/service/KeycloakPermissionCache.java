@@ -0,0 +1,177 @@
+package org.folio.security.integration.keycloak.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Predicate;
+import lombok.extern.log4j.Log4j2;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.service.TokenDigest;
+
+/**
+ * Cache of Keycloak permission evaluation (UMA) decisions.
+ *
+ * <p>Decisions are keyed by tenant, SHA-256 digest of the access token and requested permission
+ * ({@code resource#scope}), so raw tokens are never kept in memory. Granted decisions are kept for the configured
+ * maximum TTL, denied decisions are kept for a short denial TTL, both never outlive the token expiration time.</p>
+ */
+@Log4j2
+public class KeycloakPermissionCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "keycloak.authorization.decisions";
+
+  private final Cache<PermissionKey, CachedDecision> cache;
+  private final Duration maxTtl;
+  private final Duration denialTtl;
+  private final Clock clock;
+
+  /**
+   * Creates permission cache.
+   *
+   * @param properties - authorization cache properties
+   */
+  public KeycloakPermissionCache(KeycloakProperties.KeycloakAuthorizationCacheProperties properties) {
+    this(properties, Ticker.systemTicker(), Clock.systemUTC());
+  }
+
+  KeycloakPermissionCache(KeycloakProperties.KeycloakAuthorizationCacheProperties properties, Ticker ticker,
+    Clock clock) {
+    this.maxTtl = properties.getMaxTtl();
+    this.denialTtl = properties.getDenialTtl();
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(properties.getMaxSize())
+      .expireAfter(Expiry.writing((PermissionKey key, CachedDecision decision) -> decision.ttl()))
+      .ticker(ticker)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Creates cache key for the given tenant, access token and permission.
+   *
+   * @param tenant - tenant (realm) name, resolved from the token issuer
+   * @param token - raw access token
+   * @param permission - requested permission in format {@code resource#scope}
+   * @return {@link PermissionKey} object
+   */
+  public PermissionKey createKey(String tenant, String token, String permission) {
+    return new PermissionKey(tenant, TokenDigest.sha256(token), permission);
+  }
+
+  /**
+   * Returns cached decision.
+   *
+   * @param key - permission key
+   * @return cached {@link Decision}, null if decision is not cached or expired
+   */
+  public Decision get(PermissionKey key) {
+    var cachedDecision = cache.getIfPresent(key);
+    return cachedDecision != null ? cachedDecision.decision() : null;
+  }
+
+  /**
+   * Caches granted decision until the token expiration time, but not longer than the maximum TTL.
+   *
+   * @param key - permission key
+   * @param tokenExpiresAt - token expiration time in seconds since epoch
+   */
+  public void putGranted(PermissionKey key, long tokenExpiresAt) {
+    put(key, Decision.GRANTED, maxTtl, tokenExpiresAt);
+  }
+
+  /**
+   * Caches denied decision until the token expiration time, but not longer than the denial TTL.
+   *
+   * @param key - permission key
+   * @param tokenExpiresAt - token expiration time in seconds since epoch
+   */
+  public void putDenied(PermissionKey key, long tokenExpiresAt) {
+    put(key, Decision.DENIED, denialTtl, tokenExpiresAt);
+  }
+
+  /**
+   * Removes cached decisions of the matching tenants.
+   *
+   * <p>It is registered as {@link org.folio.jwt.openid.TenantInvalidationListener}, so decisions are dropped when
+   * tenant caches are invalidated with {@code OpenidJwtParserProvider.invalidateCache(...)}.</p>
+   *
+   * @param tenantFilter - matches tenant (realm) names whose decisions must be removed
+   */
+  public void invalidate(Predicate<String> tenantFilter) {
+    log.debug("Invalidating cached permission decisions of matching tenants");
+    cache.asMap().keySet().removeIf(key -> tenantFilter.test(key.tenant()));
+  }
+
+  /**
+   * Removes all cached decisions.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Provides an approximate number of cached decisions.
+   *
+   * @return estimated cache size
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Provides cache statistics: hit, miss and eviction counters.
+   *
+   * @return {@link CacheStats} of the decision cache
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  /**
+   * Binds cache size, hit/miss and eviction metrics to the given registry.
+   *
+   * @param registry - meter registry
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    new CaffeineCacheMetrics<>(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+  }
+
+  private void put(PermissionKey key, Decision decision, Duration ttl, long tokenExpiresAt) {
+    var tokenTtl = Duration.ofSeconds(tokenExpiresAt).minusMillis(clock.millis());
+    var effectiveTtl = tokenTtl.compareTo(ttl) < 0 ? tokenTtl : ttl;
+    if (effectiveTtl.isNegative() || effectiveTtl.isZero()) {
+      return;
+    }
+
+    cache.put(key, new CachedDecision(decision, effectiveTtl));
+  }
+
+  /**
+   * Permission evaluation decision.
+   */
+  public enum Decision {
+    GRANTED,
+    DENIED
+  }
+
+  /**
+   * Cache key: tenant, token digest and requested permission.
+   *
+   * @param tenant - tenant (realm) name
+   * @param tokenDigest - SHA-256 digest of the access token
+   * @param permission - requested permission in format {@code resource#scope}
+   */
+  public record PermissionKey(String tenant, String tokenDigest, String permission) {}
+
+  private record CachedDecision(Decision decision, Duration ttl) {}
+}
@@ -1,26 +1,186 @@
 package org.folio.security.integration.keycloak.service;
 
-import static java.util.Arrays.stream;
-import static org.springframework.util.ObjectUtils.nullSafeEquals;
+import static java.util.Collections.emptyMap;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import java.security.PublicKey;
-import lombok.RequiredArgsConstructor;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.service.SecurityMetrics;
+import org.keycloak.jose.jwk.JSONWebKeySet;
 import org.keycloak.jose.jwk.JWKParser;
-import org.springframework.cache.annotation.Cacheable;
 
-@RequiredArgsConstructor
+/**
+ * Provides realm public keys by key identifier.
+ *
+ * <p>All keys of a realm are indexed from a single JWKS fetch and kept for the configured TTL. An unknown key
+ * identifier triggers a single refresh of the realm index, so rotated keys are picked up without waiting for the TTL,
+ * but not more often than the configured minimum refresh interval: unknown key identifiers and failed fetches are
+ * answered from the cached index until then, so a burst of forged or stale tokens does not become a burst of Keycloak
+ * calls. A failed refresh keeps the previously loaded keys.</p>
+ */
+@Log4j2
 public class KeycloakPublicKeyProvider {
 
   private final KeycloakAuthClient keycloakClient;
+  private final Cache<String, RealmKeys> realmKeys;
+  private final Ticker ticker;
+  private final long minRefreshIntervalNanos;
 
-  @Cacheable(cacheNames = "keycloak-jwk", key = "#realm-#keyId")
+  /**
+   * Optional security path metrics, recording JWKS fetches.
+   */
+  @Setter private SecurityMetrics securityMetrics;
+
+  /**
+   * Creates public key provider with default JWKS cache settings.
+   *
+   * @param keycloakClient - Keycloak client
+   */
+  public KeycloakPublicKeyProvider(KeycloakAuthClient keycloakClient) {
+    this(keycloakClient, new KeycloakProperties.KeycloakJwksCacheProperties());
+  }
+
+  /**
+   * Creates public key provider.
+   *
+   * @param keycloakClient - Keycloak client
+   * @param properties - JWKS cache properties
+   */
+  public KeycloakPublicKeyProvider(KeycloakAuthClient keycloakClient,
+    KeycloakProperties.KeycloakJwksCacheProperties properties) {
+    this(keycloakClient, properties, Ticker.systemTicker());
+  }
+
+  KeycloakPublicKeyProvider(KeycloakAuthClient keycloakClient,
+    KeycloakProperties.KeycloakJwksCacheProperties properties, Ticker ticker) {
+    this.keycloakClient = keycloakClient;
+    this.ticker = ticker;
+    this.minRefreshIntervalNanos = properties.getMinRefreshInterval().toNanos();
+    this.realmKeys = Caffeine.newBuilder()
+      .maximumSize(properties.getMaxRealms())
+      .expireAfterWrite(properties.getTtl())
+      .ticker(ticker)
+      .build();
+  }
+
+  /**
+   * Provides public key of the realm.
+   *
+   * @param realm - realm name
+   * @param keyId - key identifier
+   * @return {@link PublicKey} object
+   * @throws IllegalArgumentException - if key is not found in the realm JWKS
+   * @throws IllegalStateException - if realm JWKS cannot be loaded
+   */
   public PublicKey retrievePublicKey(String realm, String keyId) {
-    var jsonWebKeySet = keycloakClient.retrieveJwk(realm);
-    var jwk = stream(jsonWebKeySet.getKeys())
-      .filter(j -> nullSafeEquals(j.getKeyId(), keyId))
-      .findFirst()
-      .orElseThrow(() -> new IllegalArgumentException("Key not found"));
-    return JWKParser.create(jwk).toPublicKey();
+    var keys = realmKeys.get(realm, this::loadKeys);
+    var publicKey = keys.find(keyId);
+    if (publicKey == null && isRefreshAllowed(keys)) {
+      var currentKeys = keys;
+      keys = realmKeys.asMap().compute(realm, (name, cached) -> cached == null || cached == currentKeys
+        ? reloadKeys(name, cached) : cached);
+      publicKey = keys.find(keyId);
+    }
+
+    if (publicKey != null) {
+      return publicKey;
+    }
+
+    if (keys.error() != null) {
+      throw new IllegalStateException("Failed to load JWKS for realm: " + realm, keys.error());
+    }
+
+    throw new IllegalArgumentException("Key not found");
+  }
+
+  /**
+   * Removes cached keys of the given realm.
+   *
+   * @param realm - realm name
+   */
+  public void invalidate(String realm) {
+    realmKeys.invalidate(realm);
+  }
+
+  private boolean isRefreshAllowed(RealmKeys keys) {
+    return ticker.read() - keys.loadedAt() >= minRefreshIntervalNanos;
+  }
+
+  /**
+   * Reloads realm keys, keeping the cached keys if the fetch failed, so a refresh triggered during a Keycloak outage
+   * does not drop keys that are still valid.
+   */
+  private RealmKeys reloadKeys(String realm, RealmKeys cached) {
+    var keys = loadKeys(realm);
+    if (keys.error() != null && cached != null && !cached.keys().isEmpty()) {
+      return new RealmKeys(cached.keys(), keys.loadedAt(), null);
+    }
+
+    return keys;
+  }
+
+  private RealmKeys loadKeys(String realm) {
+    log.debug("Loading JWKS for realm: {}", realm);
+    var startedAt = System.nanoTime();
+    try {
+      var keys = new RealmKeys(indexKeys(realm, keycloakClient.retrieveJwk(realm)), ticker.read(), null);
+      recordJwksFetch(realm, startedAt, true);
+      return keys;
+    } catch (RuntimeException e) {
+      log.warn("Failed to load JWKS for realm: {}", realm, e);
+      recordJwksFetch(realm, startedAt, false);
+      return new RealmKeys(emptyMap(), ticker.read(), e);
+    }
+  }
+
+  private void recordJwksFetch(String realm, long startedAt, boolean success) {
+    if (securityMetrics != null) {
+      securityMetrics.recordJwksFetch(realm, System.nanoTime() - startedAt, success);
+    }
+  }
+
+  private static Map<String, PublicKey> indexKeys(String realm, JSONWebKeySet jsonWebKeySet) {
+    if (jsonWebKeySet == null || jsonWebKeySet.getKeys() == null) {
+      return emptyMap();
+    }
+
+    var keys = new HashMap<String, PublicKey>();
+    for (var jwk : jsonWebKeySet.getKeys()) {
+      if (jwk.getKeyId() == null) {
+        continue;
+      }
+
+      try {
+        var publicKey = JWKParser.create(jwk).toPublicKey();
+        if (publicKey != null) {
+          keys.put(jwk.getKeyId(), publicKey);
+        }
+      } catch (RuntimeException e) {
+        log.debug("Skipping unsupported JWK: realm = {}, kid = {}", realm, jwk.getKeyId(), e);
+      }
+    }
+
+    return Map.copyOf(keys);
+  }
+
+  /**
+   * Public keys of a realm.
+   *
+   * @param keys - public keys by key identifier
+   * @param loadedAt - ticker value of the JWKS fetch
+   * @param error - JWKS fetch error, nullable
+   */
+  private record RealmKeys(Map<String, PublicKey> keys, long loadedAt, RuntimeException error) {
+
+    PublicKey find(String keyId) {
+      return keyId != null ? keys.get(keyId) : null;
+    }
   }
 }
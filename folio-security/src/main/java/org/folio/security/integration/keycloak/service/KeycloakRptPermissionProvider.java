@@ -0,0 +1,278 @@
+package org.folio.security.integration.keycloak.service;
+
+import static java.util.Collections.emptySet;
+import static org.folio.security.integration.keycloak.service.KeycloakTokenValidator.resolveTenant;
+import static org.keycloak.OAuth2Constants.UMA_GRANT_TYPE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.jwt.auth.principal.ParseException;
+import jakarta.json.JsonString;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.jwt.openid.JsonWebTokenParser;
+import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.integration.keycloak.model.TokenResponse;
+import org.folio.security.service.RemoteCallGuard;
+import org.folio.security.service.SecurityMetrics;
+import org.folio.security.service.SingleFlight;
+import org.folio.security.service.TokenDigest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Authorizes requests by permissions of a requesting party token (RPT).
+ *
+ * <p>An RPT is requested once per access token, without {@code permission} parameter, so Keycloak evaluates all
+ * resources of the module client in a single call. Permissions from its {@code authorization.permissions} claim are
+ * cached by tenant and SHA-256 digest of the access token until the RPT or the access token expires, but not longer
+ * than the configured maximum TTL. A {@code 403} response (no permissions at all) is cached for the short denial
+ * TTL. Concurrent requests with the same access token share a single RPT request.</p>
+ */
+@Log4j2
+public class KeycloakRptPermissionProvider implements MeterBinder {
+
+  public static final String CACHE_NAME = "keycloak.authorization.rpt";
+  public static final String AUTHORIZATION_CLAIM = "authorization";
+
+  private final KeycloakAuthClient keycloakClient;
+  private final JsonWebTokenParser jsonWebTokenParser;
+  private final String audience;
+  private final Duration maxTtl;
+  private final Duration denialTtl;
+  private final Clock clock;
+  private final Cache<RptKey, RptPermissions> cache;
+  private final SingleFlight<RptKey, RptPermissions> requestFlight = new SingleFlight<>();
+
+  /**
+   * Optional per-tenant bulkhead and circuit breaker for RPT requests.
+   */
+  @Setter private RemoteCallGuard remoteCallGuard;
+
+  /**
+   * Optional security path metrics, recording RPT requests as remote authorization calls.
+   */
+  @Setter private SecurityMetrics securityMetrics;
+
+  /**
+   * Creates RPT permission provider.
+   *
+   * @param keycloakClient - Keycloak client
+   * @param jsonWebTokenParser - parser for issued requesting party tokens
+   * @param audience - client identifier of the module resource server
+   * @param properties - RPT cache properties
+   */
+  public KeycloakRptPermissionProvider(KeycloakAuthClient keycloakClient, JsonWebTokenParser jsonWebTokenParser,
+    String audience, KeycloakProperties.KeycloakRptProperties properties) {
+    this(keycloakClient, jsonWebTokenParser, audience, properties, Ticker.systemTicker(), Clock.systemUTC());
+  }
+
+  KeycloakRptPermissionProvider(KeycloakAuthClient keycloakClient, JsonWebTokenParser jsonWebTokenParser,
+    String audience, KeycloakProperties.KeycloakRptProperties properties, Ticker ticker, Clock clock) {
+    this.keycloakClient = keycloakClient;
+    this.jsonWebTokenParser = jsonWebTokenParser;
+    this.audience = audience;
+    this.maxTtl = properties.getMaxTtl();
+    this.denialTtl = properties.getDenialTtl();
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(properties.getMaxSize())
+      .expireAfter(Expiry.writing((RptKey key, RptPermissions permissions) -> permissions.ttl()))
+      .ticker(ticker)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Checks if the RPT issued for the access token grants the given resource and scope.
+   *
+   * @param accessToken - verified access token
+   * @param token - raw access token
+   * @param resource - resource name
+   * @param scope - scope name (HTTP method)
+   * @return true if access is granted by the RPT, false otherwise
+   * @throws HttpClientErrorException - if Keycloak rejects the access token
+   */
+  public boolean isGranted(JsonWebToken accessToken, String token, String resource, String scope) {
+    var key = new RptKey(resolveTenant(accessToken.getIssuer()), TokenDigest.sha256(token));
+    var permissions = cache.getIfPresent(key);
+    if (permissions == null) {
+      permissions = requestFlight.execute(key, () -> requestPermissions(key, accessToken, token));
+    }
+
+    return permissions.isGranted(resource, scope);
+  }
+
+  /**
+   * Removes cached permissions of the matching tenants, registered as tenant invalidation listener of
+   * {@code OpenidJwtParserProvider}, so permissions of disabled tenants are dropped together with their JWT parsers.
+   *
+   * @param tenantFilter - predicate of tenant (realm) names to invalidate
+   */
+  public void invalidate(Predicate<String> tenantFilter) {
+    log.debug("Invalidating cached RPT permissions");
+    cache.asMap().keySet().removeIf(key -> tenantFilter.test(key.tenant()));
+  }
+
+  /**
+   * Removes all cached permissions.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Provides cache statistics: hit, miss and eviction counters.
+   *
+   * @return {@link CacheStats} of the RPT permission cache
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  /**
+   * Binds cache size, hit/miss and eviction metrics to the given registry.
+   *
+   * @param registry - meter registry
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    new CaffeineCacheMetrics<>(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+  }
+
+  private RptPermissions requestPermissions(RptKey key, JsonWebToken accessToken, String token) {
+    log.debug("Requesting party token: tenant = {}", key.tenant());
+    RptPermissions permissions;
+    try {
+      var tokenResponse = requestRpt(key.tenant(), token);
+      var rpt = parseRpt(tokenResponse.getAccessToken());
+      var ttl = min(maxTtl, getTtl(accessToken.getExpirationTime()), getTtl(rpt.getExpirationTime()));
+      permissions = new RptPermissions(getPermissions(rpt), ttl);
+    } catch (HttpClientErrorException.Forbidden e) {
+      log.debug("Requesting party token is not issued, no permissions granted: tenant = {}", key.tenant());
+      permissions = new RptPermissions(emptySet(), min(denialTtl, getTtl(accessToken.getExpirationTime())));
+    }
+
+    if (permissions.ttl().isPositive()) {
+      cache.put(key, permissions);
+    }
+
+    return permissions;
+  }
+
+  private TokenResponse requestRpt(String tenant, String token) {
+    Supplier<TokenResponse> call = () -> keycloakClient.evaluatePermissions(prepareRequestBody(), "Bearer " + token);
+    if (securityMetrics == null) {
+      return remoteCallGuard != null ? remoteCallGuard.execute(tenant, call) : call.get();
+    }
+
+    var startedAt = securityMetrics.startTimer();
+    try {
+      var tokenResponse = remoteCallGuard != null ? remoteCallGuard.execute(tenant, call) : call.get();
+      securityMetrics.recordRemoteAuthorization(startedAt, "keycloak", tenant, null);
+      return tokenResponse;
+    } catch (RuntimeException e) {
+      securityMetrics.recordRemoteAuthorization(startedAt, "keycloak", tenant, e);
+      throw e;
+    }
+  }
+
+  private JsonWebToken parseRpt(String rpt) {
+    try {
+      return jsonWebTokenParser.parse(rpt);
+    } catch (ParseException e) {
+      throw new IllegalStateException("Failed to parse requesting party token", e);
+    }
+  }
+
+  private MultiValueMap<String, String> prepareRequestBody() {
+    MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+    body.add("grant_type", UMA_GRANT_TYPE);
+    body.add("audience", audience);
+    return body;
+  }
+
+  private Duration getTtl(long expiresAt) {
+    return Duration.ofSeconds(expiresAt).minusMillis(clock.millis());
+  }
+
+  private static Duration min(Duration first, Duration... others) {
+    var result = first;
+    for (var other : others) {
+      result = other.compareTo(result) < 0 ? other : result;
+    }
+    return result;
+  }
+
+  /**
+   * Collects granted permissions from {@code authorization.permissions} claim, a resource without scopes is
+   * granted as a whole.
+   */
+  private static Set<String> getPermissions(JsonWebToken rpt) {
+    if (!(rpt.getClaim(AUTHORIZATION_CLAIM) instanceof Map<?, ?> authorization)
+      || !(authorization.get("permissions") instanceof Collection<?> rptPermissions)) {
+      return emptySet();
+    }
+
+    var permissions = new HashSet<String>();
+    for (var rptPermission : rptPermissions) {
+      if (!(rptPermission instanceof Map<?, ?> permission)) {
+        continue;
+      }
+
+      var resource = asString(permission.get("rsname"));
+      if (resource == null) {
+        continue;
+      }
+
+      if (!(permission.get("scopes") instanceof Collection<?> scopes) || scopes.isEmpty()) {
+        permissions.add(resource);
+        continue;
+      }
+
+      for (var scope : scopes) {
+        var scopeName = asString(scope);
+        if (scopeName != null) {
+          permissions.add(resource + "#" + scopeName);
+        }
+      }
+    }
+
+    return Set.copyOf(permissions);
+  }
+
+  private static String asString(Object value) {
+    if (value instanceof JsonString jsonString) {
+      return jsonString.getString();
+    }
+
+    return value instanceof String stringValue ? stringValue : null;
+  }
+
+  private record RptKey(String tenant, String tokenDigest) {}
+
+  private record RptPermissions(Set<String> permissions, Duration ttl) {
+
+    boolean isGranted(String resource, String scope) {
+      return permissions.contains(resource + "#" + scope) || permissions.contains(resource);
+    }
+  }
+}
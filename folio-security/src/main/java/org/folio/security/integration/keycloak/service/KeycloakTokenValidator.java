@@ -27,9 +27,9 @@ public class KeycloakTokenValidator {
 
       return accessToken;
     } catch (TokenNotActiveException e) {
-      throw new NotAuthorizedException("JWT token expired");
+      throw NotAuthorizedException.stackless("JWT token expired");
     } catch (Exception e) {
-      throw new NotAuthorizedException("Failed to validate a token", e);
+      throw NotAuthorizedException.stackless("Failed to validate a token", e);
     }
   }
 
@@ -1,9 +1,11 @@
 package org.folio.security.service;
 
+import static org.folio.common.utils.OkapiHeaders.TENANT;
 import static org.folio.security.configuration.SecurityConfiguration.ROUTER_PREFIX_PROPERTY;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Setter;
+import org.folio.common.domain.model.RoutingEntry;
 import org.folio.security.exception.RoutingEntryMatchingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -15,6 +17,11 @@ public abstract class AbstractAuthorizationService implements AuthorizationServi
   protected UrlPathHelper urlPathHelper;
   protected Environment environment;
 
+  /**
+   * Optional security path metrics, nothing is recorded if it is not set.
+   */
+  protected SecurityMetrics securityMetrics;
+
   /**
    * Returns request path for routing matching.
    *
@@ -25,6 +32,28 @@ public abstract class AbstractAuthorizationService implements AuthorizationServi
     return updatePath(urlPathHelper.getPathWithinApplication(request));
   }
 
+  /**
+   * Finds routing entry for the request, recording the lookup if metrics are set.
+   *
+   * @param routingEntryMatcher - routing entry matcher
+   * @param request - {@link HttpServletRequest} object, provides tenant for metrics
+   * @param method - HTTP method
+   * @param path - request path
+   * @return matched {@link RoutingEntry} object
+   * @throws RoutingEntryMatchingException - if routing entry is not found
+   */
+  protected RoutingEntry lookupRoutingEntry(RoutingEntryMatcher routingEntryMatcher, HttpServletRequest request,
+    String method, String path) {
+    var startedAt = securityMetrics != null ? securityMetrics.startTimer() : 0L;
+    var routingEntry = routingEntryMatcher.lookup(method, path);
+    if (securityMetrics != null) {
+      securityMetrics.recordRoutingLookup(startedAt, request.getHeader(TENANT), routingEntry.isPresent());
+    }
+
+    return routingEntry.orElseThrow(() ->
+      new RoutingEntryMatchingException("Unable to resolve routing entry for path: " + path));
+  }
+
   @Autowired
   @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
   public void setUrlPathHelper(UrlPathHelper urlPathHelper) {
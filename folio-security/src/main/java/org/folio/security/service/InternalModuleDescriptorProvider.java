@@ -19,6 +19,7 @@ public class InternalModuleDescriptorProvider {
   private final ObjectMapper objectMapper;
 
   private ModuleDescriptor moduleDescriptor;
+  private RoutingIndex routingIndex;
 
   @SneakyThrows
   @EventListener(ContextRefreshedEvent.class)
@@ -26,9 +27,31 @@ public class InternalModuleDescriptorProvider {
     log.info("Loading internal module descriptor");
     var descriptorResource = resourceLoader.getResource(DESCRIPTOR_PATH);
     moduleDescriptor = objectMapper.readValue(descriptorResource.getInputStream(), ModuleDescriptor.class);
+    routingIndex = RoutingIndex.of(moduleDescriptor);
   }
 
   public ModuleDescriptor getModuleDescriptor() {
     return moduleDescriptor;
   }
+
+  /**
+   * Provides routing index, compiled once from the loaded module descriptor.
+   *
+   * <p>Custom providers, overriding {@link #getModuleDescriptor()}, get the index compiled from their descriptor on
+   * the first call.</p>
+   *
+   * @return compiled {@link RoutingIndex}
+   */
+  public RoutingIndex getRoutingIndex() {
+    var index = routingIndex;
+    if (index == null) {
+      var descriptor = getModuleDescriptor();
+      if (descriptor == null) {
+        return null;
+      }
+      index = RoutingIndex.of(descriptor);
+      routingIndex = index;
+    }
+    return index;
+  }
 }
@@ -0,0 +1,254 @@
+package org.folio.security.service;
+
+import java.util.Arrays;
+
+/**
+ * Compiled routing entry path pattern.
+ *
+ * <p>Supports the Okapi path pattern syntax: {@code {name}} matches a non-empty path segment part (all characters up
+ * to the next '/' or the end of the path), {@code *} matches any sequence of characters, including '/'. All other
+ * characters are matched literally.</p>
+ *
+ * <p>The literal prefix of a pattern is compared directly, the remaining part is compiled into a non-deterministic
+ * automaton and simulated with bit-parallel state sets. Matching takes time linear in the path length, has no
+ * recursion or backtracking, and does not allocate for patterns with up to 63 tokens after the literal prefix.</p>
+ */
+public final class PathPattern {
+
+  private static final byte LITERAL = 0;
+  private static final byte VARIABLE = 1;
+  private static final byte WILDCARD = 2;
+  private static final int WORD_SIZE = Long.SIZE;
+
+  private final String pattern;
+  private final String literalPrefix;
+  private final int tokenCount;
+  private final int words;
+  private final char[] literalChars;
+  private final long[][] literalMasks;
+  private final long[] variableMask;
+  private final long[] wildcardMask;
+
+  private PathPattern(String pattern, String literalPrefix, byte[] kinds, char[] chars) {
+    this.pattern = pattern;
+    this.literalPrefix = literalPrefix;
+    this.tokenCount = kinds.length;
+    this.words = kinds.length / WORD_SIZE + 1;
+    this.variableMask = new long[words];
+    this.wildcardMask = new long[words];
+
+    var distinctChars = new char[chars.length];
+    var distinctCount = 0;
+    for (var i = 0; i < kinds.length; i++) {
+      if (kinds[i] == LITERAL) {
+        distinctChars[distinctCount++] = chars[i];
+      }
+    }
+    Arrays.sort(distinctChars, 0, distinctCount);
+    var uniqueCount = 0;
+    for (var i = 0; i < distinctCount; i++) {
+      if (uniqueCount == 0 || distinctChars[uniqueCount - 1] != distinctChars[i]) {
+        distinctChars[uniqueCount++] = distinctChars[i];
+      }
+    }
+
+    this.literalChars = Arrays.copyOf(distinctChars, uniqueCount);
+    this.literalMasks = new long[uniqueCount][words];
+    for (var i = 0; i < kinds.length; i++) {
+      switch (kinds[i]) {
+        case LITERAL -> setBit(literalMasks[Arrays.binarySearch(literalChars, chars[i])], i);
+        case VARIABLE -> setBit(variableMask, i);
+        default -> setBit(wildcardMask, i);
+      }
+    }
+  }
+
+  /**
+   * Compiles path pattern.
+   *
+   * <p>An unterminated variable ({@code {} without closing {@code }}) is treated as a variable till the end of the
+   * pattern.</p>
+   *
+   * @param pattern - path pattern to compile
+   * @return compiled {@link PathPattern}
+   */
+  public static PathPattern compile(String pattern) {
+    var prefixLength = 0;
+    while (prefixLength < pattern.length() && !isSpecialChar(pattern.charAt(prefixLength))) {
+      prefixLength++;
+    }
+
+    var length = pattern.length() - prefixLength;
+    var kinds = new byte[length];
+    var chars = new char[length];
+    var tokenCount = 0;
+    for (var i = prefixLength; i < pattern.length(); i++) {
+      var patternChar = pattern.charAt(i);
+      if (patternChar == '{') {
+        var closingIndex = pattern.indexOf('}', i + 1);
+        i = closingIndex < 0 ? pattern.length() : closingIndex;
+        kinds[tokenCount++] = VARIABLE;
+      } else if (patternChar == '*') {
+        kinds[tokenCount++] = WILDCARD;
+      } else {
+        chars[tokenCount] = patternChar;
+        kinds[tokenCount++] = LITERAL;
+      }
+    }
+
+    var literalPrefix = pattern.substring(0, prefixLength);
+    return new PathPattern(pattern, literalPrefix, Arrays.copyOf(kinds, tokenCount), Arrays.copyOf(chars, tokenCount));
+  }
+
+  /**
+   * Checks if given path matches the pattern.
+   *
+   * @param path - path to check
+   * @return true if path matches the pattern, false - otherwise
+   */
+  public boolean matches(String path) {
+    if (!path.startsWith(literalPrefix)) {
+      return false;
+    }
+
+    var start = literalPrefix.length();
+    if (tokenCount == 0) {
+      return start == path.length();
+    }
+
+    return words == 1 ? matchSingleWord(path, start) : matchMultiWord(path, start);
+  }
+
+  /**
+   * Returns source pattern.
+   *
+   * @return source pattern as {@link String}
+   */
+  public String getPattern() {
+    return pattern;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  /**
+   * Simulates the automaton with state sets kept in a single {@code long}.
+   *
+   * <p>Bit {@code j} of {@code active} means that tokens {@code [0, j)} are matched, bit {@code j} of
+   * {@code inVariable} means that variable token {@code j} has consumed at least one character. A variable is left
+   * only when the next character is '/' or the path is over, because variables consume the whole segment part.</p>
+   */
+  private boolean matchSingleWord(String path, int start) {
+    var variables = variableMask[0];
+    var wildcards = wildcardMask[0];
+    var length = path.length();
+
+    var active = closeWildcards(1L, wildcards);
+    var inVariable = 0L;
+    for (var i = start; i < length; i++) {
+      var pathChar = path.charAt(i);
+      var nextActive = (active & getLiteralMask(pathChar, 0)) << 1 | active & wildcards;
+      inVariable = pathChar == '/' ? 0L : (active | inVariable) & variables;
+      active = nextActive;
+
+      if (isSegmentEnd(path, i + 1)) {
+        active |= inVariable << 1;
+      }
+
+      active = closeWildcards(active, wildcards);
+      if (active == 0L && inVariable == 0L) {
+        return false;
+      }
+    }
+
+    return (active >>> tokenCount & 1L) != 0L;
+  }
+
+  /**
+   * Simulates the automaton with state sets kept in {@code long} arrays, used for patterns with more than 63 tokens.
+   */
+  private boolean matchMultiWord(String path, int start) {
+    var length = path.length();
+    var active = new long[words];
+    var nextActive = new long[words];
+    var inVariable = new long[words];
+
+    active[0] = 1L;
+    closeWildcards(active);
+    for (var i = start; i < length; i++) {
+      var pathChar = path.charAt(i);
+      var hasStates = false;
+      var carry = 0L;
+      for (var w = 0; w < words; w++) {
+        var shifted = active[w] & getLiteralMask(pathChar, w);
+        nextActive[w] = shifted << 1 | carry | active[w] & wildcardMask[w];
+        carry = shifted >>> (WORD_SIZE - 1);
+        inVariable[w] = pathChar == '/' ? 0L : (active[w] | inVariable[w]) & variableMask[w];
+      }
+
+      var isSegmentEnd = isSegmentEnd(path, i + 1);
+      carry = 0L;
+      for (var w = 0; w < words; w++) {
+        active[w] = nextActive[w];
+        if (isSegmentEnd) {
+          active[w] |= inVariable[w] << 1 | carry;
+          carry = inVariable[w] >>> (WORD_SIZE - 1);
+        }
+      }
+
+      closeWildcards(active);
+      for (var w = 0; w < words; w++) {
+        hasStates |= active[w] != 0L || inVariable[w] != 0L;
+      }
+
+      if (!hasStates) {
+        return false;
+      }
+    }
+
+    return (active[tokenCount / WORD_SIZE] >>> (tokenCount % WORD_SIZE) & 1L) != 0L;
+  }
+
+  private long getLiteralMask(char pathChar, int word) {
+    var index = Arrays.binarySearch(literalChars, pathChar);
+    return index < 0 ? 0L : literalMasks[index][word];
+  }
+
+  private static long closeWildcards(long active, long wildcards) {
+    var previous = 0L;
+    while (previous != active) {
+      previous = active;
+      active |= (active & wildcards) << 1;
+    }
+    return active;
+  }
+
+  private void closeWildcards(long[] active) {
+    var changed = true;
+    while (changed) {
+      changed = false;
+      var carry = 0L;
+      for (var w = 0; w < words; w++) {
+        var wildcards = active[w] & wildcardMask[w];
+        var value = active[w] | wildcards << 1 | carry;
+        carry = wildcards >>> (WORD_SIZE - 1);
+        changed |= value != active[w];
+        active[w] = value;
+      }
+    }
+  }
+
+  private static boolean isSegmentEnd(String path, int index) {
+    return index == path.length() || path.charAt(index) == '/';
+  }
+
+  private static boolean isSpecialChar(char patternChar) {
+    return patternChar == '{' || patternChar == '*';
+  }
+
+  private static void setBit(long[] mask, int index) {
+    mask[index / WORD_SIZE] |= 1L << (index % WORD_SIZE);
+  }
+}
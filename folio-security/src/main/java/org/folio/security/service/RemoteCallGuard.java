@@ -0,0 +1,314 @@
+package org.folio.security.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Isolates remote authorization calls per tenant, so a slow or failing tenant realm cannot consume all request
+ * threads of a module.
+ *
+ * <p>Each tenant has:</p>
+ * <ul>
+ *   <li>a concurrency bulkhead: at most {@code maxConcurrentCalls} calls run at once, others wait up to
+ *   {@code maxWait} for a free slot</li>
+ *   <li>load shedding: when {@code maxQueueDepth} calls are already waiting, new calls are rejected immediately</li>
+ *   <li>a circuit breaker: {@code failureThreshold} consecutive failures open the circuit and calls are rejected
+ *   without waiting for {@code openDuration}, then a single trial call decides if it is closed again</li>
+ * </ul>
+ *
+ * <p>Rejected calls fail with {@link AuthorizationUnavailableException}. Client errors ({@code 4xx}) are valid
+ * authorization answers and are not counted as failures. Rejection, failure and in-flight call metrics are tagged
+ * by the guarded backend name, not by tenant.</p>
+ *
+ * <p>Guard state is kept for at most {@code maxTenants} tenants. A guard is removed only when it is idle: no calls
+ * hold or wait for its slots and its circuit is closed without recent failures, so the bulkhead and circuit state
+ * of a busy tenant are never dropped. If all tracked tenants are busy, calls of a new tenant are shed.</p>
+ */
+@Log4j2
+public class RemoteCallGuard implements MeterBinder {
+
+  public static final String METRIC_PREFIX = "folio.security.remote.calls";
+
+  private final String name;
+  private final RemoteCallGuardProperties properties;
+  private final Ticker ticker;
+  private final Map<String, TenantGuard> tenantGuards = new ConcurrentHashMap<>();
+
+  private final AtomicInteger activeCalls = new AtomicInteger();
+  private final LongAdder bulkheadRejections = new LongAdder();
+  private final LongAdder sheddingRejections = new LongAdder();
+  private final LongAdder circuitRejections = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  /**
+   * Creates remote call guard.
+   *
+   * @param name - guarded backend name, used as metric tag
+   * @param properties - bulkhead, load shedding and circuit breaker properties
+   */
+  public RemoteCallGuard(String name, RemoteCallGuardProperties properties) {
+    this(name, properties, Ticker.systemTicker());
+  }
+
+  RemoteCallGuard(String name, RemoteCallGuardProperties properties, Ticker ticker) {
+    this.name = name;
+    this.properties = properties;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Executes remote call within the tenant bulkhead and circuit breaker.
+   *
+   * @param tenant - tenant name, nullable
+   * @param call - remote call
+   * @param <T> - call result type
+   * @return call result
+   * @throws AuthorizationUnavailableException - if the call is rejected
+   */
+  public <T> T execute(String tenant, Supplier<T> call) {
+    var tenantName = Objects.toString(tenant, "");
+    var guard = acquireGuard(tenantName);
+    boolean trialCall;
+    try {
+      trialCall = guard.acquireCircuitPermission(tenantName);
+    } catch (AuthorizationUnavailableException e) {
+      releaseGuard(tenantName);
+      throw e;
+    }
+
+    try {
+      guard.acquireSlot(tenantName);
+    } catch (AuthorizationUnavailableException e) {
+      guard.releaseCircuitPermission(trialCall);
+      releaseGuard(tenantName);
+      throw e;
+    }
+
+    activeCalls.incrementAndGet();
+    try {
+      var result = call.get();
+      guard.onSuccess(tenantName);
+      return result;
+    } catch (HttpClientErrorException e) {
+      guard.onSuccess(tenantName);
+      throw e;
+    } catch (RuntimeException | Error e) {
+      failures.increment();
+      guard.onFailure(tenantName, trialCall);
+      throw e;
+    } finally {
+      activeCalls.decrementAndGet();
+      guard.releaseSlot();
+      releaseGuard(tenantName);
+    }
+  }
+
+  /**
+   * Checks if the tenant circuit is open.
+   *
+   * @param tenant - tenant name
+   * @return true if calls of the tenant are rejected by the circuit breaker
+   */
+  public boolean isCircuitOpen(String tenant) {
+    var guard = tenantGuards.get(Objects.toString(tenant, ""));
+    return guard != null && guard.isOpen();
+  }
+
+  /**
+   * Binds rejection, failure and in-flight call metrics to the given registry.
+   *
+   * @param registry - meter registry
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    bindRejections(registry, "bulkhead_full", bulkheadRejections);
+    bindRejections(registry, "queue_full", sheddingRejections);
+    bindRejections(registry, "circuit_open", circuitRejections);
+    FunctionCounter.builder(METRIC_PREFIX + ".failures", failures, LongAdder::sum)
+      .description("Failed remote authorization calls")
+      .tag("backend", name)
+      .register(registry);
+    Gauge.builder(METRIC_PREFIX + ".active", activeCalls, AtomicInteger::get)
+      .description("Remote authorization calls in progress")
+      .tag("backend", name)
+      .register(registry);
+    Gauge.builder(METRIC_PREFIX + ".circuits.open", this, RemoteCallGuard::countOpenCircuits)
+      .description("Tenants with open authorization circuit")
+      .tag("backend", name)
+      .register(registry);
+  }
+
+  private void bindRejections(MeterRegistry registry, String reason, LongAdder counter) {
+    FunctionCounter.builder(METRIC_PREFIX + ".rejected", counter, LongAdder::sum)
+      .description("Remote authorization calls rejected by the guard")
+      .tags("backend", name, "reason", reason)
+      .register(registry);
+  }
+
+  /**
+   * Returns the tenant guard with the call registered as pending, so the guard cannot be removed until the call is
+   * released.
+   */
+  private TenantGuard acquireGuard(String tenant) {
+    if (tenantGuards.size() >= properties.getMaxTenants() && !tenantGuards.containsKey(tenant)) {
+      removeIdleGuards();
+    }
+
+    var guard = tenantGuards.compute(tenant, (key, current) -> {
+      if (current == null && tenantGuards.size() >= properties.getMaxTenants()) {
+        return null;
+      }
+
+      var tenantGuard = current != null ? current : new TenantGuard();
+      tenantGuard.pendingCalls++;
+      return tenantGuard;
+    });
+
+    if (guard == null) {
+      sheddingRejections.increment();
+      throw new AuthorizationUnavailableException("Authorization backend is overloaded for tenant: " + tenant);
+    }
+
+    return guard;
+  }
+
+  private void releaseGuard(String tenant) {
+    tenantGuards.computeIfPresent(tenant, (key, guard) -> {
+      guard.pendingCalls--;
+      return guard;
+    });
+  }
+
+  /**
+   * Removes idle guards until there is room for a new tenant, the check and removal are atomic per tenant, so a
+   * guard cannot be removed while a call acquires it.
+   */
+  private void removeIdleGuards() {
+    for (var tenant : tenantGuards.keySet()) {
+      if (tenantGuards.size() < properties.getMaxTenants()) {
+        return;
+      }
+
+      tenantGuards.computeIfPresent(tenant, (key, guard) -> guard.isIdle() ? null : guard);
+    }
+  }
+
+  private double countOpenCircuits() {
+    return tenantGuards.values().stream().filter(TenantGuard::isOpen).count();
+  }
+
+  private final class TenantGuard {
+
+    private final Semaphore slots = new Semaphore(properties.getMaxConcurrentCalls());
+    private final AtomicInteger waitingCalls = new AtomicInteger();
+
+    /**
+     * Calls holding, waiting for or about to acquire a slot, guarded by the tenant map entry.
+     */
+    private int pendingCalls;
+
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean open;
+    private boolean trialInProgress;
+
+    /**
+     * Checks the circuit state.
+     *
+     * @return true if the call is a trial call of a half-open circuit
+     */
+    synchronized boolean acquireCircuitPermission(String tenant) {
+      if (!open) {
+        return false;
+      }
+
+      if (trialInProgress || ticker.read() - openedAt < properties.getOpenDuration().toNanos()) {
+        circuitRejections.increment();
+        throw new AuthorizationUnavailableException("Authorization backend is unavailable for tenant: " + tenant);
+      }
+
+      trialInProgress = true;
+      return true;
+    }
+
+    synchronized void releaseCircuitPermission(boolean trialCall) {
+      if (trialCall) {
+        trialInProgress = false;
+      }
+    }
+
+    synchronized boolean isOpen() {
+      return open;
+    }
+
+    synchronized boolean isIdle() {
+      return pendingCalls == 0 && !open && consecutiveFailures == 0;
+    }
+
+    void acquireSlot(String tenant) {
+      if (slots.tryAcquire()) {
+        return;
+      }
+
+      if (waitingCalls.incrementAndGet() > properties.getMaxQueueDepth()) {
+        waitingCalls.decrementAndGet();
+        sheddingRejections.increment();
+        throw new AuthorizationUnavailableException("Authorization backend is overloaded for tenant: " + tenant);
+      }
+
+      try {
+        if (!slots.tryAcquire(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+          bulkheadRejections.increment();
+          throw new AuthorizationUnavailableException("Authorization backend is busy for tenant: " + tenant);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        bulkheadRejections.increment();
+        throw new AuthorizationUnavailableException("Authorization backend is busy for tenant: " + tenant);
+      } finally {
+        waitingCalls.decrementAndGet();
+      }
+    }
+
+    void releaseSlot() {
+      slots.release();
+    }
+
+    synchronized void onSuccess(String tenant) {
+      if (open) {
+        log.info("Authorization circuit is closed: backend = {}, tenant = {}", name, tenant);
+      }
+
+      consecutiveFailures = 0;
+      open = false;
+      trialInProgress = false;
+    }
+
+    synchronized void onFailure(String tenant, boolean trialCall) {
+      consecutiveFailures++;
+      if (trialCall || !open && consecutiveFailures >= properties.getFailureThreshold()) {
+        log.warn("Authorization circuit is open: backend = {}, tenant = {}, consecutiveFailures = {}",
+          name, tenant, consecutiveFailures);
+        open = true;
+        openedAt = ticker.read();
+      }
+
+      releaseCircuitPermission(trialCall);
+    }
+  }
+}
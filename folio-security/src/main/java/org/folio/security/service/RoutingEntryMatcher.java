@@ -1,156 +1,110 @@
 package org.folio.security.service;
 
-import static java.util.stream.Collectors.toMap;
-import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.folio.common.domain.model.InterfaceDescriptor;
-import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
 
-@RequiredArgsConstructor
 public class RoutingEntryMatcher {
 
   private final InternalModuleDescriptorProvider descriptorProvider;
+  private final RoutingCacheProperties cacheProperties;
+  private volatile RoutingEntryCache routingEntryCache;
 
-  @SuppressWarnings("checkstyle:MethodLength")
-  public Optional<RoutingEntry> lookup(String method, String path) {
-    var descriptor = descriptorProvider.getModuleDescriptor();
-    var map = getAllRoutingEntries(descriptor);
-
-    if (MapUtils.isEmpty(map) || path == null) {
-      return Optional.empty();
-    }
-
-    var tryPath = path;
-    while (true) {
-      var candidateInstances = map.get(tryPath);
-      if (candidateInstances != null) {
-        for (var candidate : candidateInstances) {
-          if (match(candidate, path, method)) {
-            return Optional.of(candidate);
-          }
-        }
-      }
-
-      int index = tryPath.lastIndexOf('/', tryPath.length() - 2);
-      if (index < 0) {
-        break;
-      }
-      tryPath = tryPath.substring(0, index + 1);
-    }
-    return Optional.empty();
+  /**
+   * Creates routing entry matcher without lookup cache.
+   *
+   * @param descriptorProvider - internal module descriptor provider
+   */
+  public RoutingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider) {
+    this(descriptorProvider, null);
   }
 
-  private static Map<String, List<RoutingEntry>> getAllRoutingEntries(ModuleDescriptor descriptor) {
-    var provides = descriptor.getProvides().stream()
-      .collect(toMap(InterfaceDescriptor::getId, InterfaceDescriptor::getHandlers));
-
-    var map = new HashMap<String, List<RoutingEntry>>();
-
-    for (var mapEntries : provides.entrySet()) {
-      for (var routingEntry : mapEntries.getValue()) {
-        var prefix = getPatternPrefix(routingEntry);
-        var list = map.computeIfAbsent(prefix, k -> new ArrayList<>());
-
-        list.add(routingEntry);
-      }
-    }
-
-    return map;
+  /**
+   * Creates routing entry matcher with optional lookup cache.
+   *
+   * @param descriptorProvider - internal module descriptor provider
+   * @param cacheProperties - routing cache properties, nullable (cache is disabled)
+   */
+  public RoutingEntryMatcher(InternalModuleDescriptorProvider descriptorProvider,
+    RoutingCacheProperties cacheProperties) {
+    this.descriptorProvider = descriptorProvider;
+    this.cacheProperties = cacheProperties;
   }
 
-  private static boolean match(RoutingEntry re, String uri, String method) {
-    var methods = emptyIfNull(re.getMethods());
-    for (var m : methods) {
-      if (method == null || m.equals("*") || m.equals(method)) {
-        return matchUri(re, uri);
-      }
+  /**
+   * Finds the first routing entry of the module descriptor matching given HTTP method and request path.
+   *
+   * @param method - HTTP method, nullable (matches any method)
+   * @param path - request path
+   * @return {@link Optional} with matched {@link RoutingEntry}, empty if nothing is found
+   */
+  public Optional<RoutingEntry> lookup(String method, String path) {
+    var routingIndex = descriptorProvider.getRoutingIndex();
+    if (routingIndex == null || routingIndex.isEmpty() || path == null) {
+      return Optional.empty();
     }
-    return false;
-  }
 
-  private static boolean matchUri(RoutingEntry re, String path) {
-    var pathPattern = re.getPathPattern();
-    if (pathPattern != null) {
-      return fastMatch(pathPattern, path);
+    if (!isCacheEnabled()) {
+      return Optional.ofNullable(routingIndex.lookup(method, path));
     }
 
-    return re.getPath() == null || path.startsWith(re.getPath());
+    return getRoutingEntryCache(routingIndex).lookup(method, path);
   }
 
-  private static boolean fastMatch(String pathPattern, String path) {
-    return fastMatch(pathPattern, 0, path, 0, path.length());
+  /**
+   * Provides lookup cache statistics: hit, miss and eviction counters.
+   *
+   * @return {@link CacheStats} of the lookup cache, empty if cache is disabled or not used yet
+   */
+  public CacheStats getCacheStats() {
+    var cache = routingEntryCache;
+    return cache != null ? cache.cache.stats() : CacheStats.empty();
+  }
+
+  private boolean isCacheEnabled() {
+    return cacheProperties != null && cacheProperties.isEnabled();
   }
 
   /**
-   * This method has been copied from okapi, so 'Cognitive Complexity of methods should not be too high' sonarcloud
-   * issues suppressed for now.
+   * Returns lookup cache bound to the given routing index, a new cache is created when the index is recompiled.
    */
-  @SuppressWarnings({"java:S3776", "checkstyle:MethodLength"})
-  private static boolean fastMatch(String pathPattern, int patternIndex, String path, int uriIndex, int pathLength) {
-    while (patternIndex < pathPattern.length()) {
-      var patternChar = pathPattern.charAt(patternIndex);
-      patternIndex++;
-      if (patternChar == '{') {
-        while (true) {
-          if (pathPattern.charAt(patternIndex) == '}') {
-            patternIndex++;
-            break;
-          }
-          patternIndex++;
-        }
-        var empty = true;
-        while (uriIndex < pathLength && path.charAt(uriIndex) != '/') {
-          uriIndex++;
-          empty = false;
-        }
-        if (empty) {
-          return false;
-        }
-      } else if (patternChar != '*') {
-        if (uriIndex == pathLength || patternChar != path.charAt(uriIndex)) {
-          return false;
+  private RoutingEntryCache getRoutingEntryCache(RoutingIndex routingIndex) {
+    var cache = routingEntryCache;
+    if (cache == null || cache.routingIndex != routingIndex) {
+      synchronized (this) {
+        cache = routingEntryCache;
+        if (cache == null || cache.routingIndex != routingIndex) {
+          cache = new RoutingEntryCache(routingIndex, cacheProperties.getMaxSize());
+          routingEntryCache = cache;
         }
-        uriIndex++;
-      } else {
-        do {
-          if (fastMatch(pathPattern, patternIndex, path, uriIndex, pathLength)) {
-            return true;
-          }
-          uriIndex++;
-        } while (uriIndex <= pathLength);
-        return false;
       }
     }
-    return uriIndex == pathLength;
+    return cache;
   }
 
-  private static String getPatternPrefix(RoutingEntry endpoint) {
-    var pathPattern = StringUtils.getIfEmpty(endpoint.getPath(), endpoint::getPathPattern);
-    if (pathPattern == null) {
-      return "/";
+  private static final class RoutingEntryCache {
+
+    private final RoutingIndex routingIndex;
+    private final Cache<RouteKey, Optional<RoutingEntry>> cache;
+
+    RoutingEntryCache(RoutingIndex routingIndex, long maxSize) {
+      this.routingIndex = routingIndex;
+      this.cache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
     }
 
-    var lastSlash = 0;
-    for (var i = 0; i < pathPattern.length(); i++) {
-      switch (pathPattern.charAt(i)) {
-        case '*', '{':
-          return pathPattern.substring(0, lastSlash);
-        case '/':
-          lastSlash = i + 1;
-          break;
-        default:
-          break;
+    Optional<RoutingEntry> lookup(String method, String path) {
+      var normalizedPath = routingIndex.normalizePath(path);
+      if (normalizedPath == null) {
+        return Optional.ofNullable(routingIndex.lookup(method, path));
       }
+
+      return cache.get(new RouteKey(method, normalizedPath),
+        key -> Optional.ofNullable(routingIndex.lookup(method, path)));
     }
-    return pathPattern;
   }
+
+  private record RouteKey(String method, String path) {}
 }
@@ -0,0 +1,479 @@
+package org.folio.security.service;
+
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
+
+/**
+ * Immutable routing index, compiled once from the handlers of a {@link ModuleDescriptor}.
+ *
+ * <p>Routing entries are grouped by the static prefix of their path pattern (the part up to the last '/' before the
+ * first wildcard) and stored in a segment-level trie. Each trie node keeps a bitmask of the HTTP methods declared by
+ * its entries, so nodes that cannot serve the request method are skipped without scanning them.</p>
+ *
+ * <p>Lookup preserves the original matching semantics: the request path itself is tried first, then each of its
+ * parent prefixes ending with '/', from the longest to the shortest. Inside one prefix, entries are evaluated in
+ * descriptor order and the first match wins. Lookup does not allocate.</p>
+ */
+public final class RoutingIndex {
+
+  private static final int ANY_METHOD = 1;
+  private static final int OTHER_METHOD = 1 << 1;
+  private static final int UUID_LENGTH = 36;
+  private static final char PLACEHOLDER_MARKER = '\0';
+  private static final String UUID_PLACEHOLDER = PLACEHOLDER_MARKER + "uuid";
+  private static final String NUMBER_PLACEHOLDER = PLACEHOLDER_MARKER + "number";
+  private static final RoutingIndex EMPTY = new RoutingIndex(null, true);
+
+  private final Node root;
+  private final boolean identifierAgnostic;
+
+  private RoutingIndex(Node root, boolean identifierAgnostic) {
+    this.root = root;
+    this.identifierAgnostic = identifierAgnostic;
+  }
+
+  /**
+   * Compiles routing index from the handlers of the given module descriptor.
+   *
+   * @param descriptor - {@link ModuleDescriptor} to compile
+   * @return compiled {@link RoutingIndex}, empty if descriptor has no handlers
+   */
+  public static RoutingIndex of(ModuleDescriptor descriptor) {
+    if (descriptor == null) {
+      return EMPTY;
+    }
+
+    var root = new NodeBuilder();
+    var hasEntries = false;
+    var identifierAgnostic = true;
+    for (var interfaceDescriptor : emptyIfNull(descriptor.getProvides())) {
+      for (var routingEntry : emptyIfNull(interfaceDescriptor.getHandlers())) {
+        root.add(getPatternPrefix(routingEntry), 0, new CompiledEntry(routingEntry));
+        identifierAgnostic &= isIdentifierAgnostic(routingEntry);
+        hasEntries = true;
+      }
+    }
+
+    return hasEntries ? new RoutingIndex(root.build(), identifierAgnostic) : EMPTY;
+  }
+
+  /**
+   * Normalizes request path for use as a lookup cache key.
+   *
+   * <p>If no routing entry can distinguish one identifier from another (there are no literal UUID or numeric
+   * segments and no literal parts that may match inside such segments), UUID and numeric path segments are collapsed
+   * into placeholders, so all paths of the same shape share one key. Otherwise, the path is returned as is.</p>
+   *
+   * @param path - request path
+   * @return normalized path, or null if path cannot be used as a cache key
+   */
+  public String normalizePath(String path) {
+    if (!identifierAgnostic) {
+      return path;
+    }
+
+    if (path.indexOf(PLACEHOLDER_MARKER) >= 0) {
+      return null;
+    }
+
+    StringBuilder result = null;
+    var segmentStart = 0;
+    var length = path.length();
+    for (var i = 0; i <= length; i++) {
+      if (i < length && path.charAt(i) != '/') {
+        continue;
+      }
+
+      var placeholder = getPlaceholder(path, segmentStart, i);
+      if (placeholder != null) {
+        if (result == null) {
+          result = new StringBuilder(length).append(path, 0, segmentStart);
+        }
+        result.append(placeholder);
+      } else if (result != null) {
+        result.append(path, segmentStart, i);
+      }
+
+      if (result != null && i < length) {
+        result.append('/');
+      }
+      segmentStart = i + 1;
+    }
+
+    return result == null ? path : result.toString();
+  }
+
+  /**
+   * Checks if routing index contains any routing entry.
+   *
+   * @return true if index is empty, false - otherwise
+   */
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  /**
+   * Finds the first routing entry matching given HTTP method and request path.
+   *
+   * @param method - HTTP method, nullable (matches any method)
+   * @param path - request path
+   * @return matched {@link RoutingEntry} or null if nothing is found
+   */
+  public RoutingEntry lookup(String method, String path) {
+    if (root == null || path == null) {
+      return null;
+    }
+
+    return lookup(root, method, getMethodBit(method), path, 0);
+  }
+
+  /**
+   * Recursively descends the trie by path segments, then evaluates candidate nodes from the deepest to the root.
+   *
+   * @param node - trie node, corresponding to {@code path.substring(0, start)}
+   */
+  private RoutingEntry lookup(Node node, String method, int methodBit, String path, int start) {
+    var slashIndex = path.indexOf('/', start);
+    if (slashIndex < 0) {
+      var leafIndex = find(node.leafSegments, path, start, path.length());
+      if (leafIndex >= 0) {
+        var leaf = node.leaves[leafIndex];
+        var entry = findMatch(leaf, node.leafMethodMasks[leafIndex], method, methodBit, path);
+        if (entry != null) {
+          return entry;
+        }
+      }
+    } else {
+      var childIndex = find(node.childSegments, path, start, slashIndex);
+      if (childIndex >= 0) {
+        var entry = lookup(node.children[childIndex], method, methodBit, path, slashIndex + 1);
+        if (entry != null) {
+          return entry;
+        }
+      }
+    }
+
+    // root node corresponds to an empty prefix, which is never used as a lookup candidate
+    return node == root ? null : findMatch(node.entries, node.methodMask, method, methodBit, path);
+  }
+
+  private static RoutingEntry findMatch(CompiledEntry[] entries, int mask, String method, int bit, String path) {
+    if (entries.length == 0 || !matchesMethodMask(mask, method, bit)) {
+      return null;
+    }
+
+    for (var entry : entries) {
+      if (entry.matches(method, bit, path)) {
+        return entry.routingEntry;
+      }
+    }
+
+    return null;
+  }
+
+  private static boolean matchesMethodMask(int mask, String method, int bit) {
+    return method == null ? mask != 0 : (mask & (bit | ANY_METHOD)) != 0;
+  }
+
+  /**
+   * Performs binary search of the path region in the sorted segments array without creating a substring.
+   */
+  private static int find(String[] segments, String path, int from, int to) {
+    var low = 0;
+    var high = segments.length - 1;
+    while (low <= high) {
+      var middle = (low + high) >>> 1;
+      var result = compare(segments[middle], path, from, to);
+      if (result < 0) {
+        low = middle + 1;
+      } else if (result > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+
+    return -1;
+  }
+
+  private static int compare(String segment, String path, int from, int to) {
+    var segmentLength = segment.length();
+    var regionLength = to - from;
+    var length = Math.min(segmentLength, regionLength);
+    for (var i = 0; i < length; i++) {
+      var diff = segment.charAt(i) - path.charAt(from + i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+
+    return segmentLength - regionLength;
+  }
+
+  private static int getMethodBit(String method) {
+    if (method == null) {
+      return 0;
+    }
+
+    return switch (method) {
+      case "*" -> ANY_METHOD;
+      case "GET" -> 1 << 2;
+      case "HEAD" -> 1 << 3;
+      case "POST" -> 1 << 4;
+      case "PUT" -> 1 << 5;
+      case "PATCH" -> 1 << 6;
+      case "DELETE" -> 1 << 7;
+      case "OPTIONS" -> 1 << 8;
+      case "TRACE" -> 1 << 9;
+      case "CONNECT" -> 1 << 10;
+      default -> OTHER_METHOD;
+    };
+  }
+
+  private static String getPlaceholder(String path, int from, int to) {
+    if (isNumber(path, from, to)) {
+      return NUMBER_PLACEHOLDER;
+    }
+
+    return isUuid(path, from, to) ? UUID_PLACEHOLDER : null;
+  }
+
+  private static boolean isNumber(String value, int from, int to) {
+    if (from == to) {
+      return false;
+    }
+
+    for (var i = from; i < to; i++) {
+      if (!isDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isUuid(String value, int from, int to) {
+    if (to - from != UUID_LENGTH) {
+      return false;
+    }
+
+    for (var i = 0; i < UUID_LENGTH; i++) {
+      var valueChar = value.charAt(from + i);
+      var isDashPosition = i == 8 || i == 13 || i == 18 || i == 23;
+      if (isDashPosition ? valueChar != '-' : !isHexDigit(valueChar)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isIdentifierAgnostic(RoutingEntry routingEntry) {
+    var pathPattern = routingEntry.getPathPattern();
+    if (pathPattern != null && !isIdentifierAgnostic(pathPattern)) {
+      return false;
+    }
+
+    // static paths are matched by prefix, so the last path segment is checked as a partial one
+    var path = routingEntry.getPath();
+    return path == null || isIdentifierAgnostic(path + "*");
+  }
+
+  /**
+   * Checks that path pattern matches all UUID (or numeric) path segments in the same way.
+   *
+   * <p>Literal pattern parts are split by '/' and wildcards into pieces. A piece, bounded by '/' or pattern edges,
+   * must not be a UUID or a number itself. A piece adjacent to a wildcard may match a part of a path segment, so it
+   * must contain at least one character that cannot be a part of a UUID or a number.</p>
+   */
+  private static boolean isIdentifierAgnostic(String pathPattern) {
+    var length = pathPattern.length();
+    var pieceStart = 0;
+    var afterWildcard = false;
+    for (var i = 0; i <= length; i++) {
+      var patternChar = i < length ? pathPattern.charAt(i) : '/';
+      if (patternChar != '/' && patternChar != '*' && patternChar != '{') {
+        continue;
+      }
+
+      var partial = afterWildcard || patternChar != '/';
+      if (pieceStart < i && !isIdentifierAgnosticPiece(pathPattern, pieceStart, i, partial)) {
+        return false;
+      }
+
+      if (patternChar == '{') {
+        var closingIndex = pathPattern.indexOf('}', i);
+        i = closingIndex < 0 ? length : closingIndex;
+      }
+
+      afterWildcard = patternChar != '/';
+      pieceStart = i + 1;
+    }
+
+    return true;
+  }
+
+  private static boolean isIdentifierAgnosticPiece(String pattern, int from, int to, boolean partial) {
+    if (!partial) {
+      return !isNumber(pattern, from, to) && !isUuid(pattern, from, to);
+    }
+
+    for (var i = from; i < to; i++) {
+      var patternChar = pattern.charAt(i);
+      if (patternChar != '-' && !isHexDigit(patternChar)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isDigit(char value) {
+    return value >= '0' && value <= '9';
+  }
+
+  private static boolean isHexDigit(char value) {
+    return isDigit(value) || value >= 'a' && value <= 'f' || value >= 'A' && value <= 'F';
+  }
+
+  private static String getPatternPrefix(RoutingEntry endpoint) {
+    var pathPattern = StringUtils.getIfEmpty(endpoint.getPath(), endpoint::getPathPattern);
+    if (pathPattern == null) {
+      return "/";
+    }
+
+    var lastSlash = 0;
+    for (var i = 0; i < pathPattern.length(); i++) {
+      switch (pathPattern.charAt(i)) {
+        case '*', '{':
+          return pathPattern.substring(0, lastSlash);
+        case '/':
+          lastSlash = i + 1;
+          break;
+        default:
+          break;
+      }
+    }
+    return pathPattern;
+  }
+
+  private static int getMethodMask(CompiledEntry[] entries) {
+    var mask = 0;
+    for (var entry : entries) {
+      mask |= entry.methodMask;
+    }
+    return mask;
+  }
+
+  private static final class CompiledEntry {
+
+    private final RoutingEntry routingEntry;
+    private final PathPattern pathPattern;
+    private final String[] methods;
+    private final int methodMask;
+
+    CompiledEntry(RoutingEntry routingEntry) {
+      this.routingEntry = routingEntry;
+      var pattern = routingEntry.getPathPattern();
+      this.pathPattern = pattern != null ? PathPattern.compile(pattern) : null;
+      this.methods = emptyIfNull(routingEntry.getMethods()).toArray(String[]::new);
+
+      var mask = 0;
+      for (var method : methods) {
+        mask |= method == null ? 0 : getMethodBit(method);
+      }
+      this.methodMask = mask;
+    }
+
+    boolean matches(String method, int bit, String path) {
+      return matchesMethod(method, bit) && matchesPath(path);
+    }
+
+    private boolean matchesPath(String path) {
+      if (pathPattern != null) {
+        return pathPattern.matches(path);
+      }
+
+      var staticPath = routingEntry.getPath();
+      return staticPath == null || path.startsWith(staticPath);
+    }
+
+    private boolean matchesMethod(String method, int bit) {
+      if (!matchesMethodMask(methodMask, method, bit)) {
+        return false;
+      }
+
+      if (method == null || bit != OTHER_METHOD || (methodMask & ANY_METHOD) != 0) {
+        return true;
+      }
+
+      for (var entryMethod : methods) {
+        if (method.equals(entryMethod)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+
+  /**
+   * Trie node for a prefix ending with '/' (or an empty prefix for the root node).
+   */
+  private static final class Node {
+
+    private final String[] childSegments;
+    private final Node[] children;
+    private final String[] leafSegments;
+    private final CompiledEntry[][] leaves;
+    private final int[] leafMethodMasks;
+    private final CompiledEntry[] entries;
+    private final int methodMask;
+
+    Node(NodeBuilder builder) {
+      this.childSegments = builder.children.keySet().toArray(String[]::new);
+      this.children = builder.children.values().stream().map(NodeBuilder::build).toArray(Node[]::new);
+      this.leafSegments = builder.leaves.keySet().toArray(String[]::new);
+      this.leaves = builder.leaves.values().stream()
+        .map(leafEntries -> leafEntries.toArray(CompiledEntry[]::new))
+        .toArray(CompiledEntry[][]::new);
+      this.leafMethodMasks = new int[leaves.length];
+      for (var i = 0; i < leaves.length; i++) {
+        leafMethodMasks[i] = getMethodMask(leaves[i]);
+      }
+      this.entries = builder.entries.toArray(CompiledEntry[]::new);
+      this.methodMask = getMethodMask(entries);
+    }
+  }
+
+  private static final class NodeBuilder {
+
+    // TreeMap uses String.compareTo, which is consistent with the region comparison used for lookup
+    private final Map<String, NodeBuilder> children = new TreeMap<>();
+    private final Map<String, List<CompiledEntry>> leaves = new TreeMap<>();
+    private final List<CompiledEntry> entries = new ArrayList<>();
+
+    void add(String prefix, int start, CompiledEntry entry) {
+      var slashIndex = prefix.indexOf('/', start);
+      if (slashIndex < 0) {
+        if (start == prefix.length()) {
+          entries.add(entry);
+        } else {
+          leaves.computeIfAbsent(prefix.substring(start), k -> new ArrayList<>()).add(entry);
+        }
+        return;
+      }
+
+      var segment = prefix.substring(start, slashIndex);
+      children.computeIfAbsent(segment, k -> new NodeBuilder()).add(prefix, slashIndex + 1, entry);
+    }
+
+    Node build() {
+      return new Node(this);
+    }
+  }
+}
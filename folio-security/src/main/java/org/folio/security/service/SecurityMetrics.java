@@ -0,0 +1,224 @@
+package org.folio.security.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.folio.jwt.openid.JwksLoadListener;
+import org.folio.security.configuration.properties.SecurityMetricsProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Records timers and counters of the security request path: routing lookup, token parsing, JWKS fetches, remote
+ * authorization calls and errors mapped by {@code ExceptionHandlerFilter}.
+ *
+ * <p>Meters are tagged by tenant and outcome. Only verified tenants claim a tag value: realms of valid tokens, realms
+ * with successfully fetched JWKS and tenants of granted remote authorization calls. Tenants of client-supplied data
+ * ({@code x-okapi-tenant} header, invalid tokens, failed calls) are tagged with their own value only if the tenant is
+ * already verified, and with {@code unknown} otherwise. Only the first {@code maxTenants} verified tenants get their
+ * own tag value, others are tagged with {@code other}. The tenant tag can be disabled completely.</p>
+ */
+public class SecurityMetrics {
+
+  public static final String METRIC_PREFIX = "folio.security";
+  public static final String ROUTING_LOOKUP = METRIC_PREFIX + ".routing.lookup";
+  public static final String TOKEN_PARSE = METRIC_PREFIX + ".token.parse";
+  public static final String JWKS_FETCH = METRIC_PREFIX + ".jwks.fetch";
+  public static final String REMOTE_AUTHORIZATION = METRIC_PREFIX + ".authorization.remote";
+  public static final String ERRORS = METRIC_PREFIX + ".errors";
+
+  public static final String UNKNOWN_TENANT = "unknown";
+  public static final String OTHER_TENANT = "other";
+
+  private static final String TENANT = "tenant";
+  private static final String OUTCOME = "outcome";
+  private static final Pattern TENANT_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,63}");
+
+  private final MeterRegistry registry;
+  private final SecurityMetricsProperties properties;
+  private final Set<String> knownTenants = ConcurrentHashMap.newKeySet();
+
+  private final MeterProvider<Timer> routingLookupTimer;
+  private final MeterProvider<Timer> tokenParseTimer;
+  private final MeterProvider<Timer> jwksFetchTimer;
+  private final MeterProvider<Timer> remoteAuthorizationTimer;
+  private final MeterProvider<Counter> errorCounter;
+
+  /**
+   * Creates security metrics.
+   *
+   * @param registry - meter registry
+   * @param properties - metrics properties
+   */
+  public SecurityMetrics(MeterRegistry registry, SecurityMetricsProperties properties) {
+    this.registry = registry;
+    this.properties = properties;
+    this.routingLookupTimer = timer(ROUTING_LOOKUP, "Routing entry lookups");
+    this.tokenParseTimer = timer(TOKEN_PARSE, "Access token parsing and verification");
+    this.jwksFetchTimer = timer(JWKS_FETCH, "JWKS fetches of token issuers");
+    this.remoteAuthorizationTimer = timer(REMOTE_AUTHORIZATION, "Remote authorization calls");
+    this.errorCounter = Counter.builder(ERRORS)
+      .description("Security errors returned to clients")
+      .withRegistry(registry);
+  }
+
+  /**
+   * Provides start time for one of the timers, measured with the registry clock.
+   *
+   * @return monotonic time in nanoseconds
+   */
+  public long startTimer() {
+    return registry.config().clock().monotonicTime();
+  }
+
+  /**
+   * Records routing entry lookup.
+   *
+   * @param startedAt - lookup start time from {@link #startTimer()}
+   * @param tenant - unverified request tenant, nullable
+   * @param found - true if a routing entry is found
+   */
+  public void recordRoutingLookup(long startedAt, String tenant, boolean found) {
+    record(routingLookupTimer, startedAt, tenant, false, found ? "found" : "not_found");
+  }
+
+  /**
+   * Records access token parsing and verification.
+   *
+   * @param startedAt - parsing start time from {@link #startTimer()}
+   * @param tenant - token tenant (realm), nullable if the token is not valid
+   * @param valid - true if the token is valid
+   */
+  public void recordTokenParse(long startedAt, String tenant, boolean valid) {
+    record(tokenParseTimer, startedAt, tenant, valid, valid ? "valid" : "invalid");
+  }
+
+  /**
+   * Records JWKS fetch.
+   *
+   * @param tenant - token tenant (realm)
+   * @param durationNanos - fetch duration in nanoseconds
+   * @param success - true if keys are fetched
+   */
+  public void recordJwksFetch(String tenant, long durationNanos, boolean success) {
+    jwksFetchTimer.withTags(tags(tenant, success, OUTCOME, success ? "success" : "failure"))
+      .record(durationNanos, NANOSECONDS);
+  }
+
+  /**
+   * Records remote authorization call.
+   *
+   * @param startedAt - call start time from {@link #startTimer()}
+   * @param backend - authorization backend name ({@code keycloak}, {@code authtoken})
+   * @param tenant - token tenant, considered verified if access is granted, nullable
+   * @param error - call error, null if access is granted
+   */
+  public void recordRemoteAuthorization(long startedAt, String backend, String tenant, Throwable error) {
+    var duration = startTimer() - startedAt;
+    remoteAuthorizationTimer.withTags(tags(tenant, error == null, "backend", backend, OUTCOME, getOutcome(error)))
+      .record(duration, NANOSECONDS);
+  }
+
+  /**
+   * Records error response.
+   *
+   * @param tenant - unverified request tenant, nullable
+   * @param status - response status code
+   * @param errorCode - error code of the response body
+   */
+  public void recordError(String tenant, int status, String errorCode) {
+    errorCounter.withTags(tags(tenant, false, "category", errorCode, "status", String.valueOf(status))).increment();
+  }
+
+  /**
+   * Provides JWKS load listener for JWT parsers, recording {@link #JWKS_FETCH} timer.
+   *
+   * @return {@link JwksLoadListener} object
+   */
+  public JwksLoadListener jwksLoadListener() {
+    return (issuer, durationNanos, error) -> recordJwksFetch(resolveTenant(issuer), durationNanos, error == null);
+  }
+
+  /**
+   * Provides tenant tag value with bounded cardinality.
+   *
+   * @param tenant - tenant name, nullable
+   * @param verified - true if the tenant comes from a verified source and may claim a tag value
+   * @return tenant itself, {@code unknown} for missing, malformed or unverified values or {@code other} if the limit
+   *   of distinct tenants is reached
+   */
+  String getTenantTag(String tenant, boolean verified) {
+    if (tenant == null) {
+      return UNKNOWN_TENANT;
+    }
+
+    if (knownTenants.contains(tenant)) {
+      return tenant;
+    }
+
+    if (!verified || !TENANT_PATTERN.matcher(tenant).matches()) {
+      return UNKNOWN_TENANT;
+    }
+
+    synchronized (knownTenants) {
+      if (knownTenants.size() < properties.getMaxTenants()) {
+        knownTenants.add(tenant);
+        return tenant;
+      }
+    }
+
+    return OTHER_TENANT;
+  }
+
+  private void record(MeterProvider<Timer> timer, long startedAt, String tenant, boolean verified, String outcome) {
+    timer.withTags(tags(tenant, verified, OUTCOME, outcome)).record(startTimer() - startedAt, NANOSECONDS);
+  }
+
+  /**
+   * Prepends tenant tag, if enabled, to the given tag keys and values.
+   */
+  private String[] tags(String tenant, boolean verified, String... keyValues) {
+    if (!properties.isTenantTagEnabled()) {
+      return keyValues;
+    }
+
+    var tags = new String[keyValues.length + 2];
+    tags[0] = TENANT;
+    tags[1] = getTenantTag(tenant, verified);
+    System.arraycopy(keyValues, 0, tags, 2, keyValues.length);
+    return tags;
+  }
+
+  private MeterProvider<Timer> timer(String name, String description) {
+    return Timer.builder(name)
+      .description(description)
+      .publishPercentileHistogram(properties.isPercentileHistogram())
+      .withRegistry(registry);
+  }
+
+  private static String getOutcome(Throwable error) {
+    if (error == null) {
+      return "granted";
+    }
+
+    if (error instanceof HttpClientErrorException.Forbidden) {
+      return "denied";
+    }
+
+    if (error instanceof HttpClientErrorException.Unauthorized) {
+      return "unauthorized";
+    }
+
+    return error instanceof AuthorizationUnavailableException ? "rejected" : "error";
+  }
+
+  private static String resolveTenant(String issuer) {
+    return issuer == null ? null : issuer.substring(issuer.lastIndexOf('/') + 1);
+  }
+}
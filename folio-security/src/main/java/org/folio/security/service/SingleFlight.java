@@ -0,0 +1,82 @@
+package org.folio.security.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.folio.security.exception.AuthorizationUnavailableException;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight, other callers with the same key wait for
+ * it and share its result instead of issuing their own call.
+ *
+ * <p>Nothing is cached: the key is released as soon as the call completes, so the next call for the same key is
+ * executed again. If the call fails, the same exception is rethrown to the caller and every waiter.</p>
+ *
+ * <p>Waiting is interruptible: a waiter interrupted before the call completes (e.g. by the asynchronous authorization
+ * deadline) stops waiting and fails with {@link AuthorizationUnavailableException}, while the call itself continues
+ * for the caller that started it.</p>
+ *
+ * @param <K> - call key type, must implement {@code equals} and {@code hashCode}
+ * @param <V> - call result type
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+  /**
+   * Executes the call or joins the one already in flight for the same key.
+   *
+   * @param key - call key
+   * @param call - call to execute, invoked only if there is no call in flight for the key
+   * @return call result
+   * @throws RuntimeException the exception thrown by the call
+   * @throws AuthorizationUnavailableException if the caller is interrupted while waiting for the call in flight
+   */
+  public V execute(K key, Supplier<V> call) {
+    var future = new CompletableFuture<V>();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, future);
+    if (inFlightCall != null) {
+      return await(inFlightCall);
+    }
+
+    try {
+      var result = call.get();
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightCalls.remove(key, future);
+    }
+  }
+
+  /**
+   * Provides the number of calls currently in flight.
+   *
+   * @return number of in-flight calls
+   */
+  public int getInFlightCount() {
+    return inFlightCalls.size();
+  }
+
+  private static <V> V await(CompletableFuture<V> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AuthorizationUnavailableException("Interrupted while waiting for authorization call in flight");
+    } catch (ExecutionException e) {
+      var cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
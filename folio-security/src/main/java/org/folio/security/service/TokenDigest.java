@@ -0,0 +1,36 @@
+package org.folio.security.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Computes digests of access tokens, used as cache keys instead of raw tokens.
+ */
+@UtilityClass
+public class TokenDigest {
+
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenDigest::createSha256);
+
+  /**
+   * Computes SHA-256 digest of the given token.
+   *
+   * @param token - access token
+   * @return base64url-encoded SHA-256 digest without padding
+   */
+  public static String sha256(String token) {
+    var messageDigest = SHA_256.get();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest(token.getBytes(UTF_8)));
+  }
+
+  private static MessageDigest createSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package org.folio.security.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import jakarta.servlet.Filter;
+import java.util.List;
+import org.folio.security.filter.AsyncAuthorizationFilter;
+import org.folio.security.filter.AuthorizationFilter;
+import org.folio.security.filter.ExceptionHandlerFilter;
+import org.folio.security.service.AuthorizationService;
+import org.folio.security.support.TestConfiguration;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.TestPropertySource;
+
+@UnitTest
+@SpringBootTest(classes = {
+  SecurityConfigurationTest.AuthorizationServiceConfiguration.class,
+  TestConfiguration.class,
+  SecurityConfiguration.class
+}, properties = {
+  "application.security.enabled=false",
+  "application.keycloak.enabled=false",
+  "application.okapi.enabled=false"
+})
+class SecurityConfigurationTest {
+
+  @Nested
+  class BlockingMode {
+
+    @Autowired private SecurityFilterChain filterChain;
+
+    @Test
+    void filterChain_positive() {
+      var filters = filterChain.getFilters();
+
+      assertThat(filters).noneMatch(AsyncAuthorizationFilter.class::isInstance);
+      assertFilterOrder(filters, AuthorizationFilter.class);
+    }
+  }
+
+  @Nested
+  @TestPropertySource(properties = "application.security.authorization-filter.async-enabled=true")
+  class AsyncMode {
+
+    @Autowired private SecurityFilterChain filterChain;
+
+    @Test
+    void filterChain_positive() {
+      assertFilterOrder(filterChain.getFilters(), AsyncAuthorizationFilter.class);
+    }
+  }
+
+  /**
+   * Verifies that errors of the FOLIO authorization filter are handled by the exception handler filter and that the
+   * authorization result is available for the Spring Security authorization filter.
+   */
+  private static void assertFilterOrder(List<Filter> filters, Class<? extends AuthorizationFilter> filterClass) {
+    var exceptionHandlerIndex = indexOf(filters, ExceptionHandlerFilter.class);
+    var authorizationFilterIndex = indexOf(filters, filterClass);
+    var springAuthorizationFilterIndex =
+      indexOf(filters, org.springframework.security.web.access.intercept.AuthorizationFilter.class);
+
+    assertThat(exceptionHandlerIndex).isNotNegative().isLessThan(authorizationFilterIndex);
+    assertThat(authorizationFilterIndex).isLessThan(springAuthorizationFilterIndex);
+  }
+
+  private static int indexOf(List<Filter> filters, Class<? extends Filter> filterClass) {
+    for (var i = 0; i < filters.size(); i++) {
+      if (filters.get(i).getClass() == filterClass) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Configuration
+  static class AuthorizationServiceConfiguration {
+
+    @Bean
+    AuthorizationService authorizationService() {
+      return mock(AuthorizationService.class);
+    }
+  }
+}
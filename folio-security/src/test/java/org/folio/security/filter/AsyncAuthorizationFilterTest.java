@@ -0,0 +1,200 @@
+package org.folio.security.filter;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.common.utils.OkapiHeaders.TOKEN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.folio.security.exception.AuthorizationTimeoutException;
+import org.folio.security.exception.ForbiddenException;
+import org.folio.security.exception.NotAuthorizedException;
+import org.folio.security.service.AuthorizationService;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AsyncAuthorizationFilterTest {
+
+  private static final String OKAPI_TOKEN = "test";
+
+  @Mock private FilterChain filterChain;
+  @Mock private Authentication authentication;
+  @Mock private AuthorizationService authorizationService;
+
+  private ExecutorService executor;
+  private AsyncAuthorizationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    filter = new AsyncAuthorizationFilter(authorizationService, executor, Duration.ofSeconds(5));
+    request = new MockHttpServletRequest("GET", "/foo/entities");
+    request.setAsyncSupported(true);
+    request.addHeader(TOKEN, OKAPI_TOKEN);
+    response = new MockHttpServletResponse();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    executor.shutdownNow();
+    SecurityContextHolder.getContext().setAuthentication(null);
+  }
+
+  @Test
+  void filter_positive() throws Exception {
+    when(authorizationService.authorize(any(), any())).thenReturn(authentication);
+
+    var dispatched = startAuthorization();
+    assertThat(request.isAsyncStarted()).isTrue();
+    verifyNoInteractions(filterChain);
+
+    awaitDispatch(dispatched);
+    asyncDispatch();
+
+    verify(authorizationService).authorize(request, OKAPI_TOKEN);
+    verify(filterChain).doFilter(request, response);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isEqualTo(authentication);
+    assertThat(request.getAttribute(AsyncAuthorizationFilter.RESULT_ATTRIBUTE)).isNull();
+  }
+
+  @Test
+  void filter_positive_containerThreadReleasedDuringAuthorization() throws Exception {
+    var authorizationStarted = new CountDownLatch(1);
+    var keycloakResponse = new CountDownLatch(1);
+    when(authorizationService.authorize(any(), any())).then(invocation -> {
+      authorizationStarted.countDown();
+      keycloakResponse.await();
+      return authentication;
+    });
+
+    var dispatched = startAuthorization();
+    assertThat(authorizationStarted.await(5, SECONDS)).isTrue();
+    assertThat(dispatched.getCount()).isEqualTo(1);
+
+    keycloakResponse.countDown();
+    awaitDispatch(dispatched);
+    asyncDispatch();
+
+    verify(filterChain).doFilter(request, response);
+  }
+
+  @Test
+  void filter_negative_authorizationFailed() throws Exception {
+    when(authorizationService.authorize(any(), any())).thenThrow(new ForbiddenException("Access forbidden"));
+
+    awaitDispatch(startAuthorization());
+
+    assertThatThrownBy(this::asyncDispatch)
+      .isInstanceOf(ForbiddenException.class)
+      .hasMessage("Access forbidden");
+    verifyNoInteractions(filterChain);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  void filter_negative_deadlineExceeded() throws Exception {
+    var authorizationStarted = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+    when(authorizationService.authorize(any(), any())).then(invocation -> {
+      authorizationStarted.countDown();
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return authentication;
+    });
+
+    var dispatched = startAuthorization();
+    assertThat(authorizationStarted.await(5, SECONDS)).isTrue();
+    var asyncContext = (MockAsyncContext) request.getAsyncContext();
+    assertThat(asyncContext.getTimeout()).isEqualTo(5000L);
+    for (var listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext));
+    }
+
+    awaitDispatch(dispatched);
+    assertThat(interrupted.await(5, SECONDS)).isTrue();
+    assertThatThrownBy(this::asyncDispatch)
+      .isInstanceOf(AuthorizationTimeoutException.class)
+      .hasMessage("Authorization deadline exceeded");
+    verifyNoInteractions(filterChain);
+  }
+
+  @Test
+  void filter_positive_asyncNotSupported() throws Exception {
+    request.setAsyncSupported(false);
+    when(authorizationService.authorize(any(), any())).thenReturn(authentication);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    assertThat(request.isAsyncStarted()).isFalse();
+    verify(filterChain).doFilter(request, response);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isEqualTo(authentication);
+  }
+
+  @Test
+  void filter_positive_asyncDispatchWithoutAuthorizationResult() throws Exception {
+    request.setDispatcherType(DispatcherType.ASYNC);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(filterChain).doFilter(request, response);
+    verifyNoInteractions(authorizationService);
+  }
+
+  @Test
+  void filter_negative_tokenNotFound() {
+    request.removeHeader(TOKEN);
+
+    assertThatThrownBy(() -> filter.doFilterInternal(request, response, filterChain))
+      .isInstanceOf(NotAuthorizedException.class);
+    assertThat(request.isAsyncStarted()).isFalse();
+    verifyNoInteractions(authorizationService);
+  }
+
+  @Test
+  void shouldNotFilterAsyncDispatch_negative() {
+    assertThat(filter.shouldNotFilterAsyncDispatch()).isFalse();
+  }
+
+  private CountDownLatch startAuthorization() throws Exception {
+    var dispatched = new CountDownLatch(1);
+    filter.doFilterInternal(request, response, filterChain);
+    ((MockAsyncContext) request.getAsyncContext()).addDispatchHandler(dispatched::countDown);
+    return dispatched;
+  }
+
+  private static void awaitDispatch(CountDownLatch dispatched) throws InterruptedException {
+    assertThat(dispatched.await(5, SECONDS)).isTrue();
+  }
+
+  private void asyncDispatch() throws Exception {
+    request.setDispatcherType(DispatcherType.ASYNC);
+    filter.doFilterInternal(request, response, filterChain);
+  }
+}
@@ -4,32 +4,42 @@ import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_FORBIDDEN;
 import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
 import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.common.domain.model.error.ErrorCode.AUTH_ERROR;
 import static org.folio.common.domain.model.error.ErrorCode.FOUND_ERROR;
 import static org.folio.common.domain.model.error.ErrorCode.ROUTE_NOT_FOUND_ERROR;
+import static org.folio.common.domain.model.error.ErrorCode.SERVICE_ERROR;
 import static org.folio.common.domain.model.error.ErrorCode.UNKNOWN_ERROR;
+import static org.folio.common.utils.OkapiHeaders.TENANT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Stream;
 import org.folio.common.domain.model.error.Error;
 import org.folio.common.domain.model.error.ErrorCode;
 import org.folio.common.domain.model.error.ErrorResponse;
+import org.folio.security.exception.AuthorizationTimeoutException;
+import org.folio.security.exception.AuthorizationUnavailableException;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
 import org.folio.security.exception.RoutingEntryMatchingException;
 import org.folio.security.exception.TokenMismatchException;
+import org.folio.security.service.SecurityMetrics;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,10 +58,12 @@ import tools.jackson.databind.ObjectMapper;
 @ExtendWith(MockitoExtension.class)
 class ExceptionHandlerFilterTest {
 
+  private static final byte[] BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
   @Mock private FilterChain filterChain;
   @Mock private HttpServletRequest request;
   @Mock private HttpServletResponse response;
-  @Mock private PrintWriter writer;
+  @Mock private ServletOutputStream outputStream;
   @Mock private ObjectMapper objectMapper;
 
   @InjectMocks private ExceptionHandlerFilter filter;
@@ -63,12 +75,18 @@ class ExceptionHandlerFilterTest {
     verifyNoInteractions(response);
   }
 
+  @Test
+  void shouldNotFilterAsyncDispatch_negative() {
+    assertThat(filter.shouldNotFilterAsyncDispatch()).isFalse();
+  }
+
   @ParameterizedTest(name = "[{index}] {0}: {1} - {2}")
   @MethodSource("exceptionProvider")
   @DisplayName("exceptionHandler_parameterized")
   void exceptionHandler_parameterized(Exception exception, int status, ErrorCode code)
     throws IOException, ServletException {
-    when(response.getWriter()).thenReturn(writer);
+    when(response.getOutputStream()).thenReturn(outputStream);
+    when(objectMapper.writeValueAsBytes(any())).thenReturn(BODY);
     doThrow(exception).when(filterChain).doFilter(any(), any());
 
     filter.doFilterInternal(request, response, filterChain);
@@ -83,7 +101,49 @@ class ExceptionHandlerFilterTest {
         .code(code)))
       .totalRecords(1);
 
-    verify(objectMapper).writeValueAsString(errorResponse);
+    verify(objectMapper).writeValueAsBytes(errorResponse);
+    verify(response).setContentLength(BODY.length);
+    verify(outputStream).write(BODY);
+  }
+
+  @Test
+  void exceptionHandler_positive_authErrorBodyCached() throws IOException, ServletException {
+    when(response.getOutputStream()).thenReturn(outputStream);
+    when(objectMapper.writeValueAsBytes(any())).thenReturn(BODY);
+    doThrow(NotAuthorizedException.stackless("Not authorized")).when(filterChain).doFilter(any(), any());
+
+    filter.doFilterInternal(request, response, filterChain);
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(objectMapper).writeValueAsBytes(any());
+    verify(outputStream, times(2)).write(BODY);
+  }
+
+  @Test
+  void exceptionHandler_positive_otherErrorBodyNotCached() throws IOException, ServletException {
+    when(response.getOutputStream()).thenReturn(outputStream);
+    when(objectMapper.writeValueAsBytes(any())).thenReturn(BODY);
+    doThrow(new RoutingEntryMatchingException("Unable to resolve routing entry for path: /foo"))
+      .when(filterChain).doFilter(any(), any());
+
+    filter.doFilterInternal(request, response, filterChain);
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(objectMapper, times(2)).writeValueAsBytes(any());
+  }
+
+  @Test
+  void exceptionHandler_positive_errorRecorded() throws IOException, ServletException {
+    var securityMetrics = mock(SecurityMetrics.class);
+    filter.setSecurityMetrics(securityMetrics);
+    when(response.getOutputStream()).thenReturn(outputStream);
+    when(objectMapper.writeValueAsBytes(any())).thenReturn(BODY);
+    when(request.getHeader(TENANT)).thenReturn("test");
+    doThrow(new ForbiddenException("test")).when(filterChain).doFilter(any(), any());
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    verify(securityMetrics).recordError("test", SC_FORBIDDEN, AUTH_ERROR.getValue());
   }
 
   private static Stream<Arguments> exceptionProvider() {
@@ -92,6 +152,8 @@ class ExceptionHandlerFilterTest {
       Arguments.arguments(new NotAuthorizedException("test"), SC_UNAUTHORIZED, AUTH_ERROR),
       Arguments.arguments(new TokenMismatchException("test"), SC_BAD_REQUEST, FOUND_ERROR),
       Arguments.arguments(new RoutingEntryMatchingException("test"), SC_NOT_FOUND, ROUTE_NOT_FOUND_ERROR),
+      Arguments.arguments(new AuthorizationTimeoutException("test"), SC_SERVICE_UNAVAILABLE, SERVICE_ERROR),
+      Arguments.arguments(new AuthorizationUnavailableException("test"), SC_SERVICE_UNAVAILABLE, SERVICE_ERROR),
       Arguments.arguments(new RuntimeException("test"), SC_INTERNAL_SERVER_ERROR, UNKNOWN_ERROR));
   }
 }
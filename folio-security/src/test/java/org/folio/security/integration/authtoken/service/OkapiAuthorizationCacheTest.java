@@ -0,0 +1,88 @@
+package org.folio.security.integration.authtoken.service;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.security.integration.authtoken.configuration.properties.OkapiProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class OkapiAuthorizationCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String TOKEN = "token";
+  private static final AuthtokenPermissionHeaders HEADERS = new AuthtokenPermissionHeaders("perm", null, emptyMap());
+
+  private final AtomicLong nanos = new AtomicLong();
+  private OkapiAuthorizationCache authorizationCache;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new OkapiProperties.OkapiAuthorizationCacheProperties();
+    properties.setTtl(Duration.ofSeconds(60));
+    authorizationCache = new OkapiAuthorizationCache(properties, nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void createKey_positive() {
+    var key = authorizationCache.createKey(TOKEN, HEADERS);
+
+    assertThat(key.tokenDigest()).doesNotContain(TOKEN);
+    assertThat(key).isEqualTo(authorizationCache.createKey(TOKEN, HEADERS));
+    assertThat(key).isNotEqualTo(authorizationCache.createKey(TOKEN, new AuthtokenPermissionHeaders(
+      "perm", "desired", emptyMap())));
+  }
+
+  @Test
+  void putAuthorized_positive_tokenWithoutExpiration() {
+    var key = authorizationCache.createKey(TOKEN, HEADERS);
+    authorizationCache.putAuthorized(key, null);
+
+    advance(Duration.ofSeconds(59));
+    assertThat(authorizationCache.isAuthorized(key)).isTrue();
+
+    advance(Duration.ofSeconds(1));
+    assertThat(authorizationCache.isAuthorized(key)).isFalse();
+  }
+
+  @Test
+  void putAuthorized_positive_neverOutlivesToken() {
+    var key = authorizationCache.createKey(TOKEN, HEADERS);
+    authorizationCache.putAuthorized(key, NOW.plusSeconds(10).getEpochSecond());
+
+    advance(Duration.ofSeconds(9));
+    assertThat(authorizationCache.isAuthorized(key)).isTrue();
+
+    advance(Duration.ofSeconds(1));
+    assertThat(authorizationCache.isAuthorized(key)).isFalse();
+  }
+
+  @Test
+  void putAuthorized_negative_expiredToken() {
+    var key = authorizationCache.createKey(TOKEN, HEADERS);
+    authorizationCache.putAuthorized(key, NOW.getEpochSecond());
+
+    assertThat(authorizationCache.isAuthorized(key)).isFalse();
+  }
+
+  @Test
+  void invalidateAll_positive() {
+    var key = authorizationCache.createKey(TOKEN, HEADERS);
+    authorizationCache.putAuthorized(key, null);
+
+    authorizationCache.invalidateAll();
+
+    assertThat(authorizationCache.isAuthorized(key)).isFalse();
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,15 +20,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.folio.common.domain.model.InterfaceDescriptor;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
 import org.folio.security.domain.model.AuthUserPrincipal;
 import org.folio.security.domain.model.OkapiAccessToken;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
 import org.folio.security.exception.RoutingEntryMatchingException;
 import org.folio.security.integration.authtoken.client.AuthtokenClient;
+import org.folio.security.integration.authtoken.configuration.properties.OkapiProperties;
 import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -145,7 +151,8 @@ class OkapiAuthorizationServiceTest {
 
     assertThatThrownBy(() -> service.authorize(request, token))
       .isInstanceOf(NotAuthorizedException.class)
-      .hasMessage("Invalid amount of segments in JsonWebToken.");
+      .hasMessage("Invalid amount of segments in JsonWebToken.")
+      .satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
   }
 
   @Test
@@ -276,6 +283,97 @@ class OkapiAuthorizationServiceTest {
     assertThrows(ResourceAccessException.class, () -> service.authorize(request, TOKEN));
   }
 
+  @Test
+  void authorize_positive_precomputedPermissionHeaders() {
+    var routingEntry = new RoutingEntry().path(PATH).methods(List.of(METHOD))
+      .permissionsRequired(List.of(PERMISSION_1, PERMISSION_2)).permissionsDesired(List.of(PERMISSION_1))
+      .modulePermissions(List.of(MODULE_PERMISSION_1));
+    var interfaceDescriptor = new InterfaceDescriptor("test", "1.0").handlers(List.of(routingEntry));
+    var moduleDescriptor = new ModuleDescriptor().id(MODULE_ID).provides(List.of(interfaceDescriptor));
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(request.getMethod()).thenReturn(METHOD);
+    when(urlPathHelper.getPathWithinApplication(request)).thenReturn(PATH);
+    when(routingEntryMatcher.lookup(METHOD, PATH)).thenReturn(Optional.of(routingEntry));
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(moduleDescriptor);
+
+    service.authorize(request, TOKEN);
+    service.authorize(request, TOKEN);
+
+    verify(client, times(2)).checkAuthToken(URI.create(PATH), PERMISSION_1 + "," + PERMISSION_2, PERMISSION_1,
+      Map.of(MODULE_ID, List.of(MODULE_PERMISSION_1)), TOKEN, SUPERTENANT_ID, null);
+  }
+
+  @Test
+  void authorize_positive_cachedCheck() {
+    var authorizationCache = new OkapiAuthorizationCache(authorizationCacheProperties());
+    service.setAuthorizationCache(authorizationCache);
+    var routingEntry = new RoutingEntry().path(PATH).methods(List.of(METHOD))
+      .permissionsRequired(List.of(PERMISSION_1));
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(request.getMethod()).thenReturn(METHOD);
+    when(urlPathHelper.getPathWithinApplication(request)).thenReturn(PATH);
+    when(routingEntryMatcher.lookup(METHOD, PATH)).thenReturn(Optional.of(routingEntry));
+
+    var firstAuth = service.authorize(request, TOKEN);
+    var secondAuth = service.authorize(request, TOKEN);
+
+    assertThat(firstAuth.getPrincipal()).isEqualTo(authUserPrincipal());
+    assertThat(secondAuth.getPrincipal()).isEqualTo(authUserPrincipal());
+    assertThat(authorizationCache.getStats().hitCount()).isEqualTo(1L);
+    verify(client).checkAuthToken(URI.create(PATH), PERMISSION_1, null, Map.of(), TOKEN, SUPERTENANT_ID, null);
+  }
+
+  @Test
+  void authorize_negative_forbiddenCheckIsNotCached() {
+    service.setAuthorizationCache(new OkapiAuthorizationCache(authorizationCacheProperties()));
+    var routingEntry = new RoutingEntry().path(PATH).methods(List.of(METHOD))
+      .permissionsRequired(List.of(PERMISSION_1));
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(request.getMethod()).thenReturn(METHOD);
+    when(urlPathHelper.getPathWithinApplication(request)).thenReturn(PATH);
+    when(routingEntryMatcher.lookup(METHOD, PATH)).thenReturn(Optional.of(routingEntry));
+    doThrow(HttpClientErrorException.Forbidden.class).when(client)
+      .checkAuthToken(URI.create(PATH), PERMISSION_1, null, Map.of(), TOKEN, SUPERTENANT_ID, null);
+
+    assertThrows(ForbiddenException.class, () -> service.authorize(request, TOKEN));
+    assertThrows(ForbiddenException.class, () -> service.authorize(request, TOKEN));
+
+    verify(client, times(2))
+      .checkAuthToken(URI.create(PATH), PERMISSION_1, null, Map.of(), TOKEN, SUPERTENANT_ID, null);
+  }
+
+  @Test
+  void authorize_negative_circuitOpenForTenant() {
+    var guardProperties = new RemoteCallGuardProperties();
+    guardProperties.setFailureThreshold(1);
+    service.setRemoteCallGuard(new RemoteCallGuard("authtoken", guardProperties));
+    var routingEntry = new RoutingEntry().path(PATH).methods(List.of(METHOD))
+      .permissionsRequired(List.of(PERMISSION_1));
+
+    when(request.getMethod()).thenReturn(METHOD);
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(request)).thenReturn(PATH);
+    when(routingEntryMatcher.lookup(METHOD, PATH)).thenReturn(Optional.of(routingEntry));
+    doThrow(HttpServerErrorException.InternalServerError.class).when(client)
+      .checkAuthToken(eq(URI.create(PATH)), anyString(), eq(null), any(), eq(TOKEN), eq(SUPERTENANT_ID), eq(null));
+
+    assertThrows(HttpServerErrorException.InternalServerError.class, () -> service.authorize(request, TOKEN));
+    assertThatThrownBy(() -> service.authorize(request, TOKEN))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is unavailable for tenant: test_tenant");
+    verify(client).checkAuthToken(eq(URI.create(PATH)), anyString(), eq(null), any(), eq(TOKEN), eq(SUPERTENANT_ID),
+      eq(null));
+  }
+
+  private static OkapiProperties.OkapiAuthorizationCacheProperties authorizationCacheProperties() {
+    var cacheProperties = new OkapiProperties.OkapiAuthorizationCacheProperties();
+    cacheProperties.setEnabled(true);
+    return cacheProperties;
+  }
+
   private static AuthUserPrincipal authUserPrincipal() {
     return new AuthUserPrincipal().userId(USER_ID).authUserId(USER_ID.toString()).tenant("test_tenant");
   }
@@ -1,22 +1,38 @@
 package org.folio.security.integration.keycloak.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import org.folio.jwt.openid.JsonWebTokenCache;
 import org.folio.jwt.openid.JsonWebTokenParser;
 import org.folio.jwt.openid.OpenidJwtParserProvider;
+import org.folio.jwt.openid.TenantInvalidationListener;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakClientProperties;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.folio.security.integration.keycloak.service.KeycloakAuthorizationService;
+import org.folio.security.integration.keycloak.service.KeycloakJwtParserPreloader;
+import org.folio.security.integration.keycloak.service.KeycloakLocalPolicyEvaluator;
+import org.folio.security.integration.keycloak.service.KeycloakPermissionCache;
 import org.folio.security.integration.keycloak.service.KeycloakPublicKeyProvider;
+import org.folio.security.integration.keycloak.service.KeycloakRptPermissionProvider;
 import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
+import org.folio.security.service.SecurityMetrics;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.web.util.UrlPathHelper;
@@ -37,6 +53,11 @@ class KeycloakSecurityConfigurationTest {
   @Mock private OpenidJwtParserProvider openidJwtParserProvider;
   @Mock private InternalModuleDescriptorProvider descriptorProvider;
   @Mock private ResourceLoader resourceLoader;
+  @Mock private ObjectProvider<KeycloakPermissionCache> permissionCacheProvider;
+  @Mock private ObjectProvider<KeycloakLocalPolicyEvaluator> policyEvaluatorProvider;
+  @Mock private ObjectProvider<KeycloakRptPermissionProvider> rptPermissionProvider;
+  @Mock private ObjectProvider<RemoteCallGuard> remoteCallGuardProvider;
+  @Mock private ObjectProvider<SecurityMetrics> securityMetricsProvider;
 
   @Test
   void keycloakAuthClient_positive() {
@@ -51,14 +72,55 @@ class KeycloakSecurityConfigurationTest {
   @Test
   void authorizationService_positive() {
     var result = configuration.authorizationService(keycloakAuthClient, new RoutingEntryMatcher(descriptorProvider),
-      jsonWebTokenParser, environment, urlPathHelper);
+      jsonWebTokenParser, environment, urlPathHelper, permissionCacheProvider, policyEvaluatorProvider,
+      rptPermissionProvider, remoteCallGuardProvider, securityMetricsProvider);
 
     assertThat(result).isNotNull().isInstanceOf(KeycloakAuthorizationService.class);
   }
 
+  @Test
+  void keycloakLocalPolicyEvaluator_positive() {
+    var result = configuration.keycloakLocalPolicyEvaluator(descriptorProvider);
+
+    assertThat(result).isNotNull().isInstanceOf(KeycloakLocalPolicyEvaluator.class);
+  }
+
+  @Test
+  void keycloakRptPermissionProvider_positive() {
+    var clientProperties = new KeycloakClientProperties();
+    clientProperties.setClientId("mod-foo");
+    when(properties.getClient()).thenReturn(clientProperties);
+    when(properties.getRpt()).thenReturn(new KeycloakProperties.KeycloakRptProperties());
+
+    var result = configuration.keycloakRptPermissionProvider(keycloakAuthClient, jsonWebTokenParser,
+      openidJwtParserProvider, remoteCallGuardProvider, securityMetricsProvider);
+
+    assertThat(result).isNotNull().isInstanceOf(KeycloakRptPermissionProvider.class);
+    verify(openidJwtParserProvider).registerInvalidationListener(any(TenantInvalidationListener.class));
+  }
+
+  @Test
+  void remoteCallGuard_positive() {
+    var result = configuration.remoteCallGuard(new RemoteCallGuardProperties());
+
+    assertThat(result).isNotNull().isInstanceOf(RemoteCallGuard.class);
+  }
+
+  @Test
+  void keycloakPermissionCache_positive() {
+    when(properties.getAuthorizationCache()).thenReturn(new KeycloakProperties.KeycloakAuthorizationCacheProperties());
+
+    var result = configuration.keycloakPermissionCache(openidJwtParserProvider);
+
+    assertThat(result).isNotNull().isInstanceOf(KeycloakPermissionCache.class);
+    verify(openidJwtParserProvider).registerInvalidationListener(any(TenantInvalidationListener.class));
+  }
+
   @Test
   void publicKeyProvider_positive() {
-    var result = configuration.publicKeyProvider(keycloakAuthClient);
+    when(properties.getJwksCache()).thenReturn(new KeycloakProperties.KeycloakJwksCacheProperties());
+
+    var result = configuration.publicKeyProvider(keycloakAuthClient, securityMetricsProvider);
 
     assertThat(result).isNotNull().isInstanceOf(KeycloakPublicKeyProvider.class);
   }
@@ -73,19 +135,51 @@ class KeycloakSecurityConfigurationTest {
     assertThat(result).isNotNull().isInstanceOf(JsonWebTokenParser.class);
   }
 
+  @Test
+  void jsonWebTokenParser_positive_tokenCacheEnabled() {
+    var jwtCacheProperties = new KeycloakProperties.KeycloakJwtCacheProperties();
+    jwtCacheProperties.getTokenCache().setEnabled(true);
+    when(properties.getJwtCacheConfiguration()).thenReturn(jwtCacheProperties);
+    when(properties.getUrl()).thenReturn("http://localhost:8080");
+
+    var result = configuration.jsonWebTokenParser(objectMapper, properties, openidJwtParserProvider);
+
+    assertThat(result).isNotNull().isInstanceOf(JsonWebTokenParser.class);
+    verify(openidJwtParserProvider).registerTokenCache(any(JsonWebTokenCache.class));
+  }
+
   @Test
   void openidJwtParserProvider_positive() {
     when(properties.getJwtCacheConfiguration()).thenReturn(new KeycloakProperties.KeycloakJwtCacheProperties());
     when(properties.getJwksBaseUrl()).thenReturn("http://localhost:8080");
 
-    var result = configuration.openidJwtParserProvider();
+    var result = configuration.openidJwtParserProvider(securityMetricsProvider);
 
     assertThat(result).isNotNull().isInstanceOf(OpenidJwtParserProvider.class);
   }
 
+  @Test
+  void openidJwtParserProvider_positive_backgroundRefresh() {
+    var jwtCacheProperties = new KeycloakProperties.KeycloakJwtCacheProperties();
+    jwtCacheProperties.setBackgroundRefreshInterval(Duration.ofMinutes(1));
+    when(properties.getJwtCacheConfiguration()).thenReturn(jwtCacheProperties);
+
+    try (var result = configuration.openidJwtParserProvider(securityMetricsProvider)) {
+      assertThat(result).isNotNull();
+      assertThatThrownBy(() -> result.startBackgroundRefresh(Duration.ofMinutes(1)))
+        .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  void keycloakJwtParserPreloader_positive() {
+    var result = configuration.keycloakJwtParserPreloader(openidJwtParserProvider);
+    assertThat(result).isNotNull().isInstanceOf(KeycloakJwtParserPreloader.class);
+  }
+
   @Test
   void routingEntryMatcher_positive() {
-    var result = configuration.routingEntryMatcher(descriptorProvider);
+    var result = configuration.routingEntryMatcher(descriptorProvider, new RoutingCacheProperties());
 
     assertThat(result).isNotNull().isInstanceOf(RoutingEntryMatcher.class);
   }
@@ -7,11 +7,14 @@ import static org.folio.common.utils.OkapiHeaders.TENANT;
 import static org.folio.security.configuration.SecurityConfiguration.ROUTER_PREFIX_PROPERTY;
 import static org.folio.test.TestConstants.TENANT_ID;
 import static org.keycloak.OAuth2Constants.UMA_GRANT_TYPE;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.smallrye.jwt.auth.principal.ParseException;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +22,15 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.folio.common.domain.model.RoutingEntry;
 import org.folio.jwt.openid.JsonWebTokenParser;
 import org.folio.security.domain.model.AuthUserPrincipal;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
 import org.folio.security.exception.ForbiddenException;
 import org.folio.security.exception.NotAuthorizedException;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakClientProperties;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.folio.security.integration.keycloak.model.TokenResponse;
+import org.folio.security.service.RemoteCallGuard;
 import org.folio.security.service.RoutingEntryMatcher;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
@@ -41,6 +47,7 @@ import org.springframework.security.web.authentication.preauth.PreAuthenticatedA
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.util.UrlPathHelper;
 
 @UnitTest
@@ -62,6 +69,9 @@ class KeycloakAuthorizationServiceTest {
   @Mock private RoutingEntryMatcher routingEntryMatcher;
   @Mock private JsonWebTokenParser jsonWebTokenParser;
 
+  @Mock private KeycloakLocalPolicyEvaluator policyEvaluator;
+  @Mock private KeycloakRptPermissionProvider rptPermissionProvider;
+
   @Mock private JsonWebToken accessToken;
   @Mock private TokenResponse tokenResponse;
   @Mock private HttpServletRequest httpServletRequest;
@@ -75,7 +85,8 @@ class KeycloakAuthorizationServiceTest {
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(environment, urlPathHelper, properties, keycloakClient,
-      routingEntryMatcher, jsonWebTokenParser, accessToken);
+      routingEntryMatcher, jsonWebTokenParser, accessToken, policyEvaluator,
+      rptPermissionProvider);
   }
 
   @Test
@@ -191,11 +202,206 @@ class KeycloakAuthorizationServiceTest {
     when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN))
       .thenThrow(HttpClientErrorException.Forbidden.class);
 
+    assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+      .isInstanceOf(ForbiddenException.class)
+      .hasMessage("Access forbidden")
+      .satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
+  }
+
+  @Test
+  void authorize_positive_cachedGrantedDecision() throws ParseException {
+    var permissionCache = new KeycloakPermissionCache(authorizationCacheProperties());
+    keycloakAuthorizationService.setPermissionCache(permissionCache);
+
+    when(properties.getClient()).thenReturn(keycloakClientProperties());
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(accessToken.getSubject()).thenReturn(AUTH_USER_ID.toString());
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(accessToken.getClaim("user_id")).thenReturn(FOLIO_USER_ID.toString());
+    when(accessToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(300).getEpochSecond());
+    when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN)).thenReturn(tokenResponse);
+
+    var firstResult = keycloakAuthorizationService.authorize(httpServletRequest, TOKEN);
+    var secondResult = keycloakAuthorizationService.authorize(httpServletRequest, TOKEN);
+
+    assertThat(firstResult.getPrincipal()).isEqualTo(authUserPrincipal());
+    assertThat(secondResult.getPrincipal()).isEqualTo(authUserPrincipal());
+    assertThat(permissionCache.getStats().hitCount()).isEqualTo(1L);
+    verify(keycloakClient).evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void authorize_negative_cachedDeniedDecision() throws ParseException {
+    var permissionCache = new KeycloakPermissionCache(authorizationCacheProperties());
+    keycloakAuthorizationService.setPermissionCache(permissionCache);
+
+    when(properties.getClient()).thenReturn(keycloakClientProperties());
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(accessToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(300).getEpochSecond());
+    when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN))
+      .thenThrow(HttpClientErrorException.Forbidden.class);
+
+    for (var i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+        .isInstanceOf(ForbiddenException.class)
+        .hasMessage("Access forbidden");
+    }
+
+    verify(keycloakClient).evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void authorize_negative_notAuthorizedDecisionIsNotCached() throws ParseException {
+    keycloakAuthorizationService.setPermissionCache(new KeycloakPermissionCache(authorizationCacheProperties()));
+
+    when(properties.getClient()).thenReturn(keycloakClientProperties());
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN))
+      .thenThrow(HttpClientErrorException.Unauthorized.class);
+
+    for (var i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+        .isInstanceOf(NotAuthorizedException.class)
+        .hasMessage("Not authorized");
+    }
+
+    verify(keycloakClient, times(2)).evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void authorize_positive_grantedByLocalPolicy() throws ParseException {
+    keycloakAuthorizationService.setPolicyEvaluator(policyEvaluator);
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(policyEvaluator.isGranted(PATH + "#" + HTTP_METHOD, accessToken)).thenReturn(true);
+    when(accessToken.getSubject()).thenReturn(AUTH_USER_ID.toString());
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(accessToken.getClaim("user_id")).thenReturn(FOLIO_USER_ID.toString());
+
+    var result = keycloakAuthorizationService.authorize(httpServletRequest, TOKEN);
+
+    assertThat(result.getPrincipal()).isEqualTo(authUserPrincipal());
+  }
+
+  @Test
+  void authorize_positive_localPolicyFallbackToKeycloak() throws ParseException {
+    keycloakAuthorizationService.setPolicyEvaluator(policyEvaluator);
+
+    when(properties.getClient()).thenReturn(keycloakClientProperties());
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(policyEvaluator.isGranted(PATH + "#" + HTTP_METHOD, accessToken)).thenReturn(false);
+    when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN))
+      .thenThrow(HttpClientErrorException.Forbidden.class);
+
+    assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+      .isInstanceOf(ForbiddenException.class)
+      .hasMessage("Access forbidden");
+  }
+
+  @Test
+  void authorize_positive_grantedByRpt() throws ParseException {
+    keycloakAuthorizationService.setRptPermissionProvider(rptPermissionProvider);
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(rptPermissionProvider.isGranted(accessToken, TOKEN, PATH, HTTP_METHOD)).thenReturn(true);
+    when(accessToken.getSubject()).thenReturn(AUTH_USER_ID.toString());
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(accessToken.getClaim("user_id")).thenReturn(FOLIO_USER_ID.toString());
+
+    var result = keycloakAuthorizationService.authorize(httpServletRequest, TOKEN);
+
+    assertThat(result.getPrincipal()).isEqualTo(authUserPrincipal());
+  }
+
+  @Test
+  void authorize_negative_deniedByRpt() throws ParseException {
+    keycloakAuthorizationService.setRptPermissionProvider(rptPermissionProvider);
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(rptPermissionProvider.isGranted(accessToken, TOKEN, PATH, HTTP_METHOD)).thenReturn(false);
+
     assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
       .isInstanceOf(ForbiddenException.class)
       .hasMessage("Access forbidden");
   }
 
+  @Test
+  void authorize_negative_rptNotAuthorized() throws ParseException {
+    keycloakAuthorizationService.setRptPermissionProvider(rptPermissionProvider);
+
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(rptPermissionProvider.isGranted(accessToken, TOKEN, PATH, HTTP_METHOD))
+      .thenThrow(HttpClientErrorException.Unauthorized.class);
+
+    assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+      .isInstanceOf(NotAuthorizedException.class)
+      .hasMessage("Not authorized");
+  }
+
+  @Test
+  void authorize_negative_circuitOpenForTenant() throws ParseException {
+    var guardProperties = new RemoteCallGuardProperties();
+    guardProperties.setFailureThreshold(1);
+    keycloakAuthorizationService.setRemoteCallGuard(new RemoteCallGuard("keycloak", guardProperties));
+
+    when(properties.getClient()).thenReturn(keycloakClientProperties());
+    when(environment.getProperty(ROUTER_PREFIX_PROPERTY, "")).thenReturn("");
+    when(urlPathHelper.getPathWithinApplication(httpServletRequest)).thenReturn(PATH);
+    when(httpServletRequest.getMethod()).thenReturn(HTTP_METHOD);
+    when(routingEntryMatcher.lookup(HTTP_METHOD, PATH)).thenReturn(Optional.of(routingEntry()));
+    when(jsonWebTokenParser.parse(TOKEN)).thenReturn(accessToken);
+    when(accessToken.getIssuer()).thenReturn("https://keycloak/realms/" + TENANT_ID);
+    when(keycloakClient.evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN))
+      .thenThrow(HttpServerErrorException.ServiceUnavailable.class);
+
+    assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+      .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+    assertThatThrownBy(() -> keycloakAuthorizationService.authorize(httpServletRequest, TOKEN))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is unavailable for tenant: " + TENANT_ID);
+    verify(keycloakClient).evaluatePermissions(authRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  private static KeycloakProperties.KeycloakAuthorizationCacheProperties authorizationCacheProperties() {
+    var cacheProperties = new KeycloakProperties.KeycloakAuthorizationCacheProperties();
+    cacheProperties.setEnabled(true);
+    return cacheProperties;
+  }
+
   private static KeycloakClientProperties keycloakClientProperties() {
     var keycloakClientProperties = new KeycloakClientProperties();
     keycloakClientProperties.setClientId("be-test-admin-client");
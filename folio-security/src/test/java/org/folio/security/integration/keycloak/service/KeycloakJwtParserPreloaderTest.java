@@ -0,0 +1,53 @@
+package org.folio.security.integration.keycloak.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.jwt.openid.OpenidJwtParserProvider;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakJwtParserPreloaderTest {
+
+  @InjectMocks private KeycloakJwtParserPreloader preloader;
+  @Mock private KeycloakProperties properties;
+  @Mock private OpenidJwtParserProvider openidJwtParserProvider;
+
+  @AfterEach
+  void tearDown() {
+    Mockito.verifyNoMoreInteractions(openidJwtParserProvider);
+  }
+
+  @Test
+  void preloadParsers_positive() {
+    var jwtCacheProperties = new KeycloakProperties.KeycloakJwtCacheProperties();
+    jwtCacheProperties.setPreloadRealms(List.of("master", "test"));
+    when(properties.getJwtCacheConfiguration()).thenReturn(jwtCacheProperties);
+    when(properties.getUrl()).thenReturn("http://keycloak:8080/");
+
+    preloader.preloadParsers();
+
+    verify(openidJwtParserProvider).preload(
+      List.of("http://keycloak:8080/realms/master", "http://keycloak:8080/realms/test"));
+  }
+
+  @Test
+  void preloadParsers_positive_noRealms() {
+    when(properties.getJwtCacheConfiguration()).thenReturn(new KeycloakProperties.KeycloakJwtCacheProperties());
+
+    preloader.preloadParsers();
+
+    verifyNoInteractions(openidJwtParserProvider);
+  }
+}
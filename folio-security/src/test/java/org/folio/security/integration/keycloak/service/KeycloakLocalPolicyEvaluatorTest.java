@@ -0,0 +1,116 @@
+package org.folio.security.integration.keycloak.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.security.integration.keycloak.service.KeycloakLocalPolicyEvaluator.REALM_ACCESS_CLAIM;
+import static org.folio.test.TestUtils.parse;
+import static org.folio.test.TestUtils.readString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.json.Json;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.security.service.InternalModuleDescriptorProvider;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakLocalPolicyEvaluatorTest {
+
+  private static final ModuleDescriptor MD =
+    parse(readString("json/localPolicyDescriptor.json"), ModuleDescriptor.class);
+
+  private static final String VIEW_ROLE = "Foo - view items";
+  private static final String MANAGE_ROLE = "Foo - manage items";
+
+  @Mock private InternalModuleDescriptorProvider descriptorProvider;
+  @Mock private JsonWebToken accessToken;
+
+  private KeycloakModuleDescriptorMapper mapper;
+  private KeycloakLocalPolicyEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    mapper = spy(new KeycloakModuleDescriptorMapper());
+    evaluator = new KeycloakLocalPolicyEvaluator(descriptorProvider, mapper);
+  }
+
+  @Test
+  void compile_positive() {
+    var result = KeycloakLocalPolicyEvaluator.compile(mapper.map(MD, false));
+
+    assertThat(result).isEqualTo(Map.of(
+      "/foo#POST", Set.of(MANAGE_ROLE),
+      "/foo/{id}#GET", Set.of(VIEW_ROLE, MANAGE_ROLE)));
+  }
+
+  @Test
+  void isGranted_positive_jsonClaim() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+    when(accessToken.getClaim(REALM_ACCESS_CLAIM)).thenReturn(realmAccess("offline_access", VIEW_ROLE));
+
+    assertThat(evaluator.isGranted("/foo/{id}#GET", accessToken)).isTrue();
+  }
+
+  @Test
+  void isGranted_positive_mapClaim() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+    when(accessToken.getClaim(REALM_ACCESS_CLAIM)).thenReturn(Map.of("roles", List.of(MANAGE_ROLE)));
+
+    assertThat(evaluator.isGranted("/foo#POST", accessToken)).isTrue();
+  }
+
+  @Test
+  void isGranted_negative_roleNotAssigned() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+    when(accessToken.getClaim(REALM_ACCESS_CLAIM)).thenReturn(realmAccess(VIEW_ROLE));
+
+    assertThat(evaluator.isGranted("/foo#POST", accessToken)).isFalse();
+  }
+
+  @Test
+  void isGranted_negative_realmAccessClaimNotFound() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+
+    assertThat(evaluator.isGranted("/foo#POST", accessToken)).isFalse();
+  }
+
+  @Test
+  void isGranted_negative_permissionWithoutRolePolicies() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+
+    assertThat(evaluator.isGranted("/foo/{id}#DELETE", accessToken)).isFalse();
+  }
+
+  @Test
+  void isGranted_negative_descriptorNotLoaded() {
+    assertThat(evaluator.isGranted("/foo#POST", accessToken)).isFalse();
+  }
+
+  @Test
+  void getRequiredRoles_positive_compiledOncePerDescriptor() {
+    when(descriptorProvider.getModuleDescriptor()).thenReturn(MD);
+
+    evaluator.getRequiredRoles("/foo#POST");
+    var result = evaluator.getRequiredRoles("/foo/{id}#GET");
+
+    assertThat(result).containsExactlyInAnyOrder(VIEW_ROLE, MANAGE_ROLE);
+    verify(mapper, times(1)).map(MD, false);
+  }
+
+  private static Object realmAccess(String... roles) {
+    return Json.createObjectBuilder()
+      .add("roles", Json.createArrayBuilder(List.of(roles)))
+      .build();
+  }
+}
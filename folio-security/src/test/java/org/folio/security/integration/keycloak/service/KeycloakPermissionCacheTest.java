@@ -0,0 +1,125 @@
+package org.folio.security.integration.keycloak.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.integration.keycloak.service.KeycloakPermissionCache.Decision;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KeycloakPermissionCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String TOKEN = "token";
+  private static final String PERMISSION = "/foo/{id}#GET";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private KeycloakPermissionCache permissionCache;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new KeycloakProperties.KeycloakAuthorizationCacheProperties();
+    properties.setMaxTtl(Duration.ofSeconds(60));
+    properties.setDenialTtl(Duration.ofSeconds(5));
+    permissionCache = new KeycloakPermissionCache(properties, nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void createKey_positive_tokenIsNotStored() {
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+
+    assertThat(key.tokenDigest()).isNotBlank().doesNotContain(TOKEN);
+    assertThat(key).isEqualTo(permissionCache.createKey("test", TOKEN, PERMISSION));
+    assertThat(key).isNotEqualTo(permissionCache.createKey("test", "other", PERMISSION));
+  }
+
+  @Test
+  void putGranted_positive_expiresAfterMaxTtl() {
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+    permissionCache.putGranted(key, NOW.plusSeconds(300).getEpochSecond());
+
+    advance(Duration.ofSeconds(59));
+    assertThat(permissionCache.get(key)).isEqualTo(Decision.GRANTED);
+
+    advance(Duration.ofSeconds(1));
+    assertThat(permissionCache.get(key)).isNull();
+  }
+
+  @Test
+  void putGranted_positive_neverOutlivesToken() {
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+    permissionCache.putGranted(key, NOW.plusSeconds(10).getEpochSecond());
+
+    advance(Duration.ofSeconds(9));
+    assertThat(permissionCache.get(key)).isEqualTo(Decision.GRANTED);
+
+    advance(Duration.ofSeconds(1));
+    assertThat(permissionCache.get(key)).isNull();
+  }
+
+  @Test
+  void putGranted_negative_expiredToken() {
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+    permissionCache.putGranted(key, NOW.minusSeconds(1).getEpochSecond());
+
+    assertThat(permissionCache.get(key)).isNull();
+  }
+
+  @Test
+  void putDenied_positive_expiresAfterDenialTtl() {
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+    permissionCache.putDenied(key, NOW.plusSeconds(300).getEpochSecond());
+
+    advance(Duration.ofSeconds(4));
+    assertThat(permissionCache.get(key)).isEqualTo(Decision.DENIED);
+
+    advance(Duration.ofSeconds(1));
+    assertThat(permissionCache.get(key)).isNull();
+  }
+
+  @Test
+  void invalidate_positive_onlyMatchingTenants() {
+    var expiresAt = NOW.plusSeconds(300).getEpochSecond();
+    var tenantKey = permissionCache.createKey("test", TOKEN, PERMISSION);
+    var otherTenantKey = permissionCache.createKey("other", TOKEN, PERMISSION);
+    permissionCache.putGranted(tenantKey, expiresAt);
+    permissionCache.putDenied(otherTenantKey, expiresAt);
+
+    permissionCache.invalidate("test"::equals);
+
+    assertThat(permissionCache.get(tenantKey)).isNull();
+    assertThat(permissionCache.get(otherTenantKey)).isEqualTo(Decision.DENIED);
+
+    permissionCache.invalidateAll();
+    assertThat(permissionCache.get(otherTenantKey)).isNull();
+  }
+
+  @Test
+  void bindTo_positive_cacheMetrics() {
+    var registry = new SimpleMeterRegistry();
+    var key = permissionCache.createKey("test", TOKEN, PERMISSION);
+    permissionCache.bindTo(registry);
+
+    permissionCache.get(key);
+    permissionCache.putGranted(key, NOW.plusSeconds(300).getEpochSecond());
+    permissionCache.get(key);
+
+    assertThat(permissionCache.size()).isEqualTo(1L);
+    assertThat(permissionCache.getStats().hitRate()).isEqualTo(0.5);
+    assertThat(registry.get("cache.size").tag("cache", KeycloakPermissionCache.CACHE_NAME).gauge().value())
+      .isEqualTo(1.0);
+    assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
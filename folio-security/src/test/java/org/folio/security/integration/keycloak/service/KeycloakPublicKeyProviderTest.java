@@ -1,17 +1,28 @@
 package org.folio.security.integration.keycloak.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
 import org.assertj.core.api.Assertions;
 import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.keycloak.jose.jwk.JSONWebKeySet;
 import org.keycloak.jose.jwk.JWK;
 import org.keycloak.jose.jwk.JWKParser;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,10 +30,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class KeycloakPublicKeyProviderTest {
 
-  @InjectMocks private KeycloakPublicKeyProvider keycloakPublicKeyProvider;
+  private static final String TENANT = "diku";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private KeycloakPublicKeyProvider keycloakPublicKeyProvider;
 
   @Mock private KeycloakAuthClient keycloakAuthClient;
 
+  @BeforeEach
+  void setUp() {
+    var properties = new KeycloakProperties.KeycloakJwksCacheProperties();
+    properties.setTtl(Duration.ofMinutes(10));
+    properties.setMinRefreshInterval(Duration.ofSeconds(10));
+    keycloakPublicKeyProvider = new KeycloakPublicKeyProvider(keycloakAuthClient, properties, nanos::get);
+  }
+
   @Test
   void retrievePublicKey_negative_jwkNotFound() {
     var tenant = "diku";
@@ -60,4 +82,128 @@ class KeycloakPublicKeyProviderTest {
     var publicKey = keycloakPublicKeyProvider.retrievePublicKey(tenant, keyId);
     Assertions.assertThat(publicKey).isEqualTo(expectedPublicKey);
   }
+
+  @Test
+  void retrievePublicKey_positive_allKeysIndexedFromSingleFetch() throws Exception {
+    var key1 = rsaJwk("key1");
+    var key2 = rsaJwk("key2");
+    when(keycloakAuthClient.retrieveJwk(TENANT)).thenReturn(jwks(key1, key2));
+
+    var publicKey1 = keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+    var publicKey2 = keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key2");
+
+    assertThat(publicKey1).isEqualTo(JWKParser.create(key1).toPublicKey());
+    assertThat(publicKey2).isEqualTo(JWKParser.create(key2).toPublicKey());
+    verify(keycloakAuthClient).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void retrievePublicKey_negative_unknownKeyIdIsRateLimited() throws Exception {
+    when(keycloakAuthClient.retrieveJwk(TENANT)).thenReturn(jwks(rsaJwk("key1")));
+
+    for (var i = 0; i < 10; i++) {
+      assertThatThrownBy(() -> keycloakPublicKeyProvider.retrievePublicKey(TENANT, "forged"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Key not found");
+    }
+
+    verify(keycloakAuthClient).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void retrievePublicKey_positive_rotatedKeyAfterMinRefreshInterval() throws Exception {
+    var rotatedKey = rsaJwk("key2");
+    when(keycloakAuthClient.retrieveJwk(TENANT)).thenReturn(jwks(rsaJwk("key1")), jwks(rsaJwk("key1"), rotatedKey));
+
+    assertThatThrownBy(() -> keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key2"))
+      .isInstanceOf(IllegalArgumentException.class);
+
+    nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+    var publicKey = keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key2");
+
+    assertThat(publicKey).isEqualTo(JWKParser.create(rotatedKey).toPublicKey());
+    verify(keycloakAuthClient, times(2)).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void retrievePublicKey_positive_reloadedAfterTtl() throws Exception {
+    when(keycloakAuthClient.retrieveJwk(TENANT)).thenReturn(jwks(rsaJwk("key1")));
+
+    keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+    nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+    keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+
+    verify(keycloakAuthClient, times(2)).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void retrievePublicKey_negative_failedFetchIsRateLimited() throws Exception {
+    when(keycloakAuthClient.retrieveJwk(TENANT))
+      .thenThrow(new IllegalStateException("Keycloak is not available"))
+      .thenReturn(jwks(rsaJwk("key1")));
+
+    for (var i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to load JWKS for realm: " + TENANT);
+    }
+
+    nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+    assertThat(keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1")).isNotNull();
+    verify(keycloakAuthClient, times(2)).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void retrievePublicKey_positive_cachedKeysKeptWhenRefreshFails() throws Exception {
+    var key1 = rsaJwk("key1");
+    when(keycloakAuthClient.retrieveJwk(TENANT))
+      .thenReturn(jwks(key1))
+      .thenThrow(new IllegalStateException("Keycloak is not available"));
+
+    keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+    nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+    assertThatThrownBy(() -> keycloakPublicKeyProvider.retrievePublicKey(TENANT, "forged"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Key not found");
+
+    assertThat(keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1"))
+      .isEqualTo(JWKParser.create(key1).toPublicKey());
+    verify(keycloakAuthClient, times(2)).retrieveJwk(TENANT);
+  }
+
+  @Test
+  void invalidate_positive() throws Exception {
+    when(keycloakAuthClient.retrieveJwk(TENANT)).thenReturn(jwks(rsaJwk("key1")));
+
+    keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+    keycloakPublicKeyProvider.invalidate(TENANT);
+    keycloakPublicKeyProvider.retrievePublicKey(TENANT, "key1");
+
+    verify(keycloakAuthClient, times(2)).retrieveJwk(TENANT);
+  }
+
+  private static JSONWebKeySet jwks(JWK... keys) {
+    var jsonWebKeySet = new JSONWebKeySet();
+    jsonWebKeySet.setKeys(keys);
+    return jsonWebKeySet;
+  }
+
+  private static JWK rsaJwk(String keyId) throws Exception {
+    var generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    var publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+
+    var jwk = new JWK();
+    jwk.setKeyId(keyId);
+    jwk.setKeyType("RSA");
+    jwk.setAlgorithm("RS256");
+    jwk.setPublicKeyUse("sig");
+    jwk.setOtherClaims("n", encode(publicKey.getModulus()));
+    jwk.setOtherClaims("e", encode(publicKey.getPublicExponent()));
+    return jwk;
+  }
+
+  private static String encode(BigInteger value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+  }
 }
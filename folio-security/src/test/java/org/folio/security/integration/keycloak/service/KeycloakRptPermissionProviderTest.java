@@ -0,0 +1,201 @@
+package org.folio.security.integration.keycloak.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.security.integration.keycloak.service.KeycloakRptPermissionProvider.AUTHORIZATION_CLAIM;
+import static org.keycloak.OAuth2Constants.UMA_GRANT_TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.jwt.auth.principal.ParseException;
+import jakarta.json.Json;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.jwt.openid.JsonWebTokenParser;
+import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
+import org.folio.security.integration.keycloak.model.TokenResponse;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakRptPermissionProviderTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String TOKEN = "access-token";
+  private static final String RPT = "rpt";
+  private static final String CLIENT_ID = "mod-foo";
+  private static final String ISSUER = "https://keycloak/realms/test";
+
+  @Mock private KeycloakAuthClient keycloakClient;
+  @Mock private JsonWebTokenParser jsonWebTokenParser;
+  @Mock private JsonWebToken accessToken;
+  @Mock private JsonWebToken rpt;
+
+  private final AtomicLong nanos = new AtomicLong();
+  private KeycloakRptPermissionProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new KeycloakProperties.KeycloakRptProperties();
+    properties.setMaxTtl(Duration.ofSeconds(60));
+    properties.setDenialTtl(Duration.ofSeconds(5));
+    provider = new KeycloakRptPermissionProvider(keycloakClient, jsonWebTokenParser, CLIENT_ID, properties,
+      nanos::get, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void isGranted_positive_rptRequestedOnce() throws ParseException {
+    mockAccessToken(300);
+    mockRpt(300);
+
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET")).isTrue();
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo/{id}", "PUT")).isTrue();
+    assertThat(provider.isGranted(accessToken, TOKEN, "/bar", "DELETE")).isTrue();
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo", "POST")).isFalse();
+
+    verify(keycloakClient).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+    assertThat(provider.getStats().hitCount()).isEqualTo(3L);
+  }
+
+  @Test
+  void isGranted_positive_expiresWithRpt() throws ParseException {
+    mockAccessToken(300);
+    mockRpt(10);
+
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+    advance(Duration.ofSeconds(9));
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+    advance(Duration.ofSeconds(1));
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+
+    verify(keycloakClient, times(2)).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void isGranted_positive_expiresAfterMaxTtl() throws ParseException {
+    mockAccessToken(300);
+    mockRpt(300);
+
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+    advance(Duration.ofSeconds(60));
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+
+    verify(keycloakClient, times(2)).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void isGranted_negative_rptNotIssued() {
+    mockAccessToken(300);
+    when(keycloakClient.evaluatePermissions(any(), anyString())).thenThrow(HttpClientErrorException.Forbidden.class);
+
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET")).isFalse();
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET")).isFalse();
+    advance(Duration.ofSeconds(5));
+    assertThat(provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET")).isFalse();
+
+    verify(keycloakClient, times(2)).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void isGranted_negative_notAuthorized() {
+    when(accessToken.getIssuer()).thenReturn(ISSUER);
+    when(keycloakClient.evaluatePermissions(any(), anyString()))
+      .thenThrow(HttpClientErrorException.Unauthorized.class);
+
+    assertThatThrownBy(() -> provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET"))
+      .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+    assertThatThrownBy(() -> provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET"))
+      .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+
+    verify(keycloakClient, times(2)).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void isGranted_negative_invalidRpt() throws ParseException {
+    when(accessToken.getIssuer()).thenReturn(ISSUER);
+    when(keycloakClient.evaluatePermissions(any(), anyString())).thenReturn(tokenResponse());
+    when(jsonWebTokenParser.parse(RPT)).thenThrow(new ParseException("Invalid token"));
+
+    assertThatThrownBy(() -> provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET"))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to parse requesting party token");
+  }
+
+  @Test
+  void invalidate_positive_onlyMatchingTenants() throws ParseException {
+    mockAccessToken(300);
+    mockRpt(300);
+
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+    provider.invalidate("other"::equals);
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+    provider.invalidate("test"::equals);
+    provider.isGranted(accessToken, TOKEN, "/foo/{id}", "GET");
+
+    verify(keycloakClient, times(2)).evaluatePermissions(rptRequestParameters(), "Bearer " + TOKEN);
+  }
+
+  @Test
+  void bindTo_positive() {
+    var registry = new SimpleMeterRegistry();
+
+    provider.bindTo(registry);
+
+    assertThat(registry.find("cache.size").tag("cache", KeycloakRptPermissionProvider.CACHE_NAME).meter())
+      .isNotNull();
+  }
+
+  private void mockAccessToken(long expiresInSeconds) {
+    when(accessToken.getIssuer()).thenReturn(ISSUER);
+    when(accessToken.getExpirationTime()).thenReturn(NOW.plusSeconds(expiresInSeconds).getEpochSecond());
+  }
+
+  private void mockRpt(long expiresInSeconds) throws ParseException {
+    var permissions = Json.createArrayBuilder()
+      .add(Json.createObjectBuilder().add("rsname", "/foo/{id}").add("scopes", Json.createArrayBuilder(List.of(
+        "GET", "PUT"))))
+      .add(Json.createObjectBuilder().add("rsname", "/bar"))
+      .add(Json.createObjectBuilder().add("scopes", Json.createArrayBuilder(List.of("POST"))));
+    var authorization = Json.createObjectBuilder().add("permissions", permissions).build();
+
+    when(keycloakClient.evaluatePermissions(any(), anyString())).thenReturn(tokenResponse());
+    when(jsonWebTokenParser.parse(RPT)).thenReturn(rpt);
+    when(rpt.getClaim(AUTHORIZATION_CLAIM)).thenReturn(authorization);
+    when(rpt.getExpirationTime()).thenReturn(NOW.plusSeconds(expiresInSeconds).getEpochSecond());
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  private static TokenResponse tokenResponse() {
+    var tokenResponse = new TokenResponse();
+    tokenResponse.setAccessToken(RPT);
+    return tokenResponse;
+  }
+
+  private static MultiValueMap<String, String> rptRequestParameters() {
+    var requestData = new LinkedMultiValueMap<String, String>();
+    requestData.add("grant_type", UMA_GRANT_TYPE);
+    requestData.add("audience", CLIENT_ID);
+    return requestData;
+  }
+}
@@ -0,0 +1,238 @@
+package org.folio.security.it;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.common.utils.OkapiHeaders.TENANT;
+import static org.folio.common.utils.OkapiHeaders.TOKEN;
+import static org.folio.test.TestUtils.readString;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.ServletContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.folio.security.configuration.SecurityConfiguration;
+import org.folio.security.support.TestConfiguration;
+import org.folio.test.load.LoadHarness;
+import org.folio.test.load.LoadReport;
+import org.folio.test.load.LoadRequest;
+import org.folio.test.security.TestJwtGenerator;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Drives the {@link SecurityConfiguration} filter chain with a request mix against an in-process Keycloak stub, which
+ * answers permission evaluation requests with a fixed delay.
+ *
+ * <p>In blocking mode every container thread waits for Keycloak, so throughput cannot exceed
+ * {@code containerThreads / keycloakDelay}. Asynchronous mode releases container threads while authorization is in
+ * progress, so it exceeds this ceiling with the same number of container threads.</p>
+ */
+@IntegrationTest
+@SpringBootTest(classes = {
+  SecurityConfiguration.class,
+  TestConfiguration.class,
+  SecurityFilterChainLoadIT.LoadTestConfiguration.class
+})
+@TestPropertySource(properties = {
+  "application.security.enabled=true",
+  "application.keycloak.enabled=true",
+  "application.keycloak.tls.enabled=false",
+  "application.okapi.enabled=false",
+})
+class SecurityFilterChainLoadIT {
+
+  private static final String TENANT_NAME = "test";
+  private static final int TOKENS = 256;
+  private static final int CONCURRENCY = 64;
+  private static final int CONTAINER_THREADS = 8;
+  private static final Duration KEYCLOAK_DELAY = Duration.ofMillis(50);
+
+  private static final int GRANTED_WEIGHT = 8;
+  private static final int FORBIDDEN_WEIGHT = 1;
+  private static final int UNAUTHORIZED_WEIGHT = 1;
+
+  private static final KeycloakServer KEYCLOAK = new KeycloakServer();
+
+  @DynamicPropertySource
+  static void keycloakProperties(DynamicPropertyRegistry registry) {
+    registry.add("application.keycloak.url", KEYCLOAK::getUrl);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    KEYCLOAK.close();
+  }
+
+  @Nested
+  class BlockingMode {
+
+    @Autowired private FilterChainProxy filterChainProxy;
+    @Autowired private ServletContext servletContext;
+
+    @Test
+    void run_positive_limitedByContainerThreads() throws Exception {
+      var report = runLoad(filterChainProxy, servletContext);
+
+      assertResponses(report);
+      assertThat(report.throughput()).isLessThan(getBlockingThroughputCeiling());
+    }
+  }
+
+  @Nested
+  @TestPropertySource(properties = "application.security.authorization-filter.async-enabled=true")
+  class AsyncMode {
+
+    @Autowired private FilterChainProxy filterChainProxy;
+    @Autowired private ServletContext servletContext;
+
+    @Test
+    void run_positive_containerThreadsReleased() throws Exception {
+      var report = runLoad(filterChainProxy, servletContext);
+
+      assertResponses(report);
+      assertThat(report.throughput()).isGreaterThan(getBlockingThroughputCeiling() * 1.5);
+    }
+  }
+
+  private static LoadReport runLoad(FilterChainProxy filterChainProxy, ServletContext servletContext)
+    throws InterruptedException {
+    var tokens = generateTokens();
+    var counter = new AtomicInteger();
+
+    return LoadHarness.builder()
+      .filter(filterChainProxy)
+      .concurrency(CONCURRENCY)
+      .containerThreads(CONTAINER_THREADS)
+      .warmupRequests(200)
+      .requests(2000)
+      .request(LoadRequest.of("granted", GRANTED_WEIGHT, () ->
+        request(servletContext, "POST", "/foo", tokens.get(counter.getAndIncrement() % TOKENS))))
+      .request(LoadRequest.of("forbidden", FORBIDDEN_WEIGHT, () ->
+        request(servletContext, "DELETE", "/foo/1", tokens.get(counter.getAndIncrement() % TOKENS))))
+      .request(LoadRequest.of("unauthorized", UNAUTHORIZED_WEIGHT, () ->
+        request(servletContext, "POST", "/foo", null)))
+      .build()
+      .run();
+  }
+
+  private static void assertResponses(LoadReport report) {
+    var stats = report.requestStats();
+    assertThat(stats.get("granted").statuses()).isEqualTo(Map.of(200, stats.get("granted").count()));
+    assertThat(stats.get("forbidden").statuses()).isEqualTo(Map.of(403, stats.get("forbidden").count()));
+    assertThat(stats.get("unauthorized").statuses()).isEqualTo(Map.of(401, stats.get("unauthorized").count()));
+    assertThat(report.latency().p50()).isGreaterThanOrEqualTo(KEYCLOAK_DELAY);
+  }
+
+  /**
+   * Provides maximum requests per second of blocking mode: only requests that are evaluated by Keycloak hold a
+   * container thread for the stub delay.
+   */
+  private static double getBlockingThroughputCeiling() {
+    var keycloakShare = (double) (GRANTED_WEIGHT + FORBIDDEN_WEIGHT)
+      / (GRANTED_WEIGHT + FORBIDDEN_WEIGHT + UNAUTHORIZED_WEIGHT);
+    return CONTAINER_THREADS / (KEYCLOAK_DELAY.toNanos() / 1_000_000_000d) / keycloakShare;
+  }
+
+  /**
+   * Generates distinct tokens, so concurrent permission evaluations are not shared by identical requests.
+   */
+  private static List<String> generateTokens() {
+    return IntStream.range(0, TOKENS)
+      .mapToObj(i -> TestJwtGenerator.generateJwtToken(KEYCLOAK.getUrl(), TENANT_NAME))
+      .toList();
+  }
+
+  private static MockHttpServletRequest request(ServletContext context, String method, String path, String token) {
+    var request = new MockHttpServletRequest(context, method, path);
+    request.addHeader(TENANT, TENANT_NAME);
+    if (token != null) {
+      request.addHeader(TOKEN, token);
+    }
+    return request;
+  }
+
+  static class LoadTestConfiguration {
+
+    @Bean
+    UrlPathHelper urlPathHelper() {
+      return new UrlPathHelper();
+    }
+  }
+
+  /**
+   * Keycloak stub serving realm JWKS and permission evaluation, which grants {@code POST /foo} and denies other
+   * permissions after {@link #KEYCLOAK_DELAY}. Requests are handled on a platform thread per request, so the stub
+   * does not limit concurrency and, like a remote Keycloak, does not share the virtual thread scheduler with the
+   * authorization tasks.
+   */
+  private static final class KeycloakServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    KeycloakServer() {
+      try {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      var jwks = readString("json/keycloak/jwks.json").getBytes(UTF_8);
+      server.createContext("/realms/" + TENANT_NAME + "/protocol/openid-connect/certs",
+        exchange -> respond(exchange, 200, jwks));
+      server.createContext("/realms/master/protocol/openid-connect/token", KeycloakServer::evaluatePermission);
+      server.setExecutor(Executors.newCachedThreadPool());
+      server.start();
+    }
+
+    String getUrl() {
+      return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+      server.stop(0);
+    }
+
+    private static void evaluatePermission(HttpExchange exchange) throws IOException {
+      var body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+      try {
+        Thread.sleep(KEYCLOAK_DELAY);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (body.contains("permission=%2Ffoo%23POST")) {
+        respond(exchange, 200, "{\"access_token\":\"rpt\",\"token_type\":\"Bearer\"}".getBytes(UTF_8));
+      } else {
+        respond(exchange, 403, "{\"error\":\"access_denied\"}".getBytes(UTF_8));
+      }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package org.folio.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.folio.test.TestUtils.parse;
+import static org.folio.test.TestUtils.readString;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@UnitTest
+class PathPatternTest {
+
+  private static final List<String> DESCRIPTORS = List.of(
+    "json/fooDescriptor.json", "json/mappingDescriptor.json", "descriptors/ModuleDescriptor.json");
+
+  private static final List<String> ADDITIONAL_PATTERNS = List.of(
+    "", "*", "**", "/*", "*/", "/a*b*c", "*{id}", "{id}*", "{a}{b}", "/foo/{id}x", "/foo/x{id}", "/**/x",
+    "*/*/*", "/foo/{id}*/bar", "/foo/*{id}/bar", "/a/*/b/*/c", "/{id}/{id}/{id}/*",
+    "/" + "segment/".repeat(10) + "{id}", "/" + "s/{id}/".repeat(12) + "*");
+
+  private static final List<String> SEGMENT_VALUES = List.of(
+    "", "a", "x", "00000000-0000-0000-0000-000000000000", "a/b", "/", "x/y/z");
+
+  @ParameterizedTest(name = "[{index}] pattern = ''{0}'', path = ''{1}''")
+  @MethodSource("conformanceDataProvider")
+  void matches_parameterized_conformsToLegacyMatcher(String pattern, String path) {
+    var expected = LegacyPathMatcher.fastMatch(pattern, path);
+
+    var actual = PathPattern.compile(pattern).matches(path);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void matches_positive_randomPatternsConformToLegacyMatcher() {
+    var random = new Random(42);
+    var alphabet = new String[] {"a", "b", "/", "*", "{x}"};
+    for (var i = 0; i < 20_000; i++) {
+      var pattern = randomString(random, alphabet, random.nextInt(8));
+      var path = randomString(random, new String[] {"a", "b", "/"}, random.nextInt(10));
+
+      assertThat(PathPattern.compile(pattern).matches(path))
+        .as("pattern = '%s', path = '%s'", pattern, path)
+        .isEqualTo(LegacyPathMatcher.fastMatch(pattern, path));
+    }
+  }
+
+  @Test
+  void matches_positive_longPatternConformsToLegacyMatcher() {
+    var pattern = "/" + "abc/{id}/*/".repeat(10) + "{id}";
+    var path = "/" + "abc/1/x/y/".repeat(10) + "2";
+    var compiled = PathPattern.compile(pattern);
+
+    assertThat(compiled.matches(path)).isTrue().isEqualTo(LegacyPathMatcher.fastMatch(pattern, path));
+    assertThat(compiled.matches(path + "/")).isFalse().isEqualTo(LegacyPathMatcher.fastMatch(pattern, path + "/"));
+  }
+
+  @Test
+  void matches_negative_noBacktrackingForManyWildcards() {
+    var pattern = "/" + "*a".repeat(20) + "b";
+    var path = "/" + "a".repeat(10_000);
+    var compiled = PathPattern.compile(pattern);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertThat(compiled.matches(path)).isFalse());
+  }
+
+  @Test
+  void compile_positive_unterminatedVariable() {
+    assertThatCode(() -> PathPattern.compile("/foo/{id")).doesNotThrowAnyException();
+    assertThat(PathPattern.compile("/foo/{id").matches("/foo/1")).isTrue();
+  }
+
+  private static Stream<Arguments> conformanceDataProvider() {
+    var patterns = new LinkedHashSet<String>();
+    for (var descriptor : DESCRIPTORS) {
+      collectPatterns(parse(readString(descriptor), ModuleDescriptor.class), patterns);
+    }
+    patterns.addAll(ADDITIONAL_PATTERNS);
+
+    return patterns.stream()
+      .filter(PathPatternTest::isSupportedByLegacyMatcher)
+      .flatMap(pattern -> samplePaths(pattern).stream().map(path -> arguments(pattern, path)));
+  }
+
+  private static void collectPatterns(ModuleDescriptor descriptor, Set<String> patterns) {
+    descriptor.getProvides().stream()
+      .flatMap(interfaceDescriptor -> interfaceDescriptor.getHandlers().stream())
+      .map(RoutingEntry::getPathPattern)
+      .filter(Objects::nonNull)
+      .forEach(patterns::add);
+  }
+
+  /**
+   * Legacy matcher fails with exception on unterminated variables, these patterns are excluded from conformance check.
+   */
+  private static boolean isSupportedByLegacyMatcher(String pattern) {
+    return pattern.lastIndexOf('{') <= pattern.lastIndexOf('}');
+  }
+
+  private static List<String> samplePaths(String pattern) {
+    var paths = new LinkedHashSet<String>();
+    for (var value : SEGMENT_VALUES) {
+      var path = pattern.replaceAll("\\{[^}]*}", value).replace("*", value);
+      paths.add(path);
+      paths.add(path + "/");
+      paths.add(path + "/extra");
+      paths.add("/prefix" + path);
+      paths.add(path.isEmpty() ? path : path.substring(0, path.length() - 1));
+      paths.add(path.replace("/", "//"));
+    }
+    return new ArrayList<>(paths);
+  }
+
+  private static String randomString(Random random, String[] alphabet, int length) {
+    var result = new StringBuilder();
+    for (var i = 0; i < length; i++) {
+      result.append(alphabet[random.nextInt(alphabet.length)]);
+    }
+    return result.toString();
+  }
+
+  /**
+   * Reference implementation: recursive matcher, copied from Okapi, that was used before {@link PathPattern}.
+   */
+  private static final class LegacyPathMatcher {
+
+    static boolean fastMatch(String pathPattern, String path) {
+      return fastMatch(pathPattern, 0, path, 0, path.length());
+    }
+
+    @SuppressWarnings("checkstyle:MethodLength")
+    private static boolean fastMatch(String pathPattern, int patternIndex, String path, int uriIndex, int pathLength) {
+      while (patternIndex < pathPattern.length()) {
+        var patternChar = pathPattern.charAt(patternIndex);
+        patternIndex++;
+        if (patternChar == '{') {
+          while (true) {
+            if (pathPattern.charAt(patternIndex) == '}') {
+              patternIndex++;
+              break;
+            }
+            patternIndex++;
+          }
+          var empty = true;
+          while (uriIndex < pathLength && path.charAt(uriIndex) != '/') {
+            uriIndex++;
+            empty = false;
+          }
+          if (empty) {
+            return false;
+          }
+        } else if (patternChar != '*') {
+          if (uriIndex == pathLength || patternChar != path.charAt(uriIndex)) {
+            return false;
+          }
+          uriIndex++;
+        } else {
+          do {
+            if (fastMatch(pathPattern, patternIndex, path, uriIndex, pathLength)) {
+              return true;
+            }
+            uriIndex++;
+          } while (uriIndex <= pathLength);
+          return false;
+        }
+      }
+      return uriIndex == pathLength;
+    }
+  }
+}
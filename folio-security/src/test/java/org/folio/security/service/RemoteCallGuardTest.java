@@ -0,0 +1,239 @@
+package org.folio.security.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.security.configuration.properties.RemoteCallGuardProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@UnitTest
+class RemoteCallGuardTest {
+
+  private static final String TENANT = "test";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final CountDownLatch callStarted = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private RemoteCallGuardProperties properties;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    properties = new RemoteCallGuardProperties();
+    properties.setMaxConcurrentCalls(1);
+    properties.setMaxQueueDepth(0);
+    properties.setMaxWait(Duration.ofMillis(50));
+    properties.setFailureThreshold(2);
+    properties.setOpenDuration(Duration.ofSeconds(30));
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void execute_positive() {
+    var guard = guard();
+
+    assertThat(guard.execute(TENANT, () -> "result")).isEqualTo("result");
+  }
+
+  @Test
+  void execute_negative_queueFull() throws Exception {
+    var guard = guard();
+    var blockedCall = startBlockedCall(guard, TENANT);
+
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is overloaded for tenant: test");
+
+    release.countDown();
+    assertThat(blockedCall.get(5, SECONDS)).isEqualTo("blocked");
+  }
+
+  @Test
+  void execute_negative_bulkheadFull() throws Exception {
+    properties.setMaxQueueDepth(1);
+    var guard = guard();
+    var blockedCall = startBlockedCall(guard, TENANT);
+
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is busy for tenant: test");
+
+    release.countDown();
+    assertThat(blockedCall.get(5, SECONDS)).isEqualTo("blocked");
+    assertThat(guard.execute(TENANT, () -> "result")).isEqualTo("result");
+  }
+
+  @Test
+  void execute_positive_tenantsAreIsolated() throws Exception {
+    var guard = guard();
+    startBlockedCall(guard, TENANT);
+
+    assertThat(guard.execute("other", () -> "result")).isEqualTo("result");
+  }
+
+  @Test
+  void execute_negative_circuitOpen() {
+    var guard = guard();
+
+    failCall(guard);
+    failCall(guard);
+
+    assertThat(guard.isCircuitOpen(TENANT)).isTrue();
+    assertThat(guard.isCircuitOpen("other")).isFalse();
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is unavailable for tenant: test");
+  }
+
+  @Test
+  void execute_positive_circuitClosedAfterSuccessfulTrialCall() {
+    var guard = guard();
+    failCall(guard);
+    failCall(guard);
+
+    advance(Duration.ofSeconds(30));
+
+    assertThat(guard.execute(TENANT, () -> "result")).isEqualTo("result");
+    assertThat(guard.isCircuitOpen(TENANT)).isFalse();
+  }
+
+  @Test
+  void execute_negative_circuitReopenedAfterFailedTrialCall() {
+    var guard = guard();
+    failCall(guard);
+    failCall(guard);
+
+    advance(Duration.ofSeconds(30));
+    failCall(guard);
+
+    assertThat(guard.isCircuitOpen(TENANT)).isTrue();
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class);
+  }
+
+  @Test
+  void execute_positive_clientErrorsAreNotFailures() {
+    var guard = guard();
+
+    for (var i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> guard.execute(TENANT, () -> {
+        throw HttpClientErrorException.create(HttpStatus.FORBIDDEN, "Forbidden", null, null, null);
+      })).isInstanceOf(HttpClientErrorException.Forbidden.class);
+    }
+
+    assertThat(guard.isCircuitOpen(TENANT)).isFalse();
+  }
+
+  @Test
+  void execute_positive_idleTenantRemovedForNewTenant() {
+    properties.setMaxTenants(1);
+    var guard = guard();
+
+    assertThat(guard.execute(TENANT, () -> "result")).isEqualTo("result");
+    assertThat(guard.execute("other", () -> "result")).isEqualTo("result");
+  }
+
+  @Test
+  void execute_negative_busyTenantIsNotRemoved() throws Exception {
+    properties.setMaxTenants(1);
+    var guard = guard();
+    var blockedCall = startBlockedCall(guard, TENANT);
+
+    assertThatThrownBy(() -> guard.execute("other", () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is overloaded for tenant: other");
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is overloaded for tenant: test");
+
+    release.countDown();
+    assertThat(blockedCall.get(5, SECONDS)).isEqualTo("blocked");
+    assertThat(guard.execute("other", () -> "result")).isEqualTo("result");
+  }
+
+  @Test
+  void execute_negative_openCircuitIsNotRemoved() {
+    properties.setMaxTenants(1);
+    var guard = guard();
+    failCall(guard);
+    failCall(guard);
+
+    assertThatThrownBy(() -> guard.execute("other", () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Authorization backend is overloaded for tenant: other");
+    assertThat(guard.isCircuitOpen(TENANT)).isTrue();
+  }
+
+  @Test
+  void bindTo_positive() {
+    var guard = guard();
+    var registry = new SimpleMeterRegistry();
+    guard.bindTo(registry);
+
+    failCall(guard);
+    failCall(guard);
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> "result"))
+      .isInstanceOf(AuthorizationUnavailableException.class);
+
+    assertThat(registry.get("folio.security.remote.calls.failures").tag("backend", "keycloak")
+      .functionCounter().count()).isEqualTo(2d);
+    assertThat(registry.get("folio.security.remote.calls.rejected").tag("reason", "circuit_open")
+      .functionCounter().count()).isEqualTo(1d);
+    assertThat(registry.get("folio.security.remote.calls.circuits.open").gauge().value()).isEqualTo(1d);
+    assertThat(registry.get("folio.security.remote.calls.active").gauge().value()).isZero();
+  }
+
+  private RemoteCallGuard guard() {
+    return new RemoteCallGuard("keycloak", properties, nanos::get);
+  }
+
+  private Future<String> startBlockedCall(RemoteCallGuard guard, String tenant) throws InterruptedException {
+    var future = executor.submit(() -> guard.execute(tenant, () -> {
+      callStarted.countDown();
+      awaitRelease();
+      return "blocked";
+    }));
+
+    assertThat(callStarted.await(5, SECONDS)).isTrue();
+    return future;
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void failCall(RemoteCallGuard guard) {
+    assertThatThrownBy(() -> guard.execute(TENANT, () -> {
+      throw new ResourceAccessException("Connection refused");
+    })).isInstanceOf(ResourceAccessException.class);
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
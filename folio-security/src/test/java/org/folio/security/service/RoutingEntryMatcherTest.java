@@ -14,14 +14,18 @@ import static org.springframework.http.HttpMethod.PATCH;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
+import org.folio.security.configuration.properties.RoutingCacheProperties;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -37,6 +41,7 @@ class RoutingEntryMatcherTest {
 
   private static final ModuleDescriptor DESCRIPTOR =
     parse(readString("json/fooDescriptor.json"), ModuleDescriptor.class);
+  private static final RoutingIndex ROUTING_INDEX = RoutingIndex.of(DESCRIPTOR);
 
   @Mock private InternalModuleDescriptorProvider descriptorProvider;
 
@@ -46,7 +51,7 @@ class RoutingEntryMatcherTest {
   @MethodSource("requestDataProvider")
   @DisplayName("lookupForRequest_parameterized")
   void lookupForIngressRequest_parameterized(HttpMethod method, String path, RoutingEntry expected) {
-    when(descriptorProvider.getModuleDescriptor()).thenReturn(DESCRIPTOR);
+    when(descriptorProvider.getRoutingIndex()).thenReturn(ROUTING_INDEX);
 
     var methodName = ofNullable(method).map(HttpMethod::name).orElse(null);
 
@@ -55,6 +60,53 @@ class RoutingEntryMatcherTest {
     assertThat(actual).isEqualTo(ofNullable(expected));
   }
 
+  @Test
+  void lookup_positive_cachedByNormalizedPath() {
+    var matcher = new RoutingEntryMatcher(descriptorProvider, cacheProperties());
+    when(descriptorProvider.getRoutingIndex()).thenReturn(ROUTING_INDEX);
+
+    var first = matcher.lookup("GET", "/foo/entities/00000000-0000-0000-0000-000000000000");
+    var second = matcher.lookup("GET", "/foo/entities/ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    assertThat(first).isEqualTo(Optional.of(routingEntry("/foo/entities/{id}", GET)));
+    assertThat(second).isSameAs(first);
+    assertThat(matcher.getCacheStats().hitCount()).isEqualTo(1L);
+    assertThat(matcher.getCacheStats().missCount()).isEqualTo(1L);
+  }
+
+  @Test
+  void lookup_positive_negativeResultCached() {
+    var matcher = new RoutingEntryMatcher(descriptorProvider, cacheProperties());
+    when(descriptorProvider.getRoutingIndex()).thenReturn(ROUTING_INDEX);
+
+    assertThat(matcher.lookup("GET", "/unknown/entities")).isEmpty();
+    assertThat(matcher.lookup("GET", "/unknown/entities")).isEmpty();
+
+    assertThat(matcher.getCacheStats().hitCount()).isEqualTo(1L);
+    assertThat(matcher.getCacheStats().missCount()).isEqualTo(1L);
+  }
+
+  @Test
+  void lookup_positive_cacheResetOnRoutingIndexChange() {
+    var matcher = new RoutingEntryMatcher(descriptorProvider, cacheProperties());
+    when(descriptorProvider.getRoutingIndex()).thenReturn(ROUTING_INDEX, RoutingIndex.of(DESCRIPTOR));
+
+    matcher.lookup("GET", "/foo/entities");
+    matcher.lookup("GET", "/foo/entities");
+
+    assertThat(matcher.getCacheStats().hitCount()).isZero();
+    assertThat(matcher.getCacheStats().missCount()).isEqualTo(1L);
+  }
+
+  @Test
+  void getCacheStats_positive_cacheDisabled() {
+    when(descriptorProvider.getRoutingIndex()).thenReturn(ROUTING_INDEX);
+
+    routingEntryMatcher.lookup("GET", "/foo/entities");
+
+    assertThat(routingEntryMatcher.getCacheStats()).isEqualTo(CacheStats.empty());
+  }
+
   private static Stream<Arguments> requestDataProvider() {
     var id1 = "00000000-0000-0000-0000-000000000000";
     var id2 = "ffffffff-ffff-ffff-ffff-ffffffffffff";
@@ -111,6 +163,12 @@ class RoutingEntryMatcherTest {
     );
   }
 
+  private static RoutingCacheProperties cacheProperties() {
+    var cacheProperties = new RoutingCacheProperties();
+    cacheProperties.setEnabled(true);
+    return cacheProperties;
+  }
+
   private static RoutingEntry routingEntry(String pathPattern, HttpMethod... httpMethods) {
     var methods = Arrays.stream(httpMethods).map(HttpMethod::name).collect(Collectors.toList());
     return routingEntry(pathPattern, methods);
@@ -0,0 +1,117 @@
+package org.folio.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class RoutingIndexTest {
+
+  @Test
+  void of_nullDescriptor() {
+    var routingIndex = RoutingIndex.of(null);
+
+    assertThat(routingIndex.isEmpty()).isTrue();
+    assertThat(routingIndex.lookup("GET", "/foo")).isNull();
+  }
+
+  @Test
+  void of_descriptorWithoutHandlers() {
+    var routingIndex = RoutingIndex.of(new ModuleDescriptor().id("mod-foo-1.0.0"));
+
+    assertThat(routingIndex.isEmpty()).isTrue();
+    assertThat(routingIndex.lookup("GET", "/foo")).isNull();
+  }
+
+  @Test
+  void lookup_positive_firstMatchInDescriptorOrder() {
+    var first = routingEntry("/foo/{id}", "GET");
+    var second = routingEntry("/foo/{fooId}", "GET", "PUT");
+    var routingIndex = RoutingIndex.of(descriptor(first, second));
+
+    assertThat(routingIndex.lookup("GET", "/foo/1")).isSameAs(first);
+    assertThat(routingIndex.lookup("PUT", "/foo/1")).isSameAs(second);
+    assertThat(routingIndex.lookup(null, "/foo/1")).isSameAs(first);
+  }
+
+  @Test
+  void lookup_positive_longestPrefixFirst() {
+    var wildcard = routingEntry("/foo*", "*");
+    var nested = routingEntry("/foo/bar/{id}", "GET");
+    var routingIndex = RoutingIndex.of(descriptor(wildcard, nested));
+
+    assertThat(routingIndex.lookup("GET", "/foo/bar/1")).isSameAs(nested);
+    assertThat(routingIndex.lookup("POST", "/foo/bar/1")).isSameAs(wildcard);
+    assertThat(routingIndex.lookup("GET", "/foo/baz/1")).isSameAs(wildcard);
+  }
+
+  @Test
+  void lookup_positive_nonStandardMethod() {
+    var entry = routingEntry("/foo/{id}", "PROPFIND");
+    var routingIndex = RoutingIndex.of(descriptor(entry));
+
+    assertThat(routingIndex.lookup("PROPFIND", "/foo/1")).isSameAs(entry);
+    assertThat(routingIndex.lookup("MKCOL", "/foo/1")).isNull();
+    assertThat(routingIndex.lookup("GET", "/foo/1")).isNull();
+  }
+
+  @Test
+  void lookup_negative_entryWithoutMethods() {
+    var routingIndex = RoutingIndex.of(descriptor(new RoutingEntry().pathPattern("/foo").methods(null)));
+
+    assertThat(routingIndex.lookup(null, "/foo")).isNull();
+    assertThat(routingIndex.lookup("GET", "/foo")).isNull();
+  }
+
+  @Test
+  void normalizePath_positive_identifiersCollapsed() {
+    var routingIndex = RoutingIndex.of(descriptor(routingEntry("/foo/{id}/bar/{barId}", "GET")));
+
+    var uuidPath = routingIndex.normalizePath("/foo/00000000-0000-0000-0000-000000000000/bar/123");
+    var otherUuidPath = routingIndex.normalizePath("/foo/ffffffff-ffff-ffff-ffff-ffffffffffff/bar/456");
+
+    assertThat(uuidPath).isEqualTo(otherUuidPath).doesNotContain("123");
+    assertThat(routingIndex.normalizePath("/foo/bar/baz")).isEqualTo("/foo/bar/baz");
+    assertThat(routingIndex.normalizePath("/foo/1")).isNotEqualTo(routingIndex.normalizePath("/foo/a"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/foo/123", "/foo/*12", "/foo/12{id}", "/foo/{id}-*", "/00000000-0000-0000-0000-000000000000"})
+  void normalizePath_positive_identifierSensitivePattern(String pathPattern) {
+    var routingIndex = RoutingIndex.of(descriptor(routingEntry(pathPattern, "GET")));
+
+    var path = "/foo/00000000-0000-0000-0000-000000000000";
+    assertThat(routingIndex.normalizePath(path)).isEqualTo(path);
+  }
+
+  @Test
+  void normalizePath_positive_identifierSensitiveStaticPath() {
+    var routingIndex = RoutingIndex.of(descriptor(new RoutingEntry().path("/foo/1").methods(List.of("GET"))));
+
+    assertThat(routingIndex.normalizePath("/foo/123")).isEqualTo("/foo/123");
+  }
+
+  @Test
+  void normalizePath_negative_pathWithPlaceholderMarker() {
+    var routingIndex = RoutingIndex.of(descriptor(routingEntry("/foo/{id}", "GET")));
+
+    assertThat(routingIndex.normalizePath("/foo/\0uuid")).isNull();
+  }
+
+  private static ModuleDescriptor descriptor(RoutingEntry... routingEntries) {
+    var interfaceDescriptor = new InterfaceDescriptor("foo", "1.0").handlers(List.of(routingEntries));
+    return new ModuleDescriptor().id("mod-foo-1.0.0").provides(List.of(interfaceDescriptor));
+  }
+
+  private static RoutingEntry routingEntry(String pathPattern, String... methods) {
+    return new RoutingEntry().pathPattern(pathPattern).methods(List.of(methods));
+  }
+}
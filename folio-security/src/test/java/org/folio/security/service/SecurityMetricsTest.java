@@ -0,0 +1,151 @@
+package org.folio.security.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.security.service.SecurityMetrics.ERRORS;
+import static org.folio.security.service.SecurityMetrics.JWKS_FETCH;
+import static org.folio.security.service.SecurityMetrics.REMOTE_AUTHORIZATION;
+import static org.folio.security.service.SecurityMetrics.ROUTING_LOOKUP;
+import static org.folio.security.service.SecurityMetrics.TOKEN_PARSE;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.folio.security.configuration.properties.SecurityMetricsProperties;
+import org.folio.security.exception.AuthorizationUnavailableException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@UnitTest
+class SecurityMetricsTest {
+
+  private final MockClock clock = new MockClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+  private SecurityMetricsProperties properties;
+  private SecurityMetrics securityMetrics;
+
+  @BeforeEach
+  void setUp() {
+    properties = new SecurityMetricsProperties();
+    securityMetrics = new SecurityMetrics(registry, properties);
+  }
+
+  @Test
+  void recordRoutingLookup_positive() {
+    securityMetrics.recordTokenParse(securityMetrics.startTimer(), "test", true);
+    var startedAt = securityMetrics.startTimer();
+    clock.add(Duration.ofMillis(5));
+    securityMetrics.recordRoutingLookup(startedAt, "test", true);
+    securityMetrics.recordRoutingLookup(securityMetrics.startTimer(), "test", false);
+
+    var found = registry.get(ROUTING_LOOKUP).tags("tenant", "test", "outcome", "found").timer();
+    assertThat(found.count()).isEqualTo(1);
+    assertThat(found.totalTime(MILLISECONDS)).isEqualTo(5);
+    assertThat(registry.get(ROUTING_LOOKUP).tags("outcome", "not_found").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void recordTokenParse_positive() {
+    securityMetrics.recordTokenParse(securityMetrics.startTimer(), "test", true);
+    securityMetrics.recordTokenParse(securityMetrics.startTimer(), null, false);
+
+    assertThat(registry.get(TOKEN_PARSE).tags("tenant", "test", "outcome", "valid").timer().count()).isEqualTo(1);
+    assertThat(registry.get(TOKEN_PARSE).tags("tenant", "unknown", "outcome", "invalid").timer().count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void jwksLoadListener_positive() {
+    var listener = securityMetrics.jwksLoadListener();
+    listener.onJwksLoad("http://keycloak/realms/test", Duration.ofMillis(10).toNanos(), null);
+    listener.onJwksLoad("http://keycloak/realms/test", 0, new IllegalStateException("error"));
+
+    var success = registry.get(JWKS_FETCH).tags("tenant", "test", "outcome", "success").timer();
+    assertThat(success.totalTime(MILLISECONDS)).isEqualTo(10);
+    assertThat(registry.get(JWKS_FETCH).tags("tenant", "test", "outcome", "failure").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void recordRemoteAuthorization_positive_outcomes() {
+    var forbidden = HttpClientErrorException.create(HttpStatus.FORBIDDEN, "Forbidden", null, null, null);
+    var unauthorized = HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null);
+
+    securityMetrics.recordRemoteAuthorization(securityMetrics.startTimer(), "keycloak", "test", null);
+    securityMetrics.recordRemoteAuthorization(securityMetrics.startTimer(), "keycloak", "test", forbidden);
+    securityMetrics.recordRemoteAuthorization(securityMetrics.startTimer(), "keycloak", "test", unauthorized);
+    securityMetrics.recordRemoteAuthorization(securityMetrics.startTimer(), "keycloak", "test",
+      new AuthorizationUnavailableException("Circuit breaker is open"));
+    securityMetrics.recordRemoteAuthorization(securityMetrics.startTimer(), "authtoken", "test",
+      new IllegalStateException("error"));
+
+    assertThat(getRemoteAuthorizationCount("keycloak", "granted")).isEqualTo(1);
+    assertThat(getRemoteAuthorizationCount("keycloak", "denied")).isEqualTo(1);
+    assertThat(getRemoteAuthorizationCount("keycloak", "unauthorized")).isEqualTo(1);
+    assertThat(getRemoteAuthorizationCount("keycloak", "rejected")).isEqualTo(1);
+    assertThat(getRemoteAuthorizationCount("authtoken", "error")).isEqualTo(1);
+  }
+
+  @Test
+  void recordRoutingLookup_positive_unverifiedTenant() {
+    securityMetrics.recordRoutingLookup(securityMetrics.startTimer(), "test", true);
+
+    assertThat(registry.get(ROUTING_LOOKUP).tags("tenant", "unknown", "outcome", "found").timer().count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void recordError_positive() {
+    securityMetrics.recordTokenParse(securityMetrics.startTimer(), "test", true);
+    securityMetrics.recordError("test", 403, "authorization_error");
+    securityMetrics.recordError("test", 403, "authorization_error");
+
+    var counter = registry.get(ERRORS).tags("tenant", "test", "category", "authorization_error", "status", "403");
+    assertThat(counter.counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void getTenantTag_positive_cardinalityLimited() {
+    properties.setMaxTenants(2);
+
+    assertThat(securityMetrics.getTenantTag("tenant1", true)).isEqualTo("tenant1");
+    assertThat(securityMetrics.getTenantTag("tenant2", true)).isEqualTo("tenant2");
+    assertThat(securityMetrics.getTenantTag("tenant3", true)).isEqualTo("other");
+    assertThat(securityMetrics.getTenantTag("tenant1", true)).isEqualTo("tenant1");
+  }
+
+  @Test
+  void getTenantTag_positive_unverifiedTenantsDoNotClaimTags() {
+    properties.setMaxTenants(1);
+
+    assertThat(securityMetrics.getTenantTag("spoofed", false)).isEqualTo("unknown");
+    assertThat(securityMetrics.getTenantTag("tenant1", true)).isEqualTo("tenant1");
+    assertThat(securityMetrics.getTenantTag("tenant1", false)).isEqualTo("tenant1");
+  }
+
+  @Test
+  void getTenantTag_positive_malformedValues() {
+    assertThat(securityMetrics.getTenantTag(null, true)).isEqualTo("unknown");
+    assertThat(securityMetrics.getTenantTag("", true)).isEqualTo("unknown");
+    assertThat(securityMetrics.getTenantTag("tenant with spaces", true)).isEqualTo("unknown");
+    assertThat(securityMetrics.getTenantTag("a".repeat(64), true)).isEqualTo("unknown");
+  }
+
+  @Test
+  void recordError_positive_tenantTagDisabled() {
+    properties.setTenantTagEnabled(false);
+
+    securityMetrics.recordError("test", 404, "route_not_found_error");
+
+    var counter = registry.get(ERRORS).counter();
+    assertThat(counter.getId().getTag("tenant")).isNull();
+    assertThat(counter.getId().getTag("status")).isEqualTo("404");
+  }
+
+  private long getRemoteAuthorizationCount(String backend, String outcome) {
+    return registry.get(REMOTE_AUTHORIZATION).tags("backend", backend, "outcome", outcome).timer().count();
+  }
+}
@@ -0,0 +1,166 @@
+package org.folio.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.folio.security.exception.AuthorizationUnavailableException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+  private final AtomicInteger callCounter = new AtomicInteger();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final List<Thread> callerThreads = new ArrayList<>();
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+      var thread = new Thread(runnable);
+      callerThreads.add(thread);
+      return thread;
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void execute_positive_sequentialCallsAreNotCoalesced() {
+    var first = singleFlight.execute("key", () -> "result-" + callCounter.incrementAndGet());
+    var second = singleFlight.execute("key", () -> "result-" + callCounter.incrementAndGet());
+
+    assertThat(first).isEqualTo("result-1");
+    assertThat(second).isEqualTo("result-2");
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void execute_positive_concurrentCallsShareResult() throws Exception {
+    var futures = submitCallers("key", () -> {
+      awaitRelease();
+      return "result-" + callCounter.incrementAndGet();
+    });
+
+    awaitAllCallersBlocked();
+    release.countDown();
+
+    for (var future : futures) {
+      assertThat(future.get()).isEqualTo("result-1");
+    }
+    assertThat(callCounter.get()).isEqualTo(1);
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void execute_negative_failureIsPropagatedToAllWaiters() throws Exception {
+    var exception = new IllegalStateException("call failed");
+    var futures = submitCallers("key", () -> {
+      awaitRelease();
+      callCounter.incrementAndGet();
+      throw exception;
+    });
+
+    awaitAllCallersBlocked();
+    release.countDown();
+
+    for (var future : futures) {
+      assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCause(exception);
+    }
+    assertThat(callCounter.get()).isEqualTo(1);
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void execute_negative_interruptedWaiterStopsWaiting() throws Exception {
+    var leader = executor.submit(() -> singleFlight.execute("key", () -> {
+      awaitRelease();
+      return "result-" + callCounter.incrementAndGet();
+    }));
+    while (singleFlight.getInFlightCount() == 0) {
+      Thread.sleep(5);
+    }
+
+    var waiterError = new AtomicReference<Throwable>();
+    var waiterInterrupted = new AtomicBoolean();
+    var waiter = new Thread(() -> {
+      try {
+        singleFlight.execute("key", () -> "unexpected");
+      } catch (RuntimeException e) {
+        waiterError.set(e);
+        waiterInterrupted.set(Thread.currentThread().isInterrupted());
+      }
+    });
+    waiter.start();
+    while (waiter.getState() != Thread.State.WAITING) {
+      Thread.sleep(5);
+    }
+
+    waiter.interrupt();
+    waiter.join(5_000);
+
+    assertThat(waiterError.get()).isInstanceOf(AuthorizationUnavailableException.class)
+      .hasMessage("Interrupted while waiting for authorization call in flight");
+    assertThat(waiterInterrupted).isTrue();
+    release.countDown();
+    assertThat(leader.get()).isEqualTo("result-1");
+  }
+
+  @Test
+  void execute_positive_differentKeysAreNotCoalesced() {
+    var first = singleFlight.execute("key1", () -> singleFlight.execute("key2", () -> "nested"));
+
+    assertThat(first).isEqualTo("nested");
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  private List<Future<String>> submitCallers(String key, Supplier<String> call) {
+    var futures = new ArrayList<Future<String>>();
+    for (var i = 0; i < CALLERS; i++) {
+      futures.add(executor.submit(() -> singleFlight.execute(key, call)));
+    }
+    return futures;
+  }
+
+  /**
+   * Waits until the leader is blocked in the call and all other callers are blocked waiting for its result.
+   */
+  private void awaitAllCallersBlocked() throws InterruptedException {
+    while (callerThreads.size() < CALLERS || !callerThreads.stream().allMatch(SingleFlightTest::isWaiting)) {
+      Thread.sleep(5);
+    }
+  }
+
+  private static boolean isWaiting(Thread thread) {
+    return thread.getState() == Thread.State.WAITING;
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package org.folio.common.configuration.properties;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings of the shared JDK HTTP client used by HTTP Service Clients.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@ConfigurationProperties
+public class HttpClientProperties {
+
+  /**
+   * Timeout to establish a connection.
+   */
+  private Duration connectTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Timeout to receive response headers, {@code null} or zero to wait indefinitely.
+   */
+  private Duration readTimeout = Duration.ofSeconds(60);
+
+  /**
+   * Negotiates HTTP/2 (ALPN for TLS, {@code h2c} upgrade for plain connections), falls back to HTTP/1.1.
+   */
+  private boolean http2Enabled;
+
+  /**
+   * Maximum number of concurrent requests per route (scheme, host and port), {@code 0} for no limit.
+   */
+  private int maxConnectionsPerRoute;
+}
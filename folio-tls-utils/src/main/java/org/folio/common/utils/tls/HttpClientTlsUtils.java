@@ -1,13 +1,19 @@
 package org.folio.common.utils.tls;
 
 import static org.folio.common.utils.tls.Utils.buildSslContext;
+import static org.folio.common.utils.tls.Utils.sha256;
 
 import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.experimental.UtilityClass;
+import org.folio.common.configuration.properties.HttpClientProperties;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -19,10 +25,15 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
  * with custom TLS/SSL configuration. It replaces the Feign-based approach with
  * Spring's native HTTP Service Clients introduced in Spring Framework 6.1.</p>
  *
+ * <p>All clients are backed by JDK {@link HttpClient} instances, shared between clients with the same TLS and
+ * connection settings, so connections are pooled and kept alive across clients. The idle keep-alive timeout of
+ * pooled connections is controlled by the {@code jdk.httpclient.keepalive.timeout} system property.</p>
  */
 @UtilityClass
 public class HttpClientTlsUtils {
 
+  private static final Map<HttpClientKey, HttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
   /**
    * Build HTTP Service Client with TLS support.
    *
@@ -60,11 +71,32 @@ public class HttpClientTlsUtils {
       TlsProperties tls,
       String baseUrl,
       Class<T> clientClass) {
+    return buildHttpServiceClient(restClientBuilder, tls, new HttpClientProperties(), baseUrl, clientClass);
+  }
 
-    // Build RestClient with appropriate request factory based on TLS configuration
+  /**
+   * Build HTTP Service Client with TLS support and custom connection settings.
+   *
+   * @param restClientBuilder Spring's RestClient.Builder
+   * @param tls TLS configuration properties (optional, can be null for no custom TLS)
+   * @param httpClient HTTP client connection properties (optional, can be null for defaults)
+   * @param baseUrl Base URL for the HTTP client
+   * @param clientClass Interface class annotated with @HttpExchange
+   * @param <T> Type of the client interface
+   * @return HTTP Service Client implementation of the interface
+   * @throws org.folio.common.utils.exception.SslInitializationException if TLS configuration fails
+   */
+  public static <T> T buildHttpServiceClient(
+      RestClient.Builder restClientBuilder,
+      TlsProperties tls,
+      HttpClientProperties httpClient,
+      String baseUrl,
+      Class<T> clientClass) {
+
+    // Build RestClient with a request factory backed by the shared HTTP client
     var restClient = restClientBuilder
         .baseUrl(baseUrl)
-        .requestFactory(getRequestFactory(tls))
+        .requestFactory(getRequestFactory(tls, httpClient))
         .build();
 
     // Create HTTP Service Client proxy from interface
@@ -75,11 +107,64 @@ public class HttpClientTlsUtils {
   }
 
   static ClientHttpRequestFactory getRequestFactory(TlsProperties tls) {
-    if (tls != null && tls.isEnabled()) {
-      var httpClientBuilder = HttpClient.newBuilder();
+    return getRequestFactory(tls, new HttpClientProperties());
+  }
+
+  static ClientHttpRequestFactory getRequestFactory(TlsProperties tls, HttpClientProperties httpClient) {
+    var properties = httpClient != null ? httpClient : new HttpClientProperties();
+    var requestFactory = new JdkClientHttpRequestFactory(getHttpClient(tls, properties));
+    if (isPositive(properties.getReadTimeout())) {
+      requestFactory.setReadTimeout(properties.getReadTimeout());
+    }
+
+    if (properties.getMaxConnectionsPerRoute() > 0) {
+      var limiter = new RouteConcurrencyLimiter(properties.getMaxConnectionsPerRoute(), properties.getReadTimeout());
+      return new InterceptingClientHttpRequestFactory(requestFactory, List.of(limiter));
+    }
+
+    return requestFactory;
+  }
+
+  static HttpClient getHttpClient(TlsProperties tls, HttpClientProperties httpClient) {
+    var key = HttpClientKey.of(tls, httpClient);
+    return HTTP_CLIENTS.computeIfAbsent(key, k -> createHttpClient(tls, httpClient));
+  }
+
+  private static HttpClient createHttpClient(TlsProperties tls, HttpClientProperties httpClient) {
+    var httpClientBuilder = HttpClient.newBuilder()
+      .version(httpClient.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+    if (isPositive(httpClient.getConnectTimeout())) {
+      httpClientBuilder.connectTimeout(httpClient.getConnectTimeout());
+    }
+
+    if (isTlsEnabled(tls)) {
       httpClientBuilder.sslContext(buildSslContext(tls));
-      return new JdkClientHttpRequestFactory(httpClientBuilder.build());
     }
-    return new SimpleClientHttpRequestFactory();
+
+    return httpClientBuilder.build();
+  }
+
+  private static boolean isTlsEnabled(TlsProperties tls) {
+    return tls != null && tls.isEnabled();
+  }
+
+  private static boolean isPositive(Duration duration) {
+    return duration != null && duration.isPositive();
+  }
+
+  /**
+   * Shared client key, the truststore password is kept as a digest, like in {@link SslContextRegistry}.
+   */
+  private record HttpClientKey(boolean tlsEnabled, String trustStorePath, String trustStoreType,
+    String trustStorePasswordDigest, Duration connectTimeout, boolean http2Enabled) {
+
+    static HttpClientKey of(TlsProperties tls, HttpClientProperties httpClient) {
+      var tlsEnabled = isTlsEnabled(tls);
+      return new HttpClientKey(tlsEnabled,
+        tlsEnabled ? tls.getTrustStorePath() : null,
+        tlsEnabled ? tls.getTrustStoreType() : null,
+        tlsEnabled ? sha256(tls.getTrustStorePassword()) : null,
+        httpClient.getConnectTimeout(), httpClient.isHttp2Enabled());
+    }
   }
 }
@@ -0,0 +1,112 @@
+package org.folio.common.utils.tls;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Limits the number of concurrent requests per route (scheme, host and port).
+ *
+ * <p>A permit is held until the response is closed, so a request waits while the limit of in-flight exchanges
+ * to the same route is reached. The wait is bounded by the acquire timeout (the client read timeout), a request that
+ * does not get a permit in time fails with {@link IOException}.</p>
+ */
+@RequiredArgsConstructor
+class RouteConcurrencyLimiter implements ClientHttpRequestInterceptor {
+
+  private final int maxConcurrentRequests;
+  private final Duration acquireTimeout;
+  private final Map<String, Semaphore> routes = new ConcurrentHashMap<>();
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+    throws IOException {
+    var permits = routes.computeIfAbsent(getRoute(request.getURI()), route -> new Semaphore(maxConcurrentRequests));
+    try {
+      if (!acquire(permits)) {
+        throw new IOException("Timed out waiting for a connection to: " + request.getURI());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a connection to: " + request.getURI());
+    }
+
+    try {
+      return new PermitReleasingResponse(execution.execute(request, body), permits);
+    } catch (IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private boolean acquire(Semaphore permits) throws InterruptedException {
+    if (acquireTimeout == null || !acquireTimeout.isPositive()) {
+      permits.acquire();
+      return true;
+    }
+
+    return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  int getAvailablePermits(URI uri) {
+    var permits = routes.get(getRoute(uri));
+    return permits != null ? permits.availablePermits() : maxConcurrentRequests;
+  }
+
+  private static String getRoute(URI uri) {
+    return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+  }
+
+  @RequiredArgsConstructor
+  private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final Semaphore permits;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          permits.release();
+        }
+      }
+    }
+  }
+}
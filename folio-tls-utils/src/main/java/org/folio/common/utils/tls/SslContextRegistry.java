@@ -0,0 +1,197 @@
+package org.folio.common.utils.tls;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.common.utils.tls.Utils.sha256;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.X509ExtendedTrustManager;
+import lombok.extern.log4j.Log4j2;
+import org.folio.common.configuration.properties.TlsProperties;
+import org.folio.common.utils.exception.SslInitializationException;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Registry of {@link SSLContext} instances shared by truststore path, type and password digest.
+ *
+ * <p>A truststore is parsed once per key and all clients get the same context, so TLS sessions are resumed across
+ * clients. Truststore files are checked for modification in the background (every
+ * {@value #CHECK_INTERVAL_PROPERTY} seconds, {@code 60} by default, {@code 0} disables the check) and trusted
+ * certificates are swapped atomically in the existing contexts. Cached client sessions are invalidated on rotation,
+ * so removed certificates are not trusted by resumed sessions. A truststore that fails to load keeps the previous
+ * certificates and is retried on the next check.</p>
+ */
+@Log4j2
+public final class SslContextRegistry {
+
+  public static final String CHECK_INTERVAL_PROPERTY = "folio.tls.truststore.check-interval";
+
+  private static final SslContextRegistry INSTANCE = new SslContextRegistry(getCheckInterval());
+
+  private final Map<SslContextKey, SslContextEntry> contexts = new ConcurrentHashMap<>();
+  private final Duration checkInterval;
+  private ScheduledExecutorService checkExecutor;
+
+  SslContextRegistry(Duration checkInterval) {
+    this.checkInterval = checkInterval;
+  }
+
+  /**
+   * Provides the shared registry.
+   *
+   * @return {@link SslContextRegistry} instance
+   */
+  public static SslContextRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Provides the shared SSLContext for the truststore of the given TLS properties, creating it on first use.
+   *
+   * @param tls TLS configuration properties
+   * @return shared SSLContext
+   * @throws SslInitializationException if SSL context cannot be created
+   */
+  public SSLContext getSslContext(TlsProperties tls) {
+    var key = SslContextKey.of(tls);
+    var entry = contexts.get(key);
+    if (entry == null) {
+      entry = contexts.computeIfAbsent(key, k -> createEntry(tls));
+      startChecks();
+    }
+
+    return entry.sslContext();
+  }
+
+  /**
+   * Reloads trusted certificates of all registered truststores whose files have changed since the last load.
+   */
+  public void checkForUpdates() {
+    for (var entry : contexts.values()) {
+      try {
+        entry.reloadIfModified();
+      } catch (Exception e) {
+        log.warn("Failed to reload truststore, previous certificates are kept: file = {}", entry.file(), e);
+      }
+    }
+  }
+
+  int size() {
+    return contexts.size();
+  }
+
+  X509ExtendedTrustManager getTrustManager(TlsProperties tls) {
+    var entry = contexts.get(SslContextKey.of(tls));
+    return entry != null ? entry.trustManager : null;
+  }
+
+  private synchronized void startChecks() {
+    if (checkExecutor != null || !checkInterval.isPositive()) {
+      return;
+    }
+
+    checkExecutor = Executors.newSingleThreadScheduledExecutor(SslContextRegistry::createCheckThread);
+    var intervalMillis = checkInterval.toMillis();
+    checkExecutor.scheduleWithFixedDelay(this::checkForUpdates, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    log.debug("Truststore modification check started: interval = {}", checkInterval);
+  }
+
+  private static SslContextEntry createEntry(TlsProperties tls) {
+    try {
+      return new SslContextEntry(tls);
+    } catch (Exception e) {
+      log.error("Error creating SSL context", e);
+      throw new SslInitializationException("Error creating SSL context", e);
+    }
+  }
+
+  private static Duration getCheckInterval() {
+    var value = System.getProperty(CHECK_INTERVAL_PROPERTY);
+    try {
+      return isBlank(value) ? Duration.ofSeconds(60) : Duration.ofSeconds(Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      log.warn("Invalid truststore check interval, default is used: {} = {}", CHECK_INTERVAL_PROPERTY, value);
+      return Duration.ofSeconds(60);
+    }
+  }
+
+  private static Thread createCheckThread(Runnable runnable) {
+    var thread = new Thread(runnable, "truststore-check");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private record SslContextKey(String path, String type, String passwordDigest) {
+
+    static SslContextKey of(TlsProperties tls) {
+      var type = isBlank(tls.getTrustStoreType()) ? KeyStore.getDefaultType() : tls.getTrustStoreType();
+      return new SslContextKey(tls.getTrustStorePath(), type, sha256(tls.getTrustStorePassword()));
+    }
+  }
+
+  private static final class SslContextEntry {
+
+    private final TlsProperties tls;
+    private final File file;
+    private final ReloadableTrustManager trustManager;
+    private final SSLContext sslContext;
+    private volatile FileState loadedState;
+
+    SslContextEntry(TlsProperties tls) throws Exception {
+      this.tls = TlsProperties.of(true, tls.getTrustStorePath(), tls.getTrustStorePassword(), tls.getTrustStoreType());
+      this.file = ResourceUtils.getFile(tls.getTrustStorePath());
+      this.trustManager = new ReloadableTrustManager(Utils.loadTrustManager(tls));
+      this.sslContext = Utils.sslContext(trustManager);
+      this.loadedState = FileState.of(file);
+    }
+
+    SSLContext sslContext() {
+      return sslContext;
+    }
+
+    File file() {
+      return file;
+    }
+
+    synchronized void reloadIfModified() throws Exception {
+      var currentState = FileState.of(file);
+      if (currentState.equals(loadedState)) {
+        return;
+      }
+
+      trustManager.setDelegate(Utils.loadTrustManager(tls));
+      loadedState = currentState;
+      invalidateSessions();
+      log.info("Truststore reloaded: file = {}", file);
+    }
+
+    private void invalidateSessions() {
+      var sessionContext = sslContext.getClientSessionContext();
+      for (var sessionId : Collections.list(sessionContext.getIds())) {
+        var session = sessionContext.getSession(sessionId);
+        if (session != null) {
+          session.invalidate();
+        }
+      }
+    }
+  }
+
+  private record FileState(long lastModified, long size) {
+
+    static FileState of(File file) throws IOException {
+      var attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+      return new FileState(attributes.lastModifiedTime().toMillis(), attributes.size());
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.common.utils.tls;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.SystemProperties.getJdkInternalHttpClientDisableHostNameVerification;
 
@@ -8,13 +9,16 @@ import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.Objects;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
 import javax.net.ssl.X509TrustManager;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
@@ -38,7 +42,11 @@ public class Utils {
   }
 
   /**
-   * Builds an SSLContext from the provided TLS properties.
+   * Provides an SSLContext for the provided TLS properties.
+   *
+   * <p>Contexts are shared by truststore path, type and password through {@link SslContextRegistry}, so the
+   * truststore is parsed once and TLS sessions are reused across clients. Trusted certificates are reloaded when
+   * the truststore file changes.</p>
    *
    * @param tls TLS configuration properties
    * @return configured SSLContext
@@ -47,14 +55,18 @@ public class Utils {
   public static SSLContext buildSslContext(TlsProperties tls) {
     Objects.requireNonNull(tls, "TLS properties must not be null");
     Objects.requireNonNull(tls.getTrustStorePath(), "Trust store path is not defined");
-    try {
-      var keyStore = initKeyStore(tls);
-      var trustManager = trustManager(keyStore);
-      return sslContext(trustManager);
-    } catch (Exception e) {
-      log.error("Error creating SSL context", e);
-      throw new SslInitializationException("Error creating SSL context", e);
-    }
+    return SslContextRegistry.getInstance().getSslContext(tls);
+  }
+
+  /**
+   * Loads an X509ExtendedTrustManager from the truststore defined by the provided TLS properties.
+   *
+   * @param tls TLS configuration properties
+   * @return trust manager for the truststore certificates
+   * @throws Exception if the truststore cannot be loaded
+   */
+  static X509ExtendedTrustManager loadTrustManager(TlsProperties tls) throws Exception {
+    return trustManager(initKeyStore(tls));
   }
 
   /**
@@ -80,22 +92,23 @@ public class Utils {
   }
 
   /**
-   * Creates an X509TrustManager from the provided KeyStore.
+   * Creates an X509ExtendedTrustManager from the provided KeyStore.
    *
    * @param keyStore the keystore containing trusted certificates
-   * @return configured X509TrustManager
+   * @return configured X509ExtendedTrustManager
    * @throws NoSuchAlgorithmException if algorithm is not supported
    * @throws KeyStoreException if keystore cannot be accessed
    */
-  private static X509TrustManager trustManager(KeyStore keyStore) throws NoSuchAlgorithmException, KeyStoreException {
+  private static X509ExtendedTrustManager trustManager(KeyStore keyStore)
+    throws NoSuchAlgorithmException, KeyStoreException {
     TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
     tmf.init(keyStore);
 
     TrustManager[] trustManagers = tmf.getTrustManagers();
-    if (trustManagers.length != 1 || !(trustManagers[0] instanceof X509TrustManager)) {
+    if (trustManagers.length != 1 || !(trustManagers[0] instanceof X509ExtendedTrustManager trustManager)) {
       throw new IllegalStateException("Unexpected default trust managers: " + Arrays.toString(trustManagers));
     }
-    return (X509TrustManager) trustManagers[0];
+    return trustManager;
   }
 
   /**
@@ -106,7 +119,7 @@ public class Utils {
    * @throws NoSuchAlgorithmException if algorithm is not supported
    * @throws KeyManagementException if key management fails
    */
-  private static SSLContext sslContext(X509TrustManager trustManager)
+  static SSLContext sslContext(X509TrustManager trustManager)
     throws NoSuchAlgorithmException, KeyManagementException {
 
     var sslContext = SSLContext.getInstance("TLS");
@@ -114,4 +127,18 @@ public class Utils {
     log.debug("SSL context initialized: protocol = {}", sslContext.getProtocol());
     return sslContext;
   }
+
+  /**
+   * Provides a SHA-256 digest of the value, used to key shared TLS objects by a secret without keeping it in memory.
+   *
+   * @param value value to digest
+   * @return hex-encoded SHA-256 digest
+   */
+  static String sha256(String value) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
 }
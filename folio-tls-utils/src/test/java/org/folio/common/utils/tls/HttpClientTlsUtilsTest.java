@@ -2,15 +2,20 @@ package org.folio.common.utils.tls;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.common.utils.tls.HttpClientTlsUtils.buildHttpServiceClient;
+import static org.folio.common.utils.tls.HttpClientTlsUtils.getHttpClient;
 import static org.folio.common.utils.tls.HttpClientTlsUtils.getRequestFactory;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import org.folio.common.configuration.properties.HttpClientProperties;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.folio.common.utils.exception.SslInitializationException;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.service.annotation.GetExchange;
@@ -74,14 +79,44 @@ class HttpClientTlsUtilsTest {
   void getRequestFactory_positive_tlsNull() {
     var factory = getRequestFactory(null);
 
-    assertThat(factory).isInstanceOf(SimpleClientHttpRequestFactory.class);
+    assertThat(factory).isInstanceOf(JdkClientHttpRequestFactory.class);
   }
 
   @Test
   void getRequestFactory_positive_tlsDisabled() {
     var factory = getRequestFactory(TlsProperties.of(false, null, null, null));
 
-    assertThat(factory).isInstanceOf(SimpleClientHttpRequestFactory.class);
+    assertThat(factory).isInstanceOf(JdkClientHttpRequestFactory.class);
+  }
+
+  @Test
+  void getRequestFactory_positive_maxConnectionsPerRoute() {
+    var httpClient = HttpClientProperties.of(Duration.ofSeconds(5), Duration.ofSeconds(10), false, 10);
+
+    var factory = getRequestFactory(null, httpClient);
+
+    assertThat(factory).isInstanceOf(InterceptingClientHttpRequestFactory.class);
+  }
+
+  @Test
+  void getHttpClient_positive_sharedForSameSettings() {
+    var first = getHttpClient(TlsProperties.of(false, null, null, null), new HttpClientProperties());
+    var second = getHttpClient(null, new HttpClientProperties());
+    var tlsClient = getHttpClient(getEnabledTlsProperties(), new HttpClientProperties());
+
+    assertThat(first).isSameAs(second).isNotSameAs(tlsClient);
+    assertThat(tlsClient).isSameAs(getHttpClient(getEnabledTlsProperties(), new HttpClientProperties()));
+  }
+
+  @Test
+  void getHttpClient_positive_connectionSettings() {
+    var httpClient = HttpClientProperties.of(Duration.ofSeconds(3), Duration.ofSeconds(10), true, 0);
+
+    var result = getHttpClient(null, httpClient);
+
+    assertThat(result.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(result.connectTimeout()).isEqualTo(Optional.of(Duration.ofSeconds(3)));
+    assertThat(result).isNotSameAs(getHttpClient(null, new HttpClientProperties()));
   }
 
   @Test
@@ -0,0 +1,117 @@
+package org.folio.common.utils.tls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RouteConcurrencyLimiterTest {
+
+  private static final URI ROUTE_URI = URI.create("http://kong:8001/routes/1");
+  private static final URI OTHER_URI = URI.create("http://keycloak:8080/realms");
+  private static final byte[] BODY = new byte[0];
+  private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+
+  @Mock private HttpRequest request;
+  @Mock private ClientHttpRequestExecution execution;
+  @Mock private ClientHttpResponse response;
+
+  private final RouteConcurrencyLimiter limiter = new RouteConcurrencyLimiter(2, ACQUIRE_TIMEOUT);
+
+  @Test
+  void intercept_positive_permitHeldUntilResponseClosed() throws IOException {
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    when(execution.execute(request, BODY)).thenReturn(response);
+
+    var result = limiter.intercept(request, BODY, execution);
+    assertThat(limiter.getAvailablePermits(ROUTE_URI)).isEqualTo(1);
+    assertThat(limiter.getAvailablePermits(OTHER_URI)).isEqualTo(2);
+
+    result.close();
+    result.close();
+    assertThat(limiter.getAvailablePermits(ROUTE_URI)).isEqualTo(2);
+    verify(response, times(2)).close();
+  }
+
+  @Test
+  void intercept_negative_permitReleasedOnError() throws IOException {
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+    assertThatThrownBy(() -> limiter.intercept(request, BODY, execution))
+      .isInstanceOf(IOException.class)
+      .hasMessage("Connection refused");
+    assertThat(limiter.getAvailablePermits(ROUTE_URI)).isEqualTo(2);
+  }
+
+  @Test
+  void intercept_positive_delegatesResponse() throws IOException {
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    when(execution.execute(request, BODY)).thenReturn(response);
+    when(response.getStatusText()).thenReturn("OK");
+
+    try (var result = limiter.intercept(request, BODY, execution)) {
+      assertThat(result.getStatusText()).isEqualTo("OK");
+    }
+  }
+
+  @Test
+  void intercept_negative_interrupted() {
+    var singlePermitLimiter = new RouteConcurrencyLimiter(1, ACQUIRE_TIMEOUT);
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    var unused = mock(ClientHttpResponse.class);
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> singlePermitLimiter.intercept(request, BODY, (r, b) -> unused))
+        .isInstanceOf(InterruptedIOException.class);
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  void intercept_negative_acquireTimeout() throws IOException {
+    var singlePermitLimiter = new RouteConcurrencyLimiter(1, Duration.ofMillis(50));
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    when(execution.execute(request, BODY)).thenReturn(response);
+
+    try (var ignored = singlePermitLimiter.intercept(request, BODY, execution)) {
+      assertThatThrownBy(() -> singlePermitLimiter.intercept(request, BODY, execution))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Timed out waiting for a connection to: " + ROUTE_URI);
+    }
+
+    assertThat(singlePermitLimiter.getAvailablePermits(ROUTE_URI)).isEqualTo(1);
+    verify(execution).execute(request, BODY);
+  }
+
+  @Test
+  void intercept_positive_noAcquireTimeout() throws IOException {
+    var unboundedLimiter = new RouteConcurrencyLimiter(1, null);
+    when(request.getURI()).thenReturn(ROUTE_URI);
+    when(execution.execute(request, BODY)).thenReturn(response);
+
+    try (var ignored = unboundedLimiter.intercept(request, BODY, execution)) {
+      assertThat(unboundedLimiter.getAvailablePermits(ROUTE_URI)).isZero();
+    }
+  }
+}
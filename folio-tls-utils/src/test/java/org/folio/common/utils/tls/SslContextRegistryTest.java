@@ -0,0 +1,107 @@
+package org.folio.common.utils.tls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.time.Duration;
+import org.folio.common.configuration.properties.TlsProperties;
+import org.folio.common.utils.exception.SslInitializationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.ResourceUtils;
+
+@UnitTest
+class SslContextRegistryTest {
+
+  private static final String PASSWORD = "secretpassword";
+
+  @TempDir private Path tempDir;
+
+  private final SslContextRegistry registry = new SslContextRegistry(Duration.ZERO);
+  private Path trustStore;
+  private TlsProperties tls;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    trustStore = tempDir.resolve("test.truststore.jks");
+    Files.copy(ResourceUtils.getFile("classpath:certificates/test.truststore.jks").toPath(), trustStore);
+    tls = TlsProperties.of(true, trustStore.toString(), PASSWORD, "JKS");
+  }
+
+  @Test
+  void getSslContext_positive_sharedForSameTruststore() {
+    var sslContext = registry.getSslContext(tls);
+
+    assertThat(registry.getSslContext(TlsProperties.of(true, trustStore.toString(), PASSWORD, "JKS")))
+      .isSameAs(sslContext);
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  void getSslContext_negative_notCachedOnError() {
+    var invalidTls = TlsProperties.of(true, trustStore.toString(), "wrongpassword", "JKS");
+
+    assertThatThrownBy(() -> registry.getSslContext(invalidTls))
+      .isInstanceOf(SslInitializationException.class)
+      .hasMessage("Error creating SSL context");
+    assertThat(registry.size()).isZero();
+  }
+
+  @Test
+  void checkForUpdates_positive_truststoreRotated() throws Exception {
+    var sslContext = registry.getSslContext(tls);
+    assertThat(registry.getTrustManager(tls).getAcceptedIssuers()).isNotEmpty();
+
+    writeEmptyTrustStore();
+    registry.checkForUpdates();
+
+    assertThat(registry.getTrustManager(tls).getAcceptedIssuers()).isEmpty();
+    assertThat(registry.getSslContext(tls)).isSameAs(sslContext);
+  }
+
+  @Test
+  void checkForUpdates_positive_truststoreNotModified() {
+    registry.getSslContext(tls);
+    var issuers = registry.getTrustManager(tls).getAcceptedIssuers();
+
+    registry.checkForUpdates();
+
+    assertThat(registry.getTrustManager(tls).getAcceptedIssuers()).containsExactly(issuers);
+  }
+
+  @Test
+  void checkForUpdates_negative_invalidTruststoreKeepsCertificates() throws Exception {
+    registry.getSslContext(tls);
+
+    Files.writeString(trustStore, "invalid");
+    touch();
+    registry.checkForUpdates();
+    assertThat(registry.getTrustManager(tls).getAcceptedIssuers()).isNotEmpty();
+
+    writeEmptyTrustStore();
+    registry.checkForUpdates();
+    assertThat(registry.getTrustManager(tls).getAcceptedIssuers()).isEmpty();
+  }
+
+  private void writeEmptyTrustStore() throws Exception {
+    var keyStore = KeyStore.getInstance("JKS");
+    keyStore.load(null, null);
+    try (OutputStream out = Files.newOutputStream(trustStore)) {
+      keyStore.store(out, PASSWORD.toCharArray());
+    }
+    touch();
+  }
+
+  private void touch() throws IOException {
+    var lastModified = Files.getLastModifiedTime(trustStore).toInstant();
+    Files.setLastModifiedTime(trustStore, FileTime.from(lastModified.plusSeconds(10)));
+  }
+}